@@ -0,0 +1,374 @@
+package com.bookbook.booklink.board_service.cache;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import com.bookbook.booklink.board_service.model.dto.response.BoardHotRankProjection;
+import com.bookbook.booklink.board_service.repository.BoardRepository;
+import com.bookbook.booklink.common.counter.CounterService;
+import com.bookbook.booklink.common.counter.CounterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 게시글 인기 순위 (Redis sorted set)
+ *
+ * <p>점수는 반응 점수(좋아요 {@value #LIKE_POINTS}, 댓글 {@value #COMMENT_POINTS}, 조회 {@value #VIEW_POINTS})의
+ * log10 값에 작성 시각 항을 더해 계산합니다. 반응이 10배 많아야 {@code DECAY_SECONDS} 만큼 늦게 작성된 글과
+ * 같은 점수가 되므로, 오래된 글은 새 반응이 없으면 자연스럽게 밀려납니다.
+ * 작성 시각 항은 바뀌지 않으므로 반응이 생길 때 해당 게시글의 점수만 다시 계산하면 됩니다.</p>
+ *
+ * <p>전체 / 카테고리별로 하나씩 sorted set 을 두어 상위 N 개를 O(log n + N) 으로 조회하고,
+ * 커밋된 변경 이벤트로 점수를 갱신합니다. 기동 시 순위가 없으면 DB 에서 적재하고,
+ * 누락된 변경을 보정하기 위해 주기적으로 전체를 다시 적재합니다.</p>
+ *
+ * <p>다시 적재하는 동안 들어온 변경은 사용 중인 순위에 반영하는 동시에 별도 해시에 모아 두었다가,
+ * 새 순위로 교체하는 스크립트 안에서 새 순위에도 더한 뒤 교체하므로 교체 시 사라지지 않습니다.
+ * 적재 락 값은 실행마다 만든 토큰이며, 락이 만료되어 다른 인스턴스가 적재를 시작했으면 교체하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardHotRanking {
+
+    public static final long LIKE_POINTS = 10;
+    public static final long COMMENT_POINTS = 5;
+    public static final long VIEW_POINTS = 1;
+
+    private static final double DECAY_SECONDS = 45_000d;
+
+    private static final String KEY_PREFIX = "board:hot:";
+    private static final String ALL_KEY = KEY_PREFIX + "all";
+    private static final String WEIGHT_KEY = KEY_PREFIX + "weight";
+    private static final String LOADED_KEY = KEY_PREFIX + "loaded";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+    // 적재 중에 들어온 반응 점수 증감 (게시글 ID → 증감량), 점수 계산 정보 (게시글 ID → "카테고리 위치|작성 시각 항"), 삭제된 게시글
+    private static final String JOURNAL_KEY = KEY_PREFIX + "rebuild-journal";
+    private static final String JOURNAL_META_KEY = KEY_PREFIX + "rebuild-journal-meta";
+    private static final String JOURNAL_REMOVED_KEY = KEY_PREFIX + "rebuild-removed";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    private static final int PENDING_CHUNK_SIZE = 1000;
+
+    // 반응 점수 증감과 순위 갱신을 원자적으로 처리 (적재 중이면 증감을 기록, 순위가 적재되지 않았으면 순위는 갱신하지 않음)
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                redis.call('HINCRBY', KEYS[6], ARGV[1], ARGV[2])
+                redis.call('HSET', KEYS[7], ARGV[1], ARGV[4] .. '|' .. ARGV[3])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local weight = redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            if weight < 1 then
+                weight = 1
+            end
+            local score = math.log10(weight) + tonumber(ARGV[3])
+            redis.call('ZADD', KEYS[3], score, ARGV[1])
+            redis.call('ZADD', KEYS[4], score, ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 순위에서 게시글 제거 (적재 중이면 삭제를 기록)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                redis.call('HDEL', KEYS[5], ARGV[1])
+                redis.call('HDEL', KEYS[6], ARGV[1])
+                redis.call('SADD', KEYS[7], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 적재 락을 잡고 이전 적재가 남긴 기록을 비움
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰이 같을 때만 적재 중에 기록된 변경을 새 순위에 더하고 사용 중인 순위와 교체
+    // KEYS: 락, 증감 기록, 점수 계산 정보, 삭제 기록, 적재 완료 표시, 이후 (사용 중인 키, 새 키) 쌍 — 가중치, 전체, 카테고리 순
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            local count = (#KEYS - 5) / 2
+            local function live(i) return KEYS[6 + 2 * i] end
+            local function fresh(i) return KEYS[7 + 2 * i] end
+
+            local journal = redis.call('HGETALL', KEYS[2])
+            for j = 1, #journal, 2 do
+                local member = journal[j]
+                local meta = redis.call('HGET', KEYS[3], member)
+                if meta then
+                    local sep = string.find(meta, '|', 1, true)
+                    local category = tonumber(string.sub(meta, 1, sep - 1))
+                    local weight = redis.call('HINCRBY', fresh(0), member, journal[j + 1])
+                    if weight < 1 then
+                        weight = 1
+                    end
+                    local score = math.log10(weight) + tonumber(string.sub(meta, sep + 1))
+                    redis.call('ZADD', fresh(1), score, member)
+                    redis.call('ZADD', fresh(category), score, member)
+                end
+            end
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do
+                redis.call('HDEL', fresh(0), member)
+                for i = 1, count - 1 do
+                    redis.call('ZREM', fresh(i), member)
+                end
+            end
+
+            for i = 0, count - 1 do
+                if redis.call('EXISTS', fresh(i)) == 1 then
+                    redis.call('RENAME', fresh(i), live(i))
+                else
+                    redis.call('DEL', live(i))
+                end
+            end
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+            redis.call('SET', KEYS[5], '1')
+            return 1
+            """, Long.class);
+
+    // 토큰이 같을 때만 TTL 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰이 같을 때만 해제 (만료 후 다른 인스턴스가 잡은 락은 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoardRepository boardRepository;
+    private final CounterService counterService;
+
+    public boolean isLoaded() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOADED_KEY));
+    }
+
+    /**
+     * 인기순 게시글을 offset 번째부터 count 개 반환합니다.
+     *
+     * @param category 카테고리 (null 이면 전체)
+     * @return 순위가 적재되지 않았으면 empty
+     */
+    public Optional<RankedPage> page(BoardCategory category, long offset, int count) {
+        if (!isLoaded()) {
+            return Optional.empty();
+        }
+
+        String key = key(category);
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + count - 1);
+        Long total = redisTemplate.opsForZSet().zCard(key);
+
+        List<RankedBoard> boards = new ArrayList<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> boards.add(new RankedBoard(UUID.fromString(tuple.getValue()), tuple.getScore())));
+        }
+        return Optional.of(new RankedPage(boards, total == null ? 0 : total));
+    }
+
+    /**
+     * 커서(마지막으로 받은 게시글의 점수와 ID) 다음 순위부터 count 개 반환합니다.
+     * 마지막 게시글이 순위에서 빠졌으면 점수로 위치를 찾습니다.
+     *
+     * @param category    카테고리 (null 이면 전체)
+     * @param cursorScore 마지막 게시글의 점수 (첫 페이지는 null)
+     * @param cursorId    마지막 게시글 ID (첫 페이지는 null)
+     * @return 순위가 적재되지 않았으면 empty
+     */
+    public Optional<RankedPage> pageAfter(BoardCategory category, Double cursorScore, UUID cursorId, int count) {
+        if (cursorId == null || cursorScore == null) {
+            return page(category, 0, count);
+        }
+
+        String key = key(category);
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, cursorId.toString());
+        if (rank == null) {
+            Long higher = redisTemplate.opsForZSet().count(key, Math.nextUp(cursorScore), Double.POSITIVE_INFINITY);
+            rank = (higher == null ? 0 : higher) - 1;
+        }
+        return page(category, rank + 1, count);
+    }
+
+    /**
+     * 커밋된 변경을 순위에 반영합니다.
+     * 실패한 변경은 다음 전체 적재 때 보정됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHotScoreChanged(BoardHotScoreEvent event) {
+        String member = event.getBoardId().toString();
+        try {
+            if (event.isRemoved()) {
+                redisTemplate.execute(REMOVE_SCRIPT,
+                        List.of(ALL_KEY, key(event.getCategory()), WEIGHT_KEY,
+                                REBUILD_LOCK_KEY, JOURNAL_KEY, JOURNAL_META_KEY, JOURNAL_REMOVED_KEY),
+                        member);
+                return;
+            }
+            redisTemplate.execute(UPDATE_SCRIPT,
+                    List.of(LOADED_KEY, WEIGHT_KEY, ALL_KEY, key(event.getCategory()),
+                            REBUILD_LOCK_KEY, JOURNAL_KEY, JOURNAL_META_KEY),
+                    member, String.valueOf(event.getDelta()), String.valueOf(timeScore(event.getCreatedAt())),
+                    String.valueOf(rankingKeyIndex(event.getCategory())));
+        } catch (RuntimeException e) {
+            log.warn("[BoardHotRanking] update failed, boardId={}", member, e);
+        }
+    }
+
+    /**
+     * 기동 시 순위가 적재되어 있지 않으면 DB 에서 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIfMissing() {
+        if (!isLoaded()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 의 게시글 반응 수(아직 반영되지 않은 증감분 포함)로 순위를 새로 만들어 교체합니다.
+     * 여러 인스턴스가 동시에 적재하지 않도록 Redis 락을 잡으며, 락을 잡은 뒤 들어온 변경은 교체 시 새 순위에 더합니다.
+     */
+    @Scheduled(cron = "${board-hot.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(REBUILD_LOCK_KEY, JOURNAL_KEY, JOURNAL_META_KEY, JOURNAL_REMOVED_KEY),
+                token, String.valueOf(REBUILD_LOCK_TTL.toMillis()));
+        if (acquired == null || acquired != 1L) {
+            return;
+        }
+
+        try {
+            List<BoardHotRankProjection> boards = boardRepository.findAllForHotRanking();
+            Map<UUID, Long> pendingLikes = pendingDeltas(CounterType.BOARD_LIKE, boards);
+            Map<UUID, Long> pendingViews = pendingDeltas(CounterType.BOARD_VIEW, boards);
+
+            if (!renew(token)) {
+                log.warn("[BoardHotRanking] rebuild lock lost, skipping rebuild");
+                return;
+            }
+
+            List<String> keys = rankingKeys();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                keys.forEach(key -> conn.del(key + REBUILD_SUFFIX));
+
+                for (BoardHotRankProjection board : boards) {
+                    String member = board.getId().toString();
+                    long weight = CounterService.merge(board.getLikeCount(), pendingLikes.get(board.getId())) * LIKE_POINTS
+                            + (board.getCommentCount() == null ? 0 : board.getCommentCount()) * COMMENT_POINTS
+                            + CounterService.merge(board.getViewCount(), pendingViews.get(board.getId())) * VIEW_POINTS;
+                    double score = score(weight, board.getCreatedAt());
+
+                    conn.zAdd(ALL_KEY + REBUILD_SUFFIX, score, member);
+                    conn.zAdd(key(board.getCategory()) + REBUILD_SUFFIX, score, member);
+                    conn.hSet(WEIGHT_KEY + REBUILD_SUFFIX, member, String.valueOf(weight));
+                }
+                return null;
+            });
+
+            List<String> swapKeys = new ArrayList<>(
+                    List.of(REBUILD_LOCK_KEY, JOURNAL_KEY, JOURNAL_META_KEY, JOURNAL_REMOVED_KEY, LOADED_KEY));
+            keys.forEach(key -> {
+                swapKeys.add(key);
+                swapKeys.add(key + REBUILD_SUFFIX);
+            });
+            Long swapped = redisTemplate.execute(SWAP_SCRIPT, swapKeys, token);
+            if (swapped == null || swapped != 1L) {
+                log.warn("[BoardHotRanking] rebuild lock lost, rebuilt ranking discarded");
+                return;
+            }
+
+            log.info("[BoardHotRanking] rebuild success, boards={}", boards.size());
+        } catch (RuntimeException e) {
+            log.error("[BoardHotRanking] rebuild failed", e);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+        }
+    }
+
+    private boolean renew(String token) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(REBUILD_LOCK_KEY),
+                token, String.valueOf(REBUILD_LOCK_TTL.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    private Map<UUID, Long> pendingDeltas(CounterType type, List<BoardHotRankProjection> boards) {
+        Map<UUID, Long> result = new HashMap<>();
+        for (int from = 0; from < boards.size(); from += PENDING_CHUNK_SIZE) {
+            List<UUID> ids = boards.subList(from, Math.min(from + PENDING_CHUNK_SIZE, boards.size())).stream()
+                    .map(BoardHotRankProjection::getId)
+                    .toList();
+            result.putAll(counterService.pendingDeltas(type, ids));
+        }
+        return result;
+    }
+
+    private static double score(long weight, LocalDateTime createdAt) {
+        return Math.log10(Math.max(weight, 1)) + timeScore(createdAt);
+    }
+
+    private static double timeScore(LocalDateTime createdAt) {
+        // 등록 직후에는 작성 시각이 아직 채워지지 않았을 수 있음
+        LocalDateTime time = createdAt == null ? LocalDateTime.now() : createdAt;
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond() / DECAY_SECONDS;
+    }
+
+    private static String key(BoardCategory category) {
+        return category == null ? ALL_KEY : KEY_PREFIX + category.name().toLowerCase();
+    }
+
+    /**
+     * 적재 시 교체하는 키 목록 (가중치, 전체, 카테고리 순)
+     */
+    private static List<String> rankingKeys() {
+        List<String> keys = new ArrayList<>(List.of(WEIGHT_KEY, ALL_KEY));
+        Arrays.stream(BoardCategory.values()).forEach(category -> keys.add(key(category)));
+        return keys;
+    }
+
+    /**
+     * {@link #rankingKeys()} 에서 카테고리 순위 키의 위치
+     */
+    private static int rankingKeyIndex(BoardCategory category) {
+        return category == null ? 1 : 2 + category.ordinal();
+    }
+
+    public record RankedBoard(UUID id, double score) {
+    }
+
+    public record RankedPage(List<RankedBoard> boards, long total) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.bookbook.booklink.board_service.cache;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 인기 순위에 영향을 주는 변경(등록/삭제/좋아요/댓글/조회)이 있을 때 발행하는 이벤트
+ */
+@Getter
+@Builder
+public class BoardHotScoreEvent {
+    private UUID boardId;
+    private BoardCategory category;
+    private LocalDateTime createdAt;
+    // 반응 점수 증감량 (BoardHotRanking 의 *_POINTS 단위)
+    private long delta;
+    private boolean removed;
+}
@@ -3,14 +3,16 @@ package com.bookbook.booklink.board_service.controller;
 
 import com.bookbook.booklink.auth_service.model.Member;
 import com.bookbook.booklink.board_service.controller.docs.BoardApiDocs;
-import com.bookbook.booklink.board_service.model.BoardCategory;
 import com.bookbook.booklink.board_service.model.dto.request.BoardCreateDto;
-import com.bookbook.booklink.board_service.model.dto.request.BoardSort;
+import com.bookbook.booklink.board_service.model.dto.request.BoardCursorReqDto;
+import com.bookbook.booklink.board_service.model.dto.request.BoardSearchReqDto;
 import com.bookbook.booklink.board_service.model.dto.request.BoardUpdateDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardDetailDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardListDto;
 import com.bookbook.booklink.board_service.service.BoardService;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.CursorResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +21,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -85,15 +86,23 @@ public class BoardController implements BoardApiDocs {
     }
 
     @Override
-    public ResponseEntity<BaseResponse<List<BoardListDto>>> getBoards(
-            @RequestParam(required = false) String title,
-            @RequestParam(required = false) BoardCategory category,
-            @RequestParam(defaultValue = "LATEST") BoardSort sort
+    public ResponseEntity<BaseResponse<PageResponse<BoardListDto>>> getBoards(
+            @Valid @ModelAttribute BoardSearchReqDto request
     ) {
-        List<BoardListDto> dtoList = boardService.getBoards(title, category, sort);
+        PageResponse<BoardListDto> response = boardService.getBoards(request);
 
         return ResponseEntity.ok()
-                .body(BaseResponse.success(dtoList));
+                .body(BaseResponse.success(response));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<CursorResponse<BoardListDto>>> getBoardsByCursor(
+            @Valid @ModelAttribute BoardCursorReqDto request
+    ) {
+        CursorResponse<BoardListDto> response = boardService.getBoardsByCursor(request);
+
+        return ResponseEntity.ok()
+                .body(BaseResponse.success(response));
     }
 
     @Override
@@ -1,13 +1,15 @@
 package com.bookbook.booklink.board_service.controller.docs;
 
 import com.bookbook.booklink.auth_service.model.Member;
-import com.bookbook.booklink.board_service.model.BoardCategory;
 import com.bookbook.booklink.board_service.model.dto.request.BoardCreateDto;
-import com.bookbook.booklink.board_service.model.dto.request.BoardSort;
+import com.bookbook.booklink.board_service.model.dto.request.BoardCursorReqDto;
+import com.bookbook.booklink.board_service.model.dto.request.BoardSearchReqDto;
 import com.bookbook.booklink.board_service.model.dto.request.BoardUpdateDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardDetailDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardListDto;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.CursorResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.ApiErrorResponses;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,7 +20,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Board API", description = "게시글 등록/조회/수정 관련 API")
@@ -73,13 +74,25 @@ public interface BoardApiDocs {
 
     @Operation(
             summary = "게시글 목록 조회",
-            description = "제목 키워드나 카테고리로 필터링된 게시글 목록을 조회합니다."
+            description = "제목 키워드나 카테고리로 필터링된 게시글 목록을 페이지 단위로 조회합니다. " +
+                    "본문 대신 앞부분 미리보기만 반환합니다. " +
+                    "인기순(POPULAR)은 좋아요/댓글/조회수와 작성 시각을 반영한 순위이며, 제목 검색 시에는 좋아요순입니다."
     )
+    @ApiErrorResponses({ErrorCode.DATABASE_ERROR})
     @GetMapping
-    ResponseEntity<BaseResponse<List<BoardListDto>>> getBoards(
-            @Parameter(description = "검색할 제목 키워드", required = false) @RequestParam(required = false) String title,
-            @Parameter(description = "검색할 카테고리", required = false) @RequestParam(required = false) BoardCategory category,
-            @Parameter(description = "정렬 조건") @RequestParam(defaultValue = "LATEST") BoardSort sort
+    ResponseEntity<BaseResponse<PageResponse<BoardListDto>>> getBoards(
+            @Valid @ModelAttribute BoardSearchReqDto request
+    );
+
+    @Operation(
+            summary = "게시글 목록 조회 (커서 기반)",
+            description = "게시글 목록을 커서 기반으로 조회합니다. 전체 개수를 계산하지 않으며, " +
+                    "응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다."
+    )
+    @ApiErrorResponses({ErrorCode.DATABASE_ERROR, ErrorCode.INVALID_CURSOR})
+    @GetMapping("/cursor")
+    ResponseEntity<BaseResponse<CursorResponse<BoardListDto>>> getBoardsByCursor(
+            @Valid @ModelAttribute BoardCursorReqDto request
     );
 
     @Operation(
@@ -26,6 +26,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "게시글(Board) 엔티티 정보")
+@Table(indexes = {
+        @Index(name = "idx_board_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_board_like_count", columnList = "like_count, id")
+})
 public class Board {
     /**
      * 게시글의 고유 식별자 (UUID).
@@ -83,9 +87,11 @@ public class Board {
 
     /**
      * 좋아요 수.
+     * CounterService 의 일괄 UPDATE 로만 갱신되며, 엔티티 변경 감지로는 덮어쓰지 않습니다.
      */
     @Builder.Default
     @Min(0)
+    @Column(updatable = false)
     @Schema(description = "좋아요 수", example = "15", accessMode = Schema.AccessMode.READ_ONLY)
     private Integer likeCount = 0;
 
@@ -107,9 +113,11 @@ public class Board {
 
     /**
      * 조회수.
+     * CounterService 의 일괄 UPDATE 로만 갱신되며, 엔티티 변경 감지로는 덮어쓰지 않습니다.
      */
     @Builder.Default
     @Min(0)
+    @Column(updatable = false)
     @Schema(description = "조회수", example = "120", accessMode = Schema.AccessMode.READ_ONLY)
     private Integer viewCount = 0;
 
@@ -170,30 +178,6 @@ public class Board {
         this.deletedAt = LocalDateTime.now();
     }
 
-    /**
-     * 게시글 조회수를 1 증가시킵니다.
-     */
-    public void view() {
-        this.viewCount++;
-    }
-
-    /**
-     * 게시글의 좋아요 수를 1 증가시킵니다.
-     */
-    public void like() {
-        this.likeCount++;
-    }
-
-    /**
-     * 게시글의 좋아요 수를 1 감소시킵니다.
-     * 좋아요 수가 0보다 클 때만 감소시킵니다.
-     */
-    public void unlike() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     /**
      * 게시글의 댓글 수를 1 증가시킵니다.
      */
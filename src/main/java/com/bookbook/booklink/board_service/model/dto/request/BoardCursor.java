@@ -0,0 +1,47 @@
+package com.bookbook.booklink.board_service.model.dto.request;
+
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.common.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 커서. (정렬 기준 | 정렬 키 | 게시글 ID) 를 인코딩합니다.
+ * 정렬 기준에 해당하는 정렬 키 하나만 값이 채워집니다.
+ * 인기순의 정렬 키는 인기 순위 점수이며, 제목 검색으로 좋아요순 조회를 할 때는 좋아요 수입니다.
+ */
+public record BoardCursor(
+        LocalDateTime createdAt,
+        Double score,
+        UUID id
+) {
+    private static final BoardCursor FIRST_PAGE = new BoardCursor(null, null, null);
+
+    public static BoardCursor decode(String cursor, BoardSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!sort.name().equals(parts[0])) {
+            // 정렬 기준이 바뀐 커서는 사용할 수 없음
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            UUID id = UUID.fromString(parts[2]);
+            return switch (sort) {
+                case LATEST -> new BoardCursor(LocalDateTime.parse(parts[1]), null, id);
+                case POPULAR -> new BoardCursor(null, Double.valueOf(parts[1]), id);
+            };
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(BoardSort sort, Object sortKey, UUID id) {
+        return CursorCodec.encode(sort.name(), sortKey, id);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bookbook.booklink.board_service.model.dto.request;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "게시글 목록 커서 기반 조회 요청 DTO")
+public class BoardCursorReqDto {
+
+    @Schema(description = "검색할 제목 키워드", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String title;
+
+    @Schema(description = "검색할 카테고리", example = "GENERAL", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private BoardCategory category;
+
+    @Schema(description = "정렬 조건", example = "LATEST", defaultValue = "LATEST", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private BoardSort sort = BoardSort.LATEST;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String cursor;
+
+    @Schema(description = "페이지 크기", example = "20", defaultValue = "20", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하이어야 합니다.")
+    private int size = 20; // 기본값 20
+}
@@ -0,0 +1,32 @@
+package com.bookbook.booklink.board_service.model.dto.request;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "게시글 목록 조회 요청 DTO")
+public class BoardSearchReqDto {
+
+    @Schema(description = "검색할 제목 키워드", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String title;
+
+    @Schema(description = "검색할 카테고리", example = "GENERAL", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private BoardCategory category;
+
+    @Schema(description = "정렬 조건", example = "LATEST", defaultValue = "LATEST", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private BoardSort sort = BoardSort.LATEST;
+
+    @Schema(description = "페이지 번호", example = "0", defaultValue = "0", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.")
+    private int page = 0; // 기본값 0
+
+    @Schema(description = "페이지 크기", example = "20", defaultValue = "20", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하이어야 합니다.")
+    private int size = 20; // 기본값 20
+}
@@ -54,10 +54,12 @@ public class BoardDetailDto {
     /**
      * Board 엔티티를 BoardDetailDto로 변환하는 정적 팩토리 메서드입니다.
      *
-     * @param board 변환할 Board 엔티티
+     * @param board     변환할 Board 엔티티
+     * @param likeCount 아직 DB 에 반영되지 않은 증감분을 합친 좋아요 수
+     * @param viewCount 아직 DB 에 반영되지 않은 증감분을 합친 조회수
      * @return BoardDetailDto 인스턴스
      */
-    public static BoardDetailDto fromEntity(Board board, UUID currentUserId) {
+    public static BoardDetailDto fromEntity(Board board, UUID currentUserId, int likeCount, int viewCount) {
         return BoardDetailDto.builder()
                 .id(board.getId())
                 .writerName(board.getWriterName())
@@ -65,10 +67,10 @@ public class BoardDetailDto {
                 .content(board.getContent())
                 .createdAt(board.getCreatedAt())
                 .isUpdated(board.getUpdatedAt() != null)
-                .likeCount(board.getLikeCount())
+                .likeCount(likeCount)
                 .commentCount(board.getCommentCount())
                 .category(board.getCategory())
-                .viewCount(board.getViewCount())
+                .viewCount(viewCount)
                 .isOwner(board.getMember().getId().equals(currentUserId))
                 .build();
     }
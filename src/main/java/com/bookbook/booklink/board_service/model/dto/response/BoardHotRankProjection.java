@@ -0,0 +1,15 @@
+package com.bookbook.booklink.board_service.model.dto.response;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface BoardHotRankProjection {
+    UUID getId();
+    BoardCategory getCategory();
+    LocalDateTime getCreatedAt();
+    Integer getLikeCount();
+    Integer getCommentCount();
+    Integer getViewCount();
+}
@@ -1,6 +1,5 @@
 package com.bookbook.booklink.board_service.model.dto.response;
 
-import com.bookbook.booklink.board_service.model.Board;
 import com.bookbook.booklink.board_service.model.BoardCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -46,22 +45,24 @@ public class BoardListDto {
     private Integer viewCount = 0;
 
     /**
-     * Board 엔티티를 BoardListDto로 변환하는 정적 팩토리 메서드입니다.
+     * 목록 조회 프로젝션을 BoardListDto로 변환하는 정적 팩토리 메서드입니다.
      *
-     * @param board 변환할 Board 엔티티
+     * @param board     목록 조회 프로젝션
+     * @param likeCount 아직 DB 에 반영되지 않은 증감분을 합친 좋아요 수
+     * @param viewCount 아직 DB 에 반영되지 않은 증감분을 합친 조회수
      * @return BoardListDto 인스턴스
      */
-    public static BoardListDto fromEntity(Board board) {
+    public static BoardListDto fromProjection(BoardListProjection board, int likeCount, int viewCount) {
         return BoardListDto.builder()
                 .id(board.getId())
                 .writerName(board.getWriterName())
                 .title(board.getTitle())
                 .createdAt(board.getCreatedAt())
-                .likeCount(board.getLikeCount())
+                .likeCount(likeCount)
                 .commentCount(board.getCommentCount())
                 .category(board.getCategory())
-                .viewCount(board.getViewCount())
-                .previewContent(board.getContent().substring(0, Math.min(board.getContent().length() - 1, 60)))
+                .viewCount(viewCount)
+                .previewContent(board.getPreviewContent())
                 .build();
     }
 
@@ -0,0 +1,21 @@
+package com.bookbook.booklink.board_service.model.dto.response;
+
+import com.bookbook.booklink.board_service.model.BoardCategory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 조회용 프로젝션. 본문 전체 대신 DB 에서 잘라낸 미리보기만 조회합니다.
+ */
+public interface BoardListProjection {
+    UUID getId();
+    String getWriterName();
+    String getTitle();
+    String getPreviewContent();
+    LocalDateTime getCreatedAt();
+    Integer getLikeCount();
+    Integer getCommentCount();
+    BoardCategory getCategory();
+    Integer getViewCount();
+}
@@ -3,13 +3,33 @@ package com.bookbook.booklink.board_service.repository;
 import com.bookbook.booklink.board_service.model.Board;
 import com.bookbook.booklink.board_service.model.BoardLikes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
 import java.util.UUID;
 
 public interface BoardLikesRepository extends JpaRepository<BoardLikes, UUID> {
     boolean existsByBoardAndUserId(Board board, UUID userId);
 
-    Optional<BoardLikes> findByBoardAndUserId(Board board, UUID userId);
-}
+    /**
+     * 좋아요 기록을 추가합니다. (board_id, user_id) 유니크 제약에 걸리면 무시합니다.
+     * 게시글은 soft delete 되므로 외래 키 오류는 나지 않으며, 호출 전에 게시글이 삭제되지 않았는지 확인해야 합니다.
+     *
+     * @return 추가된 행 수 (이미 좋아요를 눌렀으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO board_likes (id, board_id, user_id, created_at)
+            VALUES (:id, :boardId, :userId, NOW())
+            """,
+            nativeQuery = true)
+    int insertIgnore(@Param("id") UUID id, @Param("boardId") UUID boardId, @Param("userId") UUID userId);
 
+    /**
+     * @return 삭제된 행 수 (좋아요 기록이 없으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM BoardLikes bl WHERE bl.board.id = :boardId AND bl.userId = :userId")
+    int deleteByBoardIdAndUserId(@Param("boardId") UUID boardId, @Param("userId") UUID userId);
+}
@@ -2,24 +2,82 @@ package com.bookbook.booklink.board_service.repository;
 
 import com.bookbook.booklink.board_service.model.Board;
 import com.bookbook.booklink.board_service.model.BoardCategory;
-import org.springframework.data.domain.Sort;
+import com.bookbook.booklink.board_service.model.dto.response.BoardHotRankProjection;
+import com.bookbook.booklink.board_service.model.dto.response.BoardListProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, UUID> {
 
-    @Query("SELECT b FROM Board b " +
-            "WHERE b.deletedAt IS NULL " +
+    String LIST_COLUMNS = "b.id AS id, b.writerName AS writerName, b.title AS title, " +
+            "SUBSTRING(b.content, 1, 60) AS previewContent, b.createdAt AS createdAt, " +
+            "b.likeCount AS likeCount, b.commentCount AS commentCount, " +
+            "b.category AS category, b.viewCount AS viewCount ";
+
+    String LIST_FILTER = "WHERE b.deletedAt IS NULL " +
             "AND (:title IS NULL OR b.title LIKE %:title%) " +
-            "AND (:category IS NULL OR b.category = :category) ")
-    List<Board> findByTitleAndCategory(@Param("title") String title,
-                                       @Param("category") BoardCategory category,
-                                       Sort sort);
+            "AND (:category IS NULL OR b.category = :category) ";
+
+    /**
+     * 게시글 목록 페이지 조회. 본문(@Lob) 대신 미리보기만 조회합니다.
+     */
+    @Query(value = "SELECT " + LIST_COLUMNS + "FROM Board b " + LIST_FILTER,
+            countQuery = "SELECT COUNT(b) FROM Board b " + LIST_FILTER)
+    Page<BoardListProjection> findBoardList(@Param("title") String title,
+                                            @Param("category") BoardCategory category,
+                                            Pageable pageable);
+
+    /**
+     * 인기 순위에서 읽은 게시글 ID 들의 목록 정보를 조회합니다. (순서는 보장하지 않음)
+     */
+    @Query("SELECT " + LIST_COLUMNS + "FROM Board b WHERE b.id IN :ids AND b.deletedAt IS NULL")
+    List<BoardListProjection> findBoardListByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 인기 순위 적재용으로 삭제되지 않은 게시글의 반응 수만 조회합니다.
+     */
+    @Query("SELECT b.id AS id, b.category AS category, b.createdAt AS createdAt, " +
+            "b.likeCount AS likeCount, b.commentCount AS commentCount, b.viewCount AS viewCount " +
+            "FROM Board b WHERE b.deletedAt IS NULL")
+    List<BoardHotRankProjection> findAllForHotRanking();
+
+    /**
+     * 최신순 커서(keyset) 게시글 목록 조회. (createdAt, id) 이후부터 조회합니다.
+     * 커서 조건의 바깥쪽을 createdAt 범위 조건으로 두어 (created_at, id) 인덱스의 범위 검색으로 시작 위치를 찾습니다.
+     */
+    @Query("SELECT " + LIST_COLUMNS + "FROM Board b " + LIST_FILTER +
+            "AND (:cursorId IS NULL " +
+            "     OR (b.createdAt <= :cursorCreatedAt " +
+            "         AND (b.createdAt < :cursorCreatedAt OR b.id < :cursorId))) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardListProjection> findLatestBoardsByCursor(@Param("title") String title,
+                                                       @Param("category") BoardCategory category,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") UUID cursorId,
+                                                       Pageable limit);
+
+    /**
+     * 좋아요순 커서(keyset) 게시글 목록 조회. (likeCount, id) 이후부터 조회합니다.
+     * 인기 순위를 쓸 수 없는 제목 검색 시 사용합니다. 커서 조건은 최신순과 같이 (like_count, id) 인덱스의 범위 검색이 되도록 둡니다.
+     */
+    @Query("SELECT " + LIST_COLUMNS + "FROM Board b " + LIST_FILTER +
+            "AND (:cursorId IS NULL " +
+            "     OR (b.likeCount <= :cursorLikeCount " +
+            "         AND (b.likeCount < :cursorLikeCount OR b.id < :cursorId))) " +
+            "ORDER BY b.likeCount DESC, b.id DESC")
+    List<BoardListProjection> findPopularBoardsByCursor(@Param("title") String title,
+                                                        @Param("category") BoardCategory category,
+                                                        @Param("cursorLikeCount") Integer cursorLikeCount,
+                                                        @Param("cursorId") UUID cursorId,
+                                                        Pageable limit);
 }
-    
\ No newline at end of file
@@ -1,28 +1,49 @@
 package com.bookbook.booklink.board_service.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.board_service.cache.BoardHotRanking;
+import com.bookbook.booklink.board_service.cache.BoardHotScoreEvent;
 import com.bookbook.booklink.board_service.model.Board;
-import com.bookbook.booklink.board_service.model.BoardCategory;
-import com.bookbook.booklink.board_service.model.BoardLikes;
 import com.bookbook.booklink.board_service.model.dto.request.BoardCreateDto;
+import com.bookbook.booklink.board_service.model.dto.request.BoardCursor;
+import com.bookbook.booklink.board_service.model.dto.request.BoardCursorReqDto;
+import com.bookbook.booklink.board_service.model.dto.request.BoardSearchReqDto;
 import com.bookbook.booklink.board_service.model.dto.request.BoardSort;
 import com.bookbook.booklink.board_service.model.dto.request.BoardUpdateDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardDetailDto;
 import com.bookbook.booklink.board_service.model.dto.response.BoardListDto;
+import com.bookbook.booklink.board_service.model.dto.response.BoardListProjection;
 import com.bookbook.booklink.board_service.repository.BoardLikesRepository;
 import com.bookbook.booklink.board_service.repository.BoardRepository;
+import com.bookbook.booklink.common.counter.CounterService;
+import com.bookbook.booklink.common.counter.CounterType;
+import com.bookbook.booklink.common.dto.CursorResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j // 👈 로그 사용을 위해 추가
 @Service
@@ -31,6 +52,12 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardLikesRepository boardLikesRepository;
     private final IdempotencyService idempotencyService;
+    private final CounterService counterService;
+    private final BoardHotRanking boardHotRanking;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${board-view.dedup-window-seconds:600}")
+    private long viewDedupWindowSeconds;
 
     /**
      * 새로운 게시글을 생성하고 저장합니다.
@@ -54,6 +81,7 @@ public class BoardService {
         Board newBoard = Board.toEntity(boardCreateDto, member);
 
         Board savedBoard = boardRepository.save(newBoard);
+        publishHotScoreChanged(savedBoard, 0);
 
         log.info("[BoardService] [traceId={}, userId={}] create board success, boardId={}",
                 traceId, member.getId(), savedBoard.getId());
@@ -110,50 +138,165 @@ public class BoardService {
         Board board = getBoardById(boardId);
 
         board.delete();
+        eventPublisher.publishEvent(BoardHotScoreEvent.builder()
+                .boardId(board.getId())
+                .category(board.getCategory())
+                .removed(true)
+                .build());
 
         log.info("[BoardService] delete board success, boardId={}", boardId);
     }
 
     /**
-     * 검색 조건에 맞는 게시글 목록을 조회합니다.
+     * 검색 조건에 맞는 게시글 목록을 페이지 단위로 조회합니다.
+     * 본문 전체 대신 DB 에서 잘라낸 미리보기만 조회합니다.
+     * 인기순은 인기 순위에서 해당 페이지의 ID 만 읽어 조회하며, 제목 검색 시에는 좋아요순으로 조회합니다.
+     *
+     * @param request 검색 조건 (제목 키워드, 카테고리, 정렬, 페이지)
+     * @return BoardListDto 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<BoardListDto> getBoards(BoardSearchReqDto request) {
+
+        if (request.getSort() == BoardSort.POPULAR && !StringUtils.hasText(request.getTitle())) {
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+            Optional<BoardHotRanking.RankedPage> ranked = boardHotRanking.page(
+                    request.getCategory(), pageable.getOffset(), request.getSize());
+            if (ranked.isPresent()) {
+                List<BoardListDto> content = toListDtos(findRankedBoards(ranked.get()));
+                return PageResponse.from(new PageImpl<>(content, pageable, ranked.get().total()));
+            }
+        }
+
+        Sort order = switch (request.getSort()) {
+            case LATEST -> Sort.by(Sort.Direction.DESC, "createdAt", "id");
+            case POPULAR -> Sort.by(Sort.Direction.DESC, "likeCount", "id");
+        };
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), order);
+
+        Page<BoardListProjection> page = boardRepository.findBoardList(
+                request.getTitle(), request.getCategory(), pageable);
+
+        List<BoardListDto> content = toListDtos(page.getContent());
+        return PageResponse.from(new PageImpl<>(content, pageable, page.getTotalElements()));
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글 목록을 커서(keyset) 기반으로 조회합니다.
+     * 마지막으로 받은 게시글의 (정렬 키, id) 이후부터 size + 1 개를 조회하므로 COUNT 쿼리를 실행하지 않습니다.
      *
-     * @param title    검색할 제목 키워드 (null 허용)
-     * @param category 검색할 게시글 카테고리 (null 허용)
-     * @param sort 정렬 (default 최신순)
-     * @return BoardListDto 목록
+     * @param request 검색 조건 및 커서
+     * @return 커서 기반 페이지 응답
+     * @throws CustomException INVALID_CURSOR 커서 형식이 올바르지 않거나 정렬 기준이 다른 경우
      */
     @Transactional(readOnly = true)
-    public List<BoardListDto> getBoards(String title, BoardCategory category, BoardSort sort) {
+    public CursorResponse<BoardListDto> getBoardsByCursor(BoardCursorReqDto request) {
+        int size = request.getSize();
+        BoardSort sort = request.getSort();
+        BoardCursor cursor = BoardCursor.decode(request.getCursor(), sort);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        if (sort == BoardSort.POPULAR && !StringUtils.hasText(request.getTitle())) {
+            Optional<BoardHotRanking.RankedPage> ranked = boardHotRanking.pageAfter(
+                    request.getCategory(), cursor.score(), cursor.id(), size + 1);
+            if (ranked.isPresent()) {
+                // 순위에서 size + 1 개를 읽었으므로, 그 사이 삭제된 게시글이 있어도 다음 페이지 여부는 순위 기준으로 판단
+                List<BoardHotRanking.RankedBoard> rankedBoards = ranked.get().boards();
+                boolean hasNext = rankedBoards.size() > size;
+                BoardHotRanking.RankedBoard last = hasNext ? rankedBoards.get(size - 1) : null;
+                List<BoardHotRanking.RankedBoard> current = hasNext ? rankedBoards.subList(0, size) : rankedBoards;
+
+                CursorResponse<BoardListProjection> page = CursorResponse.<BoardListProjection>builder()
+                        .content(findRankedBoards(new BoardHotRanking.RankedPage(current, ranked.get().total())))
+                        .nextCursor(hasNext ? BoardCursor.encode(sort, last.score(), last.id()) : null)
+                        .hasNext(hasNext)
+                        .pageSize(size)
+                        .build();
+                return toCursorResponse(page, size);
+            }
+        }
 
-        Sort order = switch (sort) {
-            case LATEST -> Sort.by(Sort.Direction.DESC, "createdAt");
-            case POPULAR ->  Sort.by(Sort.Direction.DESC, "likeCount");
+        List<BoardListProjection> projections = switch (sort) {
+            case LATEST -> boardRepository.findLatestBoardsByCursor(request.getTitle(), request.getCategory(),
+                    cursor.createdAt(), cursor.id(), limit);
+            case POPULAR -> boardRepository.findPopularBoardsByCursor(request.getTitle(), request.getCategory(),
+                    cursor.score() == null ? null : cursor.score().intValue(), cursor.id(), limit);
         };
 
-        List<Board> boardList = boardRepository.findByTitleAndCategory(title, category, order);
+        CursorResponse<BoardListProjection> page = CursorResponse.of(projections, size,
+                last -> BoardCursor.encode(sort,
+                        sort == BoardSort.LATEST ? last.getCreatedAt() : last.getLikeCount(), last.getId()));
+        return toCursorResponse(page, size);
+    }
+
+    private CursorResponse<BoardListDto> toCursorResponse(CursorResponse<BoardListProjection> page, int size) {
+        return CursorResponse.<BoardListDto>builder()
+                .content(toListDtos(page.getContent()))
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .pageSize(size)
+                .build();
+    }
+
+    /**
+     * 인기 순위에서 읽은 게시글들을 순위 순서대로 조회합니다. (그 사이 삭제된 게시글은 제외)
+     */
+    private List<BoardListProjection> findRankedBoards(BoardHotRanking.RankedPage ranked) {
+        List<UUID> ids = ranked.boards().stream().map(BoardHotRanking.RankedBoard::id).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, BoardListProjection> byId = boardRepository.findBoardListByIds(ids).stream()
+                .collect(Collectors.toMap(BoardListProjection::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
 
-        return boardList.stream().map(BoardListDto::fromEntity).toList();
+    /**
+     * 목록 프로젝션에 아직 DB 에 반영되지 않은 좋아요/조회수 증감분을 합쳐 DTO 로 변환합니다.
+     */
+    private List<BoardListDto> toListDtos(List<BoardListProjection> boards) {
+        List<UUID> boardIds = boards.stream().map(BoardListProjection::getId).toList();
+        Map<UUID, Long> pendingLikes = counterService.pendingDeltas(CounterType.BOARD_LIKE, boardIds);
+        Map<UUID, Long> pendingViews = counterService.pendingDeltas(CounterType.BOARD_VIEW, boardIds);
+
+        return boards.stream()
+                .map(board -> BoardListDto.fromProjection(board,
+                        CounterService.merge(board.getLikeCount(), pendingLikes.get(board.getId())),
+                        CounterService.merge(board.getViewCount(), pendingViews.get(board.getId()))))
+                .toList();
     }
 
     /**
      * 특정 게시글을 조회하고 조회수를 1 증가시킵니다.
+     * 조회수는 Redis 에 누적된 뒤 주기적으로 반영되며, 같은 사용자의 반복 조회는 일정 시간 동안 한 번만 셉니다.
      *
      * @param boardId 조회할 게시글의 고유 ID
      * @return BoardDetailDto 상세 정보
      * @throws CustomException BOARD_NOT_FOUND 해당 ID의 게시글이 존재하지 않을 경우
      * @throws CustomException BOARD_DELETED 삭제된 게시글일 경우
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public BoardDetailDto getBoard(UUID boardId, UUID userId) {
         log.info("[BoardService] get board initiate and view count up, boardId={}", boardId);
 
         Board board = getBoardById(boardId);
 
-        board.view();
+        boolean counted = counterService.incrementOnce(CounterType.BOARD_VIEW, boardId, userId,
+                Duration.ofSeconds(viewDedupWindowSeconds));
+        if (counted) {
+            publishHotScoreChanged(board, BoardHotRanking.VIEW_POINTS);
+        }
+
+        int likeCount = CounterService.merge(board.getLikeCount(),
+                counterService.pendingDelta(CounterType.BOARD_LIKE, boardId));
+        // 방금 증가시킨 조회수는 커밋 후에 누적되므로 응답에 직접 더함
+        int viewCount = CounterService.merge(board.getViewCount(),
+                counterService.pendingDelta(CounterType.BOARD_VIEW, boardId) + (counted ? 1 : 0));
 
-        log.info("[BoardService] get board success, boardId={}, viewCount={}", boardId, board.getViewCount());
+        log.info("[BoardService] get board success, boardId={}, viewCount={}", boardId, viewCount);
 
-        return BoardDetailDto.fromEntity(board, userId);
+        return BoardDetailDto.fromEntity(board, userId, likeCount, viewCount);
 
     }
 
@@ -173,17 +316,15 @@ public class BoardService {
 
         Board board = getBoardById(boardId);
 
-        if (boardLikesRepository.existsByBoardAndUserId(board, member.getId())) {
+        // 좋아요 컬렉션을 읽지 않고 유니크 제약으로 중복을 걸러냄
+        if (boardLikesRepository.insertIgnore(UUID.randomUUID(), boardId, member.getId()) == 0) {
             throw new CustomException(ErrorCode.BOARD_ALREADY_LIKES);
         }
+        counterService.increment(CounterType.BOARD_LIKE, boardId, 1);
+        publishHotScoreChanged(board, BoardHotRanking.LIKE_POINTS);
 
-        board.like();
-        BoardLikes newLikes = BoardLikes.create(board, member.getId());
-        board.getLikesList().add(newLikes);
-        boardLikesRepository.save(newLikes); // 좋아요 기록 저장
-
-        log.info("[BoardService] [userId={}] like board success, boardId={}, likeCount={}",
-                member.getId(), boardId, board.getLikeCount());
+        log.info("[BoardService] [userId={}] like board success, boardId={}",
+                member.getId(), boardId);
     }
 
     /**
@@ -202,15 +343,14 @@ public class BoardService {
 
         Board board = getBoardById(boardId);
 
-        BoardLikes existingLike = boardLikesRepository.findByBoardAndUserId(board, member.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_LIKED));
-
-        board.unlike();
-        board.getLikesList().remove(existingLike);
-        boardLikesRepository.delete(existingLike); // 좋아요 기록 삭제
+        if (boardLikesRepository.deleteByBoardIdAndUserId(boardId, member.getId()) == 0) {
+            throw new CustomException(ErrorCode.BOARD_NOT_LIKED);
+        }
+        counterService.increment(CounterType.BOARD_LIKE, boardId, -1);
+        publishHotScoreChanged(board, -BoardHotRanking.LIKE_POINTS);
 
-        log.info("[BoardService] [userId={}] unlike board success, boardId={}, likeCount={}",
-                member.getId(), boardId, board.getLikeCount());
+        log.info("[BoardService] [userId={}] unlike board success, boardId={}",
+                member.getId(), boardId);
     }
 
     /**
@@ -242,11 +382,28 @@ public class BoardService {
 
         Board board = getBoardById(boardId);
         board.comment();
+        publishHotScoreChanged(board, BoardHotRanking.COMMENT_POINTS);
 
         log.info("[BoardService] comment count update success, boardId={}, commentCount={}",
                 boardId, board.getCommentCount());
     }
 
+    /**
+     * 게시글의 반응 점수 변경을 인기 순위에 반영하도록 이벤트를 발행합니다. (커밋 후 반영)
+     * 댓글 삭제처럼 다른 서비스에서 게시글 반응이 바뀔 때도 호출합니다.
+     *
+     * @param board 반응이 바뀐 게시글
+     * @param delta 반응 점수 증감량 ({@link BoardHotRanking} 의 *_POINTS 단위)
+     */
+    public void publishHotScoreChanged(Board board, long delta) {
+        eventPublisher.publishEvent(BoardHotScoreEvent.builder()
+                .boardId(board.getId())
+                .category(board.getCategory())
+                .createdAt(board.getCreatedAt())
+                .delta(delta)
+                .build());
+    }
+
     /**
      * 게시글 ID를 사용하여 게시글 엔티티를 조회합니다.
      * 해당 ID의 게시글이 존재하지 않으면 예외를 발생시킵니다.
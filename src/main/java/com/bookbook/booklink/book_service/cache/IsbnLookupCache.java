@@ -0,0 +1,187 @@
+package com.bookbook.booklink.book_service.cache;
+
+import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 국립중앙도서관 ISBN 조회 결과 캐시
+ *
+ * <p>인스턴스 내 LRU 캐시 → Redis → 외부 API 순으로 조회합니다.
+ * 조회 결과가 없는 ISBN(INVALID_ISBN_CODE)도 짧은 TTL 로 캐시하여 같은 잘못된 ISBN 으로 API 를 반복 호출하지 않도록 합니다.</p>
+ *
+ * <p>같은 ISBN 에 대한 동시 캐시 미스는 하나의 외부 호출 결과를 함께 사용합니다.
+ * 외부 호출은 Future 로 이어 붙이므로 호출한 스레드는 응답을 기다리지 않으며,
+ * 조회 결과의 캐시 저장은 응답을 받은 HttpClient 스레드에서 수행됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IsbnLookupCache {
+
+    private static final String KEY_PREFIX = "isbn:lookup:";
+    private static final String NOT_FOUND = "__NOT_FOUND__";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${isbn-cache.local-max-size:1000}")
+    private int localMaxSize;
+
+    @Value("${isbn-cache.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @Value("${isbn-cache.positive-ttl-seconds:86400}")
+    private long positiveTtlSeconds;
+
+    @Value("${isbn-cache.negative-ttl-seconds:600}")
+    private long negativeTtlSeconds;
+
+    private final Map<String, LocalEntry> local = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Optional<NationalLibraryResponseDto>>> inFlight = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * @return 조회 결과 Future (없으면 null 또는 INVALID_ISBN_CODE 로 실패)
+         */
+        CompletableFuture<NationalLibraryResponseDto> load();
+    }
+
+    /**
+     * ISBN 조회 결과를 반환합니다. 캐시에 있으면 이미 완료된 Future 를 반환합니다.
+     *
+     * @param isbn   ISBN 코드
+     * @param loader 캐시 미스 시 외부 API 를 호출하는 함수
+     * @return 조회 결과 Future (존재하지 않는 ISBN 이면 INVALID_ISBN_CODE 로 실패, 캐시된 결과 포함)
+     */
+    public CompletableFuture<NationalLibraryResponseDto> get(String isbn, Loader loader) {
+        LocalEntry cached = getLocal(isbn);
+        if (cached != null) {
+            return completed(cached.value());
+        }
+
+        CompletableFuture<Optional<NationalLibraryResponseDto>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<NationalLibraryResponseDto>> leader = inFlight.putIfAbsent(isbn, mine);
+        if (leader != null) {
+            // 이미 같은 ISBN 을 조회 중이면 그 결과를 함께 사용
+            return leader.thenCompose(this::completed);
+        }
+
+        loadFromRedisOrUpstream(isbn, loader).whenComplete((result, e) -> {
+            inFlight.remove(isbn, mine);
+            if (e != null) {
+                mine.completeExceptionally(unwrap(e));
+            } else {
+                mine.complete(result);
+            }
+        });
+        return mine.thenCompose(this::completed);
+    }
+
+    private CompletableFuture<Optional<NationalLibraryResponseDto>> loadFromRedisOrUpstream(String isbn, Loader loader) {
+        Optional<NationalLibraryResponseDto> fromRedis = getRedis(isbn);
+        if (fromRedis != null) {
+            putLocal(isbn, fromRedis);
+            return CompletableFuture.completedFuture(fromRedis);
+        }
+
+        CompletableFuture<NationalLibraryResponseDto> upstream;
+        try {
+            upstream = loader.load();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return upstream.handle((dto, e) -> {
+            Throwable cause = unwrap(e);
+            if (cause != null && !(cause instanceof CustomException ce && ce.getErrorCode() == ErrorCode.INVALID_ISBN_CODE)) {
+                throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+            }
+
+            Optional<NationalLibraryResponseDto> result = cause == null ? Optional.ofNullable(dto) : Optional.empty();
+            putRedis(isbn, result);
+            putLocal(isbn, result);
+            return result;
+        });
+    }
+
+    private CompletableFuture<NationalLibraryResponseDto> completed(Optional<NationalLibraryResponseDto> value) {
+        return value.map(CompletableFuture::completedFuture)
+                .orElseGet(() -> CompletableFuture.failedFuture(new CustomException(ErrorCode.INVALID_ISBN_CODE)));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * @return 캐시 미스면 null, 존재하지 않는 ISBN 으로 캐시되어 있으면 Optional.empty()
+     */
+    private Optional<NationalLibraryResponseDto> getRedis(String isbn) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + isbn);
+            if (value == null) {
+                return null;
+            }
+            if (NOT_FOUND.equals(value)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, NationalLibraryResponseDto.class));
+        } catch (Exception e) {
+            log.warn("[IsbnLookupCache] redis read failed, isbn={}", isbn, e);
+            return null;
+        }
+    }
+
+    private void putRedis(String isbn, Optional<NationalLibraryResponseDto> value) {
+        try {
+            if (value.isPresent()) {
+                redisTemplate.opsForValue().set(KEY_PREFIX + isbn,
+                        objectMapper.writeValueAsString(value.get()), Duration.ofSeconds(positiveTtlSeconds));
+            } else {
+                redisTemplate.opsForValue().set(KEY_PREFIX + isbn, NOT_FOUND, Duration.ofSeconds(negativeTtlSeconds));
+            }
+        } catch (Exception e) {
+            log.warn("[IsbnLookupCache] redis write failed, isbn={}", isbn, e);
+        }
+    }
+
+    private synchronized LocalEntry getLocal(String isbn) {
+        LocalEntry entry = local.get(isbn);
+        if (entry != null && entry.expiresAt() < System.currentTimeMillis()) {
+            local.remove(isbn);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void putLocal(String isbn, Optional<NationalLibraryResponseDto> value) {
+        long ttlSeconds = value.isPresent() ? localTtlSeconds : Math.min(localTtlSeconds, negativeTtlSeconds);
+        local.put(isbn, new LocalEntry(value, System.currentTimeMillis() + ttlSeconds * 1000));
+
+        // 접근 순서 기준으로 가장 오래 사용되지 않은 항목부터 제거
+        var iterator = local.entrySet().iterator();
+        while (local.size() > localMaxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record LocalEntry(Optional<NationalLibraryResponseDto> value, long expiresAt) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.bookbook.booklink.book_service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 도서 목록 전체 개수 캐시 (Redis)
+ *
+ * <p>검색어가 없는 전체/도서관별 개수는 등록·삭제 시 증감하여 정확한 값을 유지하고,
+ * 검색어가 있는 개수는 짧은 TTL 동안 캐시하여 근사값으로 제공합니다.</p>
+ *
+ * <p>정확한 개수 키마다 버전 키를 두어 증감할 때마다 올리고, DB 에서 계산한 값은 계산 전에 읽은 버전이 그대로일 때만 저장합니다.
+ * 계산 도중 커밋된 등록/삭제가 DB 값에 포함됐는지 알 수 없으므로, 그 값은 이번 응답에만 쓰고 다음 조회 때 다시 계산합니다.
+ * 정확한 개수 키도 TTL 을 두어 증감 누락 등으로 생긴 오차가 주기적으로 보정되도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LibraryBookCountCache {
+
+    private static final String KEY_PREFIX = "library-book:count:";
+    private static final String ALL = "all";
+
+    private static final String VERSION_SUFFIX = ":ver";
+
+    // 버전을 올리고 적재된 키만 증감 (확인과 증감 사이에 키가 만료되어 증감분만 담긴 키가 생기지 않도록 한 번에 실행)
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 계산 전에 읽은 버전이 그대로이고 키가 없을 때만 저장
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            if redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[3]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${library-book-count.exact-ttl-seconds:3600}")
+    private long exactTtlSeconds;
+
+    @Value("${library-book-count.search-ttl-seconds:60}")
+    private long searchTtlSeconds;
+
+    /**
+     * 검색어 없는 전체(libraryId == null) 또는 도서관별 개수를 반환합니다. 캐시에 없으면 loader 로 계산 후 저장합니다.
+     */
+    public long exactCount(UUID libraryId, LongSupplier loader) {
+        String key = exactKey(libraryId);
+        List<String> cached = redisTemplate.opsForValue().multiGet(List.of(key, key + VERSION_SUFFIX));
+        if (cached != null && cached.get(0) != null) {
+            return Long.parseLong(cached.get(0));
+        }
+
+        String version = cached == null || cached.get(1) == null ? "0" : cached.get(1);
+        long count = loader.getAsLong();
+        Long stored = redisTemplate.execute(LOAD_SCRIPT, List.of(key, key + VERSION_SUFFIX),
+                version, String.valueOf(count), String.valueOf(Duration.ofSeconds(exactTtlSeconds).toMillis()));
+        if (stored == null || stored == 0L) {
+            log.debug("[LibraryBookCountCache] count changed while loading, not cached. key={}", key);
+        }
+        return count;
+    }
+
+    /**
+     * 검색어가 있는 개수를 반환합니다. TTL 동안 갱신되지 않으므로 근사값입니다.
+     *
+     * @param normalizedKeyword 정규화된 검색어
+     */
+    public long searchCount(UUID libraryId, String normalizedKeyword, LongSupplier loader) {
+        String key = KEY_PREFIX + "search:" + scope(libraryId) + ":" + normalizedKeyword;
+        return getOrLoad(key, Duration.ofSeconds(searchTtlSeconds), loader);
+    }
+
+    /**
+     * 커밋된 등록/삭제를 전체 개수와 도서관별 개수에 반영합니다.
+     * 아직 적재되지 않은 키는 다음 조회 시 DB 에서 계산되므로 건드리지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCountChanged(LibraryBookCountEvent event) {
+        adjust(exactKey(null), event.getDelta());
+        if (event.getLibraryId() != null) {
+            adjust(exactKey(event.getLibraryId()), event.getDelta());
+        }
+    }
+
+    private void adjust(String key, long delta) {
+        try {
+            // 버전 키는 적재 중인 계산보다 충분히 오래 남도록 정확한 개수 키의 두 배 TTL 로 유지
+            redisTemplate.execute(ADJUST_SCRIPT, List.of(key, key + VERSION_SUFFIX),
+                    String.valueOf(delta), String.valueOf(Duration.ofSeconds(exactTtlSeconds * 2).toMillis()));
+        } catch (RuntimeException e) {
+            // 증감에 실패하면 키를 지워 다음 조회 때 다시 계산되도록 함
+            log.warn("[LibraryBookCountCache] adjust failed, key={}", key, e);
+            redisTemplate.delete(key);
+        }
+    }
+
+    private long getOrLoad(String key, Duration ttl, LongSupplier loader) {
+        String cached = redisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long count = loader.getAsLong();
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        return count;
+    }
+
+    private String exactKey(UUID libraryId) {
+        return KEY_PREFIX + scope(libraryId);
+    }
+
+    private String scope(UUID libraryId) {
+        return libraryId == null ? ALL : libraryId.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookbook.booklink.book_service.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 목록에 노출되는 도서관별 도서 수가 변경되었을 때 발행하는 이벤트 (등록/삭제/보유 권수 0 전환)
+ */
+@Getter
+@Builder
+public class LibraryBookCountEvent {
+    private UUID libraryId;
+    private long delta;
+}
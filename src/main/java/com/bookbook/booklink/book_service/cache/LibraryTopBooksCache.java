@@ -0,0 +1,162 @@
+package com.bookbook.booklink.book_service.cache;
+
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookRankProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도서관별 인기 도서 순위 (Redis sorted set)
+ *
+ * <p>도서관마다 소장 도서 ID 를 점수(좋아요 수 우선, 같으면 누적 대여 횟수) 순으로 유지하고,
+ * 목록/상세 조회에서는 도서관당 상위 {@link #TOP_K} 개의 ID 만 읽습니다.</p>
+ *
+ * <p>키가 없는 도서관은 조회 시 DB 의 (ID, 좋아요 수, 대여 횟수) 만 읽어 한 번에 적재하며,
+ * 이후에는 커밋된 변경 이벤트로 점수를 갱신합니다. 키에는 TTL 을 두어 누락된 변경이 주기적으로 보정되도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LibraryTopBooksCache {
+
+    public static final int TOP_K = 5;
+
+    private static final String KEY_PREFIX = "library:top-books:";
+    // 도서가 없는 도서관도 적재 여부를 구분하기 위해 항상 최하위에 두는 표시용 멤버
+    private static final String LOADED_MARKER = "_";
+    private static final double LIKE_WEIGHT = 1_000_000d;
+
+    // 적재 표시가 있는 순위에만 반영 (확인과 반영 사이에 키가 만료되어 도서 하나만 담긴 순위가 생기지 않도록 한 번에 실행)
+    // ARGV[3] 이 비어 있으면 제거, 아니면 점수 갱신
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+            if ARGV[3] == '' then
+                return redis.call('ZREM', KEYS[1], ARGV[2])
+            end
+            return redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${library-top-books.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    /**
+     * 도서관별 상위 도서 ID 를 순위 순으로 반환합니다.
+     *
+     * @param libraryIds 조회할 도서관 ID 목록
+     * @param loader     캐시에 없는 도서관들의 순위 정보를 DB 에서 읽는 함수
+     * @return 도서관 ID → 상위 도서관별 도서 ID (최대 {@link #TOP_K} 개)
+     */
+    public Map<UUID, List<UUID>> topLibraryBookIds(List<UUID> libraryIds,
+                                                  Function<List<UUID>, List<LibraryBookRankProjection>> loader) {
+        Map<UUID, List<UUID>> result = new LinkedHashMap<>();
+        if (libraryIds.isEmpty()) {
+            return result;
+        }
+
+        List<Object> ranges = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID libraryId : libraryIds) {
+                conn.zRevRange(key(libraryId), 0, TOP_K);
+            }
+            return null;
+        });
+
+        List<UUID> missing = new ArrayList<>();
+        for (int i = 0; i < libraryIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Set<String> members = (Set<String>) ranges.get(i);
+            if (members == null || members.isEmpty()) {
+                missing.add(libraryIds.get(i));
+                continue;
+            }
+            result.put(libraryIds.get(i), members.stream()
+                    .filter(member -> !LOADED_MARKER.equals(member))
+                    .limit(TOP_K)
+                    .map(UUID::fromString)
+                    .toList());
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, List<LibraryBookRankProjection>> loaded = loader.apply(missing).stream()
+                    .collect(Collectors.groupingBy(LibraryBookRankProjection::getLibraryId));
+
+            for (UUID libraryId : missing) {
+                List<LibraryBookRankProjection> books = loaded.getOrDefault(libraryId, List.of());
+                load(libraryId, books);
+                result.put(libraryId, books.stream()
+                        .sorted(Comparator.comparingDouble(this::score).reversed())
+                        .limit(TOP_K)
+                        .map(LibraryBookRankProjection::getId)
+                        .toList());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 커밋된 변경을 이미 적재된 도서관의 순위에 반영합니다.
+     * 적재되지 않은 도서관은 다음 조회 시 DB 에서 적재되므로 건드리지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTopBooksChanged(LibraryTopBooksEvent event) {
+        String key = key(event.getLibraryId());
+        try {
+            String score = event.isRemoved()
+                    ? ""
+                    : String.valueOf(score(event.getLikeCount(), event.getTotalBorrowCount()));
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key),
+                    LOADED_MARKER, event.getLibraryBookId().toString(), score);
+        } catch (RuntimeException e) {
+            // 갱신에 실패하면 키를 지워 다음 조회 때 다시 적재되도록 함
+            log.warn("[LibraryTopBooksCache] update failed, key={}", key, e);
+            redisTemplate.delete(key);
+        }
+    }
+
+    private void load(UUID libraryId, List<LibraryBookRankProjection> books) {
+        String key = key(libraryId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of(LOADED_MARKER, -1d));
+        books.forEach(book -> tuples.add(ZSetOperations.TypedTuple.of(book.getId().toString(), score(book))));
+
+        try {
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("[LibraryTopBooksCache] load failed, key={}", key, e);
+        }
+    }
+
+    private double score(LibraryBookRankProjection book) {
+        return score(book.getLikeCount(), book.getTotalBorrowCount());
+    }
+
+    private double score(Integer likeCount, Integer totalBorrowCount) {
+        int likes = likeCount == null ? 0 : likeCount;
+        int borrows = totalBorrowCount == null ? 0 : Math.min(totalBorrowCount, 999_999);
+        return likes * LIKE_WEIGHT + borrows;
+    }
+
+    private String key(UUID libraryId) {
+        return KEY_PREFIX + libraryId;
+    }
+}
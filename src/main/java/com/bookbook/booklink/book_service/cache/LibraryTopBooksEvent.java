@@ -0,0 +1,19 @@
+package com.bookbook.booklink.book_service.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 도서관별 인기 도서 순위에 영향을 주는 변경(등록/삭제/대여/좋아요)이 있을 때 발행하는 이벤트
+ */
+@Getter
+@Builder
+public class LibraryTopBooksEvent {
+    private UUID libraryId;
+    private UUID libraryBookId;
+    private int likeCount;
+    private int totalBorrowCount;
+    private boolean removed;
+}
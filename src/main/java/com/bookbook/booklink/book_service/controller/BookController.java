@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -28,7 +29,7 @@ public class BookController implements BookApiDocs {
     private final BookService bookService;
 
     @Override
-    public ResponseEntity<BaseResponse<BookResponseDto>> getBook(
+    public CompletableFuture<ResponseEntity<BaseResponse<BookResponseDto>>> getBook(
             @PathVariable @NotNull(message = "조회할 도서의 ISBN 코드는 필수입니다.") String isbn,
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestHeader("Trace-Id") String traceId
@@ -38,13 +39,15 @@ public class BookController implements BookApiDocs {
         log.info("[BookController] [traceId = {}, userId = {}] find book request received, isbn={}",
                 traceId, userId, isbn);
 
-        BookResponseDto book = bookService.getBook(isbn, traceId, userId);
+        // 국립중앙도서관 응답을 기다리는 동안 요청 스레드를 반환하고, 완료되면 비동기 디스패치로 응답
+        return bookService.getBook(isbn, traceId, userId)
+                .thenApply(book -> {
+                    log.info("[BookController] [traceId = {}, userId = {}] find book request success, book={}",
+                            traceId, userId, book);
 
-        log.info("[BookController] [traceId = {}, userId = {}] find book request success, book={}",
-                traceId, userId, book);
-
-        return ResponseEntity.ok()
-                .body(BaseResponse.success(book));
+                    return ResponseEntity.ok()
+                            .body(BaseResponse.success(book));
+                });
     }
 
     @Override
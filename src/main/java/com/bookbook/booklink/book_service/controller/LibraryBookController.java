@@ -1,13 +1,18 @@
 package com.bookbook.booklink.book_service.controller;
 
 import com.bookbook.booklink.book_service.controller.docs.LibraryBookApiDocs;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookBulkRegisterDto;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookCursorReqDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookRegisterDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookSearchReqDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookUpdateDto;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookBulkRegisterResDto;
 import com.bookbook.booklink.book_service.model.dto.response.LibraryBookDetailResDto;
 import com.bookbook.booklink.book_service.model.dto.response.LibraryBookListDto;
+import com.bookbook.booklink.book_service.service.BookImportService;
 import com.bookbook.booklink.book_service.service.LibraryBookService;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.CursorResponse;
 import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
 import com.bookbook.booklink.library_service.service.LibraryService;
@@ -19,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.UUID;
 
@@ -30,6 +36,7 @@ public class LibraryBookController implements LibraryBookApiDocs {
     private final LibraryBookService bookService;
     private final LibraryService libraryService;
     private final LibraryBookService libraryBookService;
+    private final BookImportService bookImportService;
 
     @Override
     public ResponseEntity<BaseResponse<UUID>> registerLibraryBook(
@@ -51,6 +58,46 @@ public class LibraryBookController implements LibraryBookApiDocs {
                 .body(BaseResponse.success(savedLibraryBookId));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<LibraryBookBulkRegisterResDto>> registerLibraryBooks(
+            @Valid @RequestBody LibraryBookBulkRegisterDto bulkRegisterDto,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader("Trace-Id") String traceId
+    ) {
+        UUID userId = customUserDetails.getMember().getId();
+
+        log.info("[LibraryBookController] [traceId = {}, userId = {}] bulk register book request received, rows={}",
+                traceId, userId, bulkRegisterDto.getBooks().size());
+
+        LibraryBookBulkRegisterResDto response = bookImportService.registerLibraryBooks(
+                bulkRegisterDto.getBooks(), traceId, userId, libraryService.findByUserId(userId));
+
+        log.info("[LibraryBookController] [traceId = {}, userId = {}] bulk register book request success, created={}",
+                traceId, userId, response.getCreated());
+
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<LibraryBookBulkRegisterResDto>> registerLibraryBooksByCsv(
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader("Trace-Id") String traceId
+    ) {
+        UUID userId = customUserDetails.getMember().getId();
+
+        log.info("[LibraryBookController] [traceId = {}, userId = {}] bulk register book by csv request received, fileName={}",
+                traceId, userId, file.getOriginalFilename());
+
+        LibraryBookBulkRegisterResDto response = bookImportService.registerLibraryBooks(
+                bookImportService.parseCsv(file), traceId, userId, libraryService.findByUserId(userId));
+
+        log.info("[LibraryBookController] [traceId = {}, userId = {}] bulk register book by csv request success, created={}",
+                traceId, userId, response.getCreated());
+
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<Void>> updateLibraryBook(
             @Valid @RequestBody LibraryBookUpdateDto updateBookDto,
@@ -102,6 +149,20 @@ public class LibraryBookController implements LibraryBookApiDocs {
         );
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<CursorResponse<LibraryBookListDto>>> getLibraryBookListByCursor(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Valid @ModelAttribute LibraryBookCursorReqDto request
+    ) {
+        UUID userId = customUserDetails.getMember().getId();
+
+        CursorResponse<LibraryBookListDto> response = libraryBookService.getLibraryBookListByCursor(request, userId);
+
+        return ResponseEntity.ok(
+                BaseResponse.success(response)
+        );
+    }
+
     @Override
     public ResponseEntity<BaseResponse<LibraryBookDetailResDto>> getLibraryBookDetail(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
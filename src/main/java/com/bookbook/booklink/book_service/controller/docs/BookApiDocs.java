@@ -15,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Book API", description = "도서 등록/조회/수정 관련 API")
 @RequestMapping("/api/book")
@@ -28,7 +29,7 @@ public interface BookApiDocs {
     @ApiErrorResponses({ErrorCode.DATABASE_ERROR, ErrorCode.API_FALLBACK_FAIL, ErrorCode.INVALID_ISBN_CODE,
             ErrorCode.METHOD_UNAUTHORIZED, ErrorCode.DATA_INTEGRITY_VIOLATION})
     @GetMapping("/{isbn}")
-    public ResponseEntity<BaseResponse<BookResponseDto>> getBook(
+    public CompletableFuture<ResponseEntity<BaseResponse<BookResponseDto>>> getBook(
             @PathVariable @NotNull(message = "조회할 도서의 ISBN 코드는 필수입니다.") String isbn,
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestHeader("Trace-Id") String traceId
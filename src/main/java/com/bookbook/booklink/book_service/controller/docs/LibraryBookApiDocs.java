@@ -1,11 +1,15 @@
 package com.bookbook.booklink.book_service.controller.docs;
 
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookBulkRegisterDto;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookCursorReqDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookRegisterDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookSearchReqDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookUpdateDto;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookBulkRegisterResDto;
 import com.bookbook.booklink.book_service.model.dto.response.LibraryBookDetailResDto;
 import com.bookbook.booklink.book_service.model.dto.response.LibraryBookListDto;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.CursorResponse;
 import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.ApiErrorResponses;
 import com.bookbook.booklink.common.exception.ErrorCode;
@@ -15,9 +19,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.UUID;
 
@@ -39,6 +45,33 @@ public interface LibraryBookApiDocs {
             @RequestHeader("Trace-Id") String traceId
     );
 
+    @Operation(
+            summary = "도서 대량 등록",
+            description = "ISBN 과 보유 권수 목록으로 도서관에 도서를 한 번에 등록합니다. (최대 1000건) " +
+                    "등록되지 않은 도서는 국립중앙도서관에서 조회하여 함께 등록하며, 행별 처리 결과를 반환합니다."
+    )
+    @ApiErrorResponses({ErrorCode.DATABASE_ERROR, ErrorCode.METHOD_UNAUTHORIZED, ErrorCode.DATA_INTEGRITY_VIOLATION})
+    @PostMapping("/bulk")
+    public ResponseEntity<BaseResponse<LibraryBookBulkRegisterResDto>> registerLibraryBooks(
+            @Valid @RequestBody LibraryBookBulkRegisterDto bulkRegisterDto,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader("Trace-Id") String traceId
+    );
+
+    @Operation(
+            summary = "도서 대량 등록 (CSV)",
+            description = "CSV 파일로 도서를 한 번에 등록합니다. (최대 1000건) " +
+                    "형식 : isbn,copies[,deposit[,category[,description]]] / 첫 줄이 isbn 으로 시작하면 헤더로 간주합니다."
+    )
+    @ApiErrorResponses({ErrorCode.INVALID_BULK_FILE, ErrorCode.DATABASE_ERROR, ErrorCode.METHOD_UNAUTHORIZED,
+            ErrorCode.DATA_INTEGRITY_VIOLATION})
+    @PostMapping(value = "/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BaseResponse<LibraryBookBulkRegisterResDto>> registerLibraryBooksByCsv(
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader("Trace-Id") String traceId
+    );
+
     @Operation(
             summary = "도서관별 도서 수정",
             description = "도서관에 등록된 도서의 보증금, 보유 권수를 수정합니다."
@@ -66,7 +99,9 @@ public interface LibraryBookApiDocs {
 
     @Operation(
             summary = "도서 목록 조회 및 검색",
-            description = "위도 및 경도 / 책 제목 / 도서관 id 기반으로 도서 리스트 반환합니다."
+            description = "위도 및 경도 / 책 제목 / 도서관 id 기반으로 도서 리스트 반환합니다. " +
+                    "위도와 경도가 주어지면 검색 반경(radiusKm, 기본 5km, 최대 30km) 안의 도서관 도서만 조회하며 " +
+                    "반경 밖 도서는 전체 개수에도 포함되지 않습니다."
     )
     @ApiErrorResponses({ErrorCode.DATABASE_ERROR})
     @GetMapping
@@ -75,6 +110,19 @@ public interface LibraryBookApiDocs {
             @Valid @ModelAttribute LibraryBookSearchReqDto request
     );
 
+    @Operation(
+            summary = "도서 목록 조회 및 검색 (커서 기반)",
+            description = "도서 목록을 커서 기반으로 조회합니다. 전체 개수를 계산하지 않으며, " +
+                    "응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다. " +
+                    "위도와 경도가 주어지면 검색 반경(radiusKm, 기본 5km, 최대 30km) 안의 도서관 도서만 조회합니다."
+    )
+    @ApiErrorResponses({ErrorCode.DATABASE_ERROR, ErrorCode.INVALID_CURSOR})
+    @GetMapping("/cursor")
+    public ResponseEntity<BaseResponse<CursorResponse<LibraryBookListDto>>> getLibraryBookListByCursor(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Valid @ModelAttribute LibraryBookCursorReqDto request
+    );
+
     @Operation(
             summary = "도서 상세 조회",
             description = "도서관에 등록된 도서의 상세 정보를 조회합니다."
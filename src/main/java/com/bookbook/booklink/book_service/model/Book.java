@@ -1,6 +1,7 @@
 package com.bookbook.booklink.book_service.model;
 
 import com.bookbook.booklink.book_service.model.dto.request.BookRegisterDto;
+import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
@@ -64,8 +65,9 @@ public class Book {
     @Schema(description = "도서 정가", example = "17000", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer originalPrice;
 
+    // CounterService 의 일괄 UPDATE 로만 갱신 (변경 감지로 덮어쓰지 않음)
     @Min(0)
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     @Schema(description = "좋아요 수", example = "14", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer likeCount = 0;
@@ -74,6 +76,28 @@ public class Book {
     @Schema(description = "도서 발행일", example = "2025-09-22T12:00:00", requiredMode = Schema.RequiredMode.REQUIRED)
     private LocalDateTime publishedDate;
 
+    /**
+     * 국립중앙도서관 조회 결과로 도서를 생성합니다. (대량 등록용)
+     * 컬럼 길이를 넘는 값은 잘라서 저장하고, 정가를 해석할 수 없으면 0 으로 저장합니다.
+     */
+    public static Book fromNationalLibrary(NationalLibraryResponseDto dto, BookCategory category) {
+        String price = dto.getOriginalPrice() == null ? "" : dto.getOriginalPrice().replaceAll("[^0-9]", "");
+
+        return Book.builder()
+                .title(truncate(dto.getTitle(), 64))
+                .author(truncate(dto.getAuthor(), 16))
+                .publisher(truncate(dto.getPublisher(), 16))
+                .ISBN(dto.getIsbn())
+                .originalPrice(price.isEmpty() || price.length() > 9 ? 0 : Integer.parseInt(price))
+                .publishedDate(dto.getPublishedDate().atStartOfDay())
+                .category(category)
+                .build();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
     public static Book toEntity(BookRegisterDto dto) {
         return Book.builder()
                 .title(dto.getTitle())
@@ -1,5 +1,6 @@
 package com.bookbook.booklink.book_service.model;
 
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookBulkRowDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookRegisterDto;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
@@ -26,6 +27,10 @@ import java.util.UUID;
 @ToString
 @EntityListeners(AuditingEntityListener.class)
 @SQLRestriction("deleted_at IS NULL") // 조회 시 deleted at이 null인 것만 검색
+@Table(indexes = {
+        @Index(name = "idx_library_book_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_library_book_borrowed_count", columnList = "borrowed_count, id")
+})
 public class LibraryBook {
 
     @Id
@@ -68,6 +73,11 @@ public class LibraryBook {
     @Schema(description = "대여 가능한 도서 수", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer availableBooks;
 
+    // 도서 인스턴스의 반납 예정일로 집계 쿼리가 갱신하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(insertable = false, updatable = false)
+    @Schema(description = "대여중인 도서 중 지나지 않은 가장 빠른 반납 예정일 (대여/반납/연장/취소 시 갱신)", example = "2025-10-05T00:00:00", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private LocalDateTime nextExpectedReturnAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     @Schema(description = "도서 등록일", example = "2025-09-22T12:00:00", requiredMode = Schema.RequiredMode.REQUIRED)
@@ -118,6 +128,25 @@ public class LibraryBook {
         return libraryBook;
     }
 
+    public static LibraryBook toEntity(LibraryBookBulkRowDto row, Book book, Library library) {
+        LibraryBook libraryBook = LibraryBook.builder()
+                .description(row.getDescription())
+                .copies(0)
+                .availableBooks(0)
+                .deposit(row.getDeposit() == null ? 0 : row.getDeposit())
+                .book(book)
+                .library(library)
+                .build();
+
+        for (int i = 0; i < row.getCopies(); i++) {
+            libraryBook.addCopy();
+        }
+        if (row.getPreviewImages() != null) {
+            row.getPreviewImages().forEach(libraryBook::addImage);
+        }
+        return libraryBook;
+    }
+
     public void addCopy() {
         LibraryBookCopy copy = LibraryBookCopy.toEntity();
         copiesList.add(copy);
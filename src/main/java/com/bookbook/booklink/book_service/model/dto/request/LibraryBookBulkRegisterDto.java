@@ -0,0 +1,19 @@
+package com.bookbook.booklink.book_service.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "도서관별 도서 대량 등록 요청 DTO")
+public class LibraryBookBulkRegisterDto {
+    @Schema(description = "등록할 도서 목록 (최대 1000건)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "등록할 도서 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+    @Valid
+    List<LibraryBookBulkRowDto> books;
+}
@@ -0,0 +1,44 @@
+package com.bookbook.booklink.book_service.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "도서 대량 등록 요청의 한 행")
+public class LibraryBookBulkRowDto {
+    @Schema(description = "isbn 코드", example = "9791192300818", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "isbn 코드는 필수입니다.")
+    String isbn;
+
+    @Schema(description = "보유 권수", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "보유 권수는 필수입니다.")
+    @Min(value = 1, message = "보유 권수는 1권 이상이어야 합니다.")
+    Integer copies;
+
+    @Schema(description = "보증금", example = "1000", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 0, message = "보증금 가격은 양수여야 합니다.")
+    @Builder.Default
+    Integer deposit = 0;
+
+    @Schema(description = "도서 설명", example = "도서 상태 상급의 깨끗한 도서입니다.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    String description;
+
+    @Schema(description = "카테고리 (KDC 대분류 코드, 비어 있으면 국립중앙도서관 KDC 사용)", example = "000", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Size(min = 3, max = 3, message = "KDC(한국십진분류법) 대분류 코드는 세글자 입니다.")
+    String category;
+
+    @Schema(description = "이미지 url 목록", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    List<String> previewImages;
+}
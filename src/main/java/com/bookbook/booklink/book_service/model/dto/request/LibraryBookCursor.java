@@ -0,0 +1,54 @@
+package com.bookbook.booklink.book_service.model.dto.request;
+
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.common.util.CursorCodec;
+import com.bookbook.booklink.library_service.model.dto.response.LibraryBookListProjection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 도서 목록 커서. (정렬 기준 | 정렬 키 | 도서관별 도서 ID) 를 인코딩합니다.
+ * 정렬 기준에 해당하는 정렬 키 하나만 값이 채워집니다.
+ */
+public record LibraryBookCursor(
+        LocalDateTime createdAt,
+        Integer borrowedCount,
+        Double distance,
+        UUID id
+) {
+    private static final LibraryBookCursor FIRST_PAGE = new LibraryBookCursor(null, null, null, null);
+
+    public static LibraryBookCursor decode(String cursor, LibraryBookSortType sortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!sortType.name().equals(parts[0])) {
+            // 정렬 기준이 바뀐 커서는 사용할 수 없음
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            UUID id = UUID.fromString(parts[2]);
+            return switch (sortType) {
+                case LATEST -> new LibraryBookCursor(LocalDateTime.parse(parts[1]), null, null, id);
+                case MOST_BORROWED -> new LibraryBookCursor(null, Integer.valueOf(parts[1]), null, id);
+                case DISTANCE -> new LibraryBookCursor(null, null, Double.valueOf(parts[1]), id);
+            };
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(LibraryBookSortType sortType, LibraryBookListProjection last) {
+        Object sortKey = switch (sortType) {
+            case LATEST -> last.getCreatedAt();
+            case MOST_BORROWED -> last.getBorrowedCount();
+            case DISTANCE -> last.getDistance();
+        };
+        return CursorCodec.encode(sortType.name(), sortKey, last.getId());
+    }
+}
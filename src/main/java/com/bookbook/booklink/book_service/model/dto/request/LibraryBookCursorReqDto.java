@@ -0,0 +1,47 @@
+package com.bookbook.booklink.book_service.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Schema(description = "도서 검색/조회 커서 기반 요청 DTO")
+public class LibraryBookCursorReqDto {
+
+    @Schema(description = "위도", example = "37.48486731057572", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    Double latitude;
+
+    @Schema(description = "경도", example = "126.92841740891708", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    Double longitude;
+
+    @Schema(description = "검색 반경(km). 위도/경도가 있을 때만 적용되며, 반경 밖 도서관의 도서는 결과에서 제외됩니다. " +
+            "생략 시 5km, 최대 30km 이므로 더 먼 도서까지 보려면 값을 늘려 요청합니다.",
+            example = "5", defaultValue = "5", minimum = "0.1", maximum = "30", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @DecimalMin(value = "0.1", message = "검색 반경은 0.1km 이상이어야 합니다.")
+    @DecimalMax(value = "30.0", message = "검색 반경은 30km 이하이어야 합니다.")
+    private double radiusKm = 5.0; // 기본값 5km
+
+    @Schema(description = "도서관 ID", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    UUID libraryId;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String cursor;
+
+    @Schema(description = "페이지 크기", example = "10", defaultValue = "10", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하이어야 합니다.")
+    private int size = 10; // 기본값 10
+
+    @Schema(description = "검색어(책 제목)", example = "마흔에 읽는 쇼펜하우어", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String bookName; // 검색어 (nullable)
+
+    @Schema(description = "정렬 기준 (위도/경도가 없으면 DISTANCE 는 LATEST 로 처리)", example = "DISTANCE or LATEST or MOST_BORROWED", defaultValue = "DISTANCE", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private LibraryBookSortType sortType = LibraryBookSortType.DISTANCE; // 정렬 조건, 기본값 거리순
+}
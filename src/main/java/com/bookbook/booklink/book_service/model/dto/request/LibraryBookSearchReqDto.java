@@ -1,6 +1,8 @@
 package com.bookbook.booklink.book_service.model.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -20,6 +22,13 @@ public class LibraryBookSearchReqDto {
     @Schema(description = "경도", example = "126.92841740891708", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
     Double longitude;
 
+    @Schema(description = "검색 반경(km). 위도/경도가 있을 때만 적용되며, 반경 밖 도서관의 도서는 결과에서 제외됩니다. " +
+            "생략 시 5km, 최대 30km 이므로 더 먼 도서까지 보려면 값을 늘려 요청합니다.",
+            example = "5", defaultValue = "5", minimum = "0.1", maximum = "30", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @DecimalMin(value = "0.1", message = "검색 반경은 0.1km 이상이어야 합니다.")
+    @DecimalMax(value = "30.0", message = "검색 반경은 30km 이하이어야 합니다.")
+    private double radiusKm = 5.0; // 기본값 5km
+
     @Schema(description = "도서관 ID", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
     UUID libraryId;
 
@@ -0,0 +1,9 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+import java.util.UUID;
+
+public interface BookSearchProjection {
+    UUID getId();
+    String getTitle();
+    String getAuthor();
+}
@@ -0,0 +1,24 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "도서관별 도서 대량 등록 응답 DTO")
+public class LibraryBookBulkRegisterResDto {
+    @Schema(description = "요청 행 수", example = "100", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int requested;
+
+    @Schema(description = "등록된 행 수", example = "97", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int created;
+
+    @Schema(description = "등록되지 않은 행 수", example = "3", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int failed;
+
+    @Schema(description = "행별 처리 결과 (요청 순서)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<LibraryBookBulkRowResultDto> results;
+}
@@ -0,0 +1,27 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@Schema(description = "도서 대량 등록 행별 결과")
+public class LibraryBookBulkRowResultDto {
+    @Schema(description = "요청 행 번호 (1부터 시작)", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int row;
+
+    @Schema(description = "isbn 코드", example = "9791192300818", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String isbn;
+
+    @Schema(description = "처리 결과", example = "CREATED", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LibraryBookBulkRowStatus status;
+
+    @Schema(description = "등록된 도서관별 도서 ID", example = "550e8400-e29b-41d4-a716-446655440000", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private UUID libraryBookId;
+
+    @Schema(description = "실패 사유", example = "존재하지 않는 ISBN 코드입니다.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String message;
+}
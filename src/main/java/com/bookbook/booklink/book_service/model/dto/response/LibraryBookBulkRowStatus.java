@@ -0,0 +1,11 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+public enum LibraryBookBulkRowStatus {
+    CREATED, // 등록 성공
+    ALREADY_REGISTERED, // 이미 내 도서관에 등록된 도서
+    DUPLICATE_IN_REQUEST, // 요청 안에서 중복된 ISBN (첫 번째 행만 처리)
+    INVALID_ROW, // 입력 값 오류
+    INVALID_ISBN, // 국립중앙도서관에 없는 ISBN
+    INVALID_CATEGORY, // 카테고리를 알 수 없음
+    LOOKUP_FAILED // 국립중앙도서관 API 호출 실패
+}
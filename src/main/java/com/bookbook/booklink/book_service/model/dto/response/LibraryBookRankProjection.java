@@ -0,0 +1,10 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+import java.util.UUID;
+
+public interface LibraryBookRankProjection {
+    UUID getId();
+    UUID getLibraryId();
+    Integer getLikeCount();
+    Integer getTotalBorrowCount();
+}
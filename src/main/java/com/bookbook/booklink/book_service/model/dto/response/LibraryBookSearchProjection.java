@@ -0,0 +1,9 @@
+package com.bookbook.booklink.book_service.model.dto.response;
+
+import java.util.UUID;
+
+public interface LibraryBookSearchProjection {
+    UUID getId();
+    UUID getBookId();
+    UUID getLibraryId();
+}
@@ -29,6 +29,9 @@ public class NationalLibraryResponseDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyyMMdd")
     private LocalDate publishedDate;
 
+    @JsonProperty("KDC")
+    private String kdc;
+
     public BookResponseDto toBookResponseDto() {
         return BookResponseDto.builder()
                 .title(title)
@@ -1,9 +1,13 @@
 package com.bookbook.booklink.book_service.repository;
 
 import com.bookbook.booklink.book_service.model.Book;
+import com.bookbook.booklink.book_service.model.dto.response.BookSearchProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -12,5 +16,10 @@ public interface BookRepository extends JpaRepository<Book, UUID> {
     boolean existsByISBN(String isbn);
 
     Book findByISBN(String isbn);
+
+    List<Book> findAllByISBNIn(Collection<String> isbns);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author FROM Book b")
+    List<BookSearchProjection> findAllForSearchIndex();
 }
     
\ No newline at end of file
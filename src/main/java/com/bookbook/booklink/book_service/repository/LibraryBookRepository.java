@@ -1,19 +1,27 @@
 package com.bookbook.booklink.book_service.repository;
 
 import com.bookbook.booklink.book_service.model.LibraryBook;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookRankProjection;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookSearchProjection;
 import com.bookbook.booklink.library_service.model.dto.response.LibraryBookListProjection;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface LibraryBookRepository extends JpaRepository<LibraryBook, UUID> {
 
     // todo : image url 추가
-    @Query(value = """
+    /**
+     * 위치 정보가 없는 도서 목록 조회의 공통 SELECT / 조건 (정렬 종류별 쿼리에서 정렬, 커서 조건만 붙임)
+     * 정렬 종류마다 쿼리를 나누어 (created_at, id) / (borrowed_count, id) 인덱스 순서로 읽고 filesort 하지 않도록 합니다.
+     */
+    String LIST_SELECT = """
             SELECT
                 lb.id AS id,
                 l.name AS libraryName,
@@ -30,28 +38,115 @@ public interface LibraryBookRepository extends JpaRepository<LibraryBook, UUID>
                 lb.deposit AS deposit,
                 (lb.copies = lb.borrowed_count) AS rentedOut,
                 lb.description AS description,
+                lb.created_at AS createdAt,
                 CASE
-                    WHEN lb.copies = lb.borrowed_count THEN MIN(CASE WHEN lbc.due_at >= NOW() THEN lbc.due_at END)
+                    WHEN lb.copies = lb.borrowed_count THEN lb.next_expected_return_at
                     ELSE NULL
                 END AS expectedReturnDate,
-                CASE
-                    WHEN :lat IS NOT NULL AND :lng IS NOT NULL THEN
-                        (6371 * acos(
-                            cos(radians(:lat)) * cos(radians(l.latitude)) *
-                            cos(radians(l.longitude) - radians(:lng)) +
-                            sin(radians(:lat)) * sin(radians(l.latitude))
-                        ))
-                    ELSE NULL
-                END AS distance,
+                NULL AS distance,
                 NULL AS imageUrl
             FROM library_book lb
             JOIN book b ON lb.book_id = b.id
             JOIN library l ON lb.library_id = l.id
-            JOIN library_book_copy lbc ON lb.id = lbc.library_book_id
             WHERE lb.deleted_at IS NULL
-              AND (:bookName IS NULL OR b.title LIKE %:bookName%)
+              AND lb.copies > 0
+              AND (:searchApplied = false OR lb.id IN (:searchIds))
+              AND (:keyword IS NULL OR REPLACE(b.title, ' ', '') LIKE %:keyword% OR REPLACE(b.author, ' ', '') LIKE %:keyword%)
               AND (:libraryId IS NULL OR lb.library_id = :libraryId)
-            GROUP BY lb.id, l.name, b.title, b.author, lb.copies, lb.borrowed_count, lb.deposit, l.latitude, l.longitude
+            """;
+
+    @Query(value = LIST_SELECT + """
+            ORDER BY lb.created_at DESC, lb.id DESC
+            LIMIT :limit OFFSET :offset
+            """,
+            nativeQuery = true)
+    List<LibraryBookListProjection> findLibraryBooksLatest(
+            @Param("libraryId") UUID libraryId,
+            @Param("myLibraryId") UUID myLibraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+
+    @Query(value = LIST_SELECT + """
+            ORDER BY lb.borrowed_count DESC, lb.id DESC
+            LIMIT :limit OFFSET :offset
+            """,
+            nativeQuery = true)
+    List<LibraryBookListProjection> findLibraryBooksMostBorrowed(
+            @Param("libraryId") UUID libraryId,
+            @Param("myLibraryId") UUID myLibraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+
+    @Query(value = """
+            SELECT COUNT(*)
+            FROM library_book lb
+            WHERE lb.deleted_at IS NULL
+              AND lb.copies > 0
+              AND (:searchApplied = false OR lb.id IN (:searchIds))
+              AND (:keyword IS NULL OR EXISTS (SELECT 1 FROM book b WHERE b.id = lb.book_id
+                   AND (REPLACE(b.title, ' ', '') LIKE %:keyword% OR REPLACE(b.author, ' ', '') LIKE %:keyword%)))
+              AND (:libraryId IS NULL OR lb.library_id = :libraryId)
+            """,
+            nativeQuery = true)
+    long countLibraryBooksBySearch(
+            @Param("libraryId") UUID libraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword
+    );
+
+    /**
+     * 위치 기반 도서 목록 조회.
+     * geohash 격자와 bounding box 로 도서관 후보를 먼저 좁힌 뒤, 후보에 대해서만 정확한 거리를 계산합니다.
+     */
+    @Query(value = """
+            SELECT
+                lb.id AS id,
+                l.name AS libraryName,
+                CASE
+                    WHEN :myLibraryId IS NOT NULL
+                        AND l.id = :myLibraryId
+                    THEN true
+                    ELSE false
+                END AS mine,
+                b.title AS title,
+                b.author AS author,
+                lb.copies AS copies,
+                lb.borrowed_count AS borrowedCount,
+                lb.deposit AS deposit,
+                (lb.copies = lb.borrowed_count) AS rentedOut,
+                lb.description AS description,
+                lb.created_at AS createdAt,
+                CASE
+                    WHEN lb.copies = lb.borrowed_count THEN lb.next_expected_return_at
+                    ELSE NULL
+                END AS expectedReturnDate,
+                (6371 * acos(
+                    cos(radians(:lat)) * cos(radians(l.latitude)) *
+                    cos(radians(l.longitude) - radians(:lng)) +
+                    sin(radians(:lat)) * sin(radians(l.latitude))
+                )) AS distance,
+                NULL AS imageUrl
+            FROM library l
+            JOIN library_book lb ON lb.library_id = l.id
+            JOIN book b ON lb.book_id = b.id
+            WHERE l.geohash IN (:cells)
+              AND l.latitude BETWEEN :minLat AND :maxLat
+              AND l.longitude BETWEEN :minLng AND :maxLng
+              AND lb.deleted_at IS NULL
+              AND lb.copies > 0
+              AND (:searchApplied = false OR lb.id IN (:searchIds))
+              AND (:keyword IS NULL OR REPLACE(b.title, ' ', '') LIKE %:keyword% OR REPLACE(b.author, ' ', '') LIKE %:keyword%)
+              AND (:libraryId IS NULL OR lb.library_id = :libraryId)
+            HAVING distance <= :radius
             ORDER BY
                 CASE WHEN :sortType = 'LATEST' THEN lb.created_at END DESC,
                 CASE WHEN :sortType = 'MOST_BORROWED' THEN lb.borrowed_count END DESC,
@@ -59,47 +154,246 @@ public interface LibraryBookRepository extends JpaRepository<LibraryBook, UUID>
             LIMIT :limit OFFSET :offset
             """,
             nativeQuery = true)
-    List<LibraryBookListProjection> findLibraryBooksBySearch(
-            @Param("lat") Double lat,
-            @Param("lng") Double lng,
-            @Param("libraryId")  UUID libraryId,
+    List<LibraryBookListProjection> findLibraryBooksNearby(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radius") double radius,
+            @Param("cells") List<String> cells,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
+            @Param("libraryId") UUID libraryId,
             @Param("myLibraryId") UUID myLibraryId,
-            @Param("bookName") String bookName,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
             @Param("sortType") String sortType,
             @Param("limit") int limit,
             @Param("offset") int offset
     );
 
     @Query(value = """
-            SELECT COUNT(DISTINCT lb.id)
-            FROM library_book lb
+            SELECT COUNT(*)
+            FROM library l
+            JOIN library_book lb ON lb.library_id = l.id
+            WHERE l.geohash IN (:cells)
+              AND l.latitude BETWEEN :minLat AND :maxLat
+              AND l.longitude BETWEEN :minLng AND :maxLng
+              AND lb.deleted_at IS NULL
+              AND lb.copies > 0
+              AND (:searchApplied = false OR lb.id IN (:searchIds))
+              AND (:keyword IS NULL OR EXISTS (SELECT 1 FROM book b WHERE b.id = lb.book_id
+                   AND (REPLACE(b.title, ' ', '') LIKE %:keyword% OR REPLACE(b.author, ' ', '') LIKE %:keyword%)))
+              AND (:libraryId IS NULL OR lb.library_id = :libraryId)
+              AND (6371 * acos(
+                    cos(radians(:lat)) * cos(radians(l.latitude)) *
+                    cos(radians(l.longitude) - radians(:lng)) +
+                    sin(radians(:lat)) * sin(radians(l.latitude))
+                  )) <= :radius
+            """,
+            nativeQuery = true)
+    long countLibraryBooksNearby(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radius") double radius,
+            @Param("cells") List<String> cells,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
+            @Param("libraryId") UUID libraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword
+    );
+
+    /**
+     * 최신순 커서(keyset) 도서 목록 조회. OFFSET 과 COUNT 없이 (created_at, id) 이후의 행만 조회합니다.
+     * 커서 조건을 created_at 범위 조건으로 풀어 써서 (created_at, id) 인덱스를 범위 탐색에 사용할 수 있도록 합니다.
+     */
+    @Query(value = LIST_SELECT + """
+              AND (:cursorId IS NULL
+                   OR (lb.created_at <= :cursorCreatedAt
+                       AND (lb.created_at < :cursorCreatedAt OR lb.id < :cursorId)))
+            ORDER BY lb.created_at DESC, lb.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<LibraryBookListProjection> findLibraryBooksLatestByCursor(
+            @Param("libraryId") UUID libraryId,
+            @Param("myLibraryId") UUID myLibraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 대여 많은 순 커서(keyset) 도서 목록 조회. (borrowed_count, id) 이후의 행만 조회합니다.
+     */
+    @Query(value = LIST_SELECT + """
+              AND (:cursorId IS NULL
+                   OR (lb.borrowed_count <= :cursorBorrowedCount
+                       AND (lb.borrowed_count < :cursorBorrowedCount OR lb.id < :cursorId)))
+            ORDER BY lb.borrowed_count DESC, lb.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<LibraryBookListProjection> findLibraryBooksMostBorrowedByCursor(
+            @Param("libraryId") UUID libraryId,
+            @Param("myLibraryId") UUID myLibraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
+            @Param("cursorBorrowedCount") Integer cursorBorrowedCount,
+            @Param("cursorId") UUID cursorId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 위치 기반 커서(keyset) 도서 목록 조회.
+     * 거리 정렬은 계산된 거리 값을 사용하므로 HAVING 절에서 커서 조건을 적용합니다.
+     */
+    @Query(value = """
+            SELECT
+                lb.id AS id,
+                l.name AS libraryName,
+                CASE
+                    WHEN :myLibraryId IS NOT NULL
+                        AND l.id = :myLibraryId
+                    THEN true
+                    ELSE false
+                END AS mine,
+                b.title AS title,
+                b.author AS author,
+                lb.copies AS copies,
+                lb.borrowed_count AS borrowedCount,
+                lb.deposit AS deposit,
+                (lb.copies = lb.borrowed_count) AS rentedOut,
+                lb.description AS description,
+                lb.created_at AS createdAt,
+                CASE
+                    WHEN lb.copies = lb.borrowed_count THEN lb.next_expected_return_at
+                    ELSE NULL
+                END AS expectedReturnDate,
+                (6371 * acos(
+                    cos(radians(:lat)) * cos(radians(l.latitude)) *
+                    cos(radians(l.longitude) - radians(:lng)) +
+                    sin(radians(:lat)) * sin(radians(l.latitude))
+                )) AS distance,
+                NULL AS imageUrl
+            FROM library l
+            JOIN library_book lb ON lb.library_id = l.id
             JOIN book b ON lb.book_id = b.id
-            JOIN library l ON lb.library_id = l.id
-            JOIN library_book_copy lbc ON lb.id = lbc.library_book_id
-            WHERE lb.deleted_at IS NULL
-              AND (:bookName IS NULL OR b.title LIKE %:bookName%)
+            WHERE l.geohash IN (:cells)
+              AND l.latitude BETWEEN :minLat AND :maxLat
+              AND l.longitude BETWEEN :minLng AND :maxLng
+              AND lb.deleted_at IS NULL
+              AND lb.copies > 0
+              AND (:searchApplied = false OR lb.id IN (:searchIds))
+              AND (:keyword IS NULL OR REPLACE(b.title, ' ', '') LIKE %:keyword% OR REPLACE(b.author, ' ', '') LIKE %:keyword%)
               AND (:libraryId IS NULL OR lb.library_id = :libraryId)
+              AND (:cursorId IS NULL
+                   OR (:sortType = 'LATEST'
+                       AND (lb.created_at < :cursorCreatedAt
+                            OR (lb.created_at = :cursorCreatedAt AND lb.id < :cursorId)))
+                   OR (:sortType = 'MOST_BORROWED'
+                       AND (lb.borrowed_count < :cursorBorrowedCount
+                            OR (lb.borrowed_count = :cursorBorrowedCount AND lb.id < :cursorId)))
+                   OR :sortType = 'DISTANCE')
+            HAVING distance <= :radius
+               AND (:cursorId IS NULL
+                    OR :sortType <> 'DISTANCE'
+                    OR distance > :cursorDistance
+                    OR (distance = :cursorDistance AND lb.id > :cursorId))
+            ORDER BY
+                CASE WHEN :sortType = 'LATEST' THEN lb.created_at END DESC,
+                CASE WHEN :sortType = 'MOST_BORROWED' THEN lb.borrowed_count END DESC,
+                CASE WHEN :sortType = 'DISTANCE' THEN distance END ASC,
+                CASE WHEN :sortType = 'DISTANCE' THEN lb.id END ASC,
+                lb.id DESC
+            LIMIT :limit
             """,
             nativeQuery = true)
-    long countLibraryBooksBySearch(
+    List<LibraryBookListProjection> findLibraryBooksNearbyByCursor(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radius") double radius,
+            @Param("cells") List<String> cells,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
             @Param("libraryId") UUID libraryId,
-            @Param("bookName") String bookName
+            @Param("myLibraryId") UUID myLibraryId,
+            @Param("searchApplied") boolean searchApplied,
+            @Param("searchIds") Collection<UUID> searchIds,
+            @Param("keyword") String keyword,
+            @Param("sortType") String sortType,
+            @Param("cursorDistance") Double cursorDistance,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorBorrowedCount") Integer cursorBorrowedCount,
+            @Param("cursorId") UUID cursorId,
+            @Param("limit") int limit
     );
 
-    @Query("SELECT lb " +
-            "FROM LibraryBook lb " +
-            "JOIN FETCH lb.book b " +
-            "WHERE lb.library.id = :libraryId " +
-            "ORDER BY b.likeCount DESC")
-    List<LibraryBook> findTop5BooksByLibraryOrderByLikeCount(@Param("libraryId") UUID libraryId, Pageable pageable);
+    /**
+     * 도서 한 권의 next_expected_return_at 을 대여중인 도서 인스턴스의 반납 예정일 중 지나지 않은 가장 빠른 날짜로 갱신합니다.
+     * 대여/반납/연장/취소로 바뀐 도서 인스턴스 상태가 먼저 반영되도록 실행 전에 flush 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE library_book lb
+            SET lb.next_expected_return_at = (
+                SELECT MIN(lbc.due_at)
+                FROM library_book_copy lbc
+                WHERE lbc.library_book_id = lb.id
+                  AND lbc.status IN ('BORROWED', 'EXTENDED')
+                  AND lbc.due_at >= NOW()
+            )
+            WHERE lb.id = :libraryBookId
+            """,
+            nativeQuery = true)
+    int refreshNextExpectedReturnAt(@Param("libraryBookId") UUID libraryBookId);
+
+    /**
+     * 모든 도서의 next_expected_return_at 을 도서 인스턴스의 반납 예정일로부터 다시 계산합니다.
+     * 대여/반납/연장/취소 시 도서별로 갱신되지만, 기존 데이터 보정 및 반납 예정일이 지난 도서 반영을 위해 주기적으로 실행합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE library_book lb
+            SET lb.next_expected_return_at = (
+                SELECT MIN(lbc.due_at)
+                FROM library_book_copy lbc
+                WHERE lbc.library_book_id = lb.id
+                  AND lbc.status IN ('BORROWED', 'EXTENDED')
+                  AND lbc.due_at >= NOW()
+            )
+            WHERE lb.borrowed_count > 0
+               OR lb.next_expected_return_at IS NOT NULL
+            """,
+            nativeQuery = true)
+    int syncNextExpectedReturnAt();
+
+    @Query("SELECT lb.id AS id, lb.book.id AS bookId, lb.library.id AS libraryId FROM LibraryBook lb")
+    List<LibraryBookSearchProjection> findAllForSearchIndex();
+
+    @Query("SELECT lb.book.id FROM LibraryBook lb WHERE lb.library.id = :libraryId AND lb.book.id IN :bookIds")
+    List<UUID> findRegisteredBookIds(@Param("libraryId") UUID libraryId, @Param("bookIds") Collection<UUID> bookIds);
 
     @Query("""
-                SELECT lb
+                SELECT lb.id AS id, lb.library.id AS libraryId,
+                       lb.book.likeCount AS likeCount, lb.totalBorrowCount AS totalBorrowCount
                 FROM LibraryBook lb
-                JOIN FETCH lb.book b
                 WHERE lb.library.id IN :libraryIds
-                ORDER BY lb.library.id, lb.book.likeCount DESC
             """)
-    List<LibraryBook> findTopBooksByLibraryIds(@Param("libraryIds") List<UUID> libraryIds);
+    List<LibraryBookRankProjection> findRankingByLibraryIds(@Param("libraryIds") List<UUID> libraryIds);
+
+    @Query("SELECT lb FROM LibraryBook lb JOIN FETCH lb.book WHERE lb.id IN :ids")
+    List<LibraryBook> findAllWithBookByIdIn(@Param("ids") Collection<UUID> ids);
 }
     
\ No newline at end of file
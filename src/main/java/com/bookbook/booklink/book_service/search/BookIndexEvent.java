@@ -0,0 +1,17 @@
+package com.bookbook.booklink.book_service.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 새 도서가 등록되어 검색 색인에 추가해야 할 때 발행하는 이벤트
+ */
+@Getter
+@Builder
+public class BookIndexEvent {
+    private UUID bookId;
+    private String title;
+    private String author;
+}
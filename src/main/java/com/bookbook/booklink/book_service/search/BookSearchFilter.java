@@ -0,0 +1,47 @@
+package com.bookbook.booklink.book_service.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 목록 조회 쿼리에 전달할 검색 조건.
+ *
+ * @param applied 색인 검색 결과(ids)로 거르는지 여부
+ * @param ids     색인 검색 결과 (일치하는 도서관별 도서 ID 전체)
+ * @param keyword 색인 결과가 너무 많아 DB 에서 제목/저자로 직접 거를 검색어 (색인과 같이 정규화되어 공백이 없음, 그 외에는 null)
+ */
+public record BookSearchFilter(boolean applied, List<UUID> ids, String keyword) {
+
+    // SQL IN 절은 빈 목록을 허용하지 않으므로, 검색하지 않을 때에는 사용되지 않는 값 하나를 전달
+    private static final List<UUID> PLACEHOLDER = List.of(new UUID(0L, 0L));
+
+    public static BookSearchFilter none() {
+        return new BookSearchFilter(false, List.of(), null);
+    }
+
+    public static BookSearchFilter of(List<UUID> ids) {
+        return new BookSearchFilter(true, ids, null);
+    }
+
+    public static BookSearchFilter keyword(String keyword) {
+        return new BookSearchFilter(false, List.of(), keyword);
+    }
+
+    /**
+     * 검색어로 거르는지 여부 (색인 결과 또는 DB 검색어 조건)
+     */
+    public boolean searching() {
+        return applied || keyword != null;
+    }
+
+    /**
+     * 검색어가 있지만 일치하는 도서가 없는 경우
+     */
+    public boolean noMatch() {
+        return applied && ids.isEmpty();
+    }
+
+    public List<UUID> queryIds() {
+        return ids.isEmpty() ? PLACEHOLDER : ids;
+    }
+}
@@ -0,0 +1,218 @@
+package com.bookbook.booklink.book_service.search;
+
+import com.bookbook.booklink.book_service.repository.BookRepository;
+import com.bookbook.booklink.book_service.repository.LibraryBookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 도서 제목/저자 검색용 인메모리 역색인(inverted index)입니다.
+ *
+ * <p>제목과 저자를 정규화(소문자, 공백 제거)한 뒤 1-gram / 2-gram 으로 나누어 색인합니다.
+ * 한글 제목은 띄어쓰기가 일정하지 않아 형태소 대신 n-gram 을 사용합니다.
+ * 검색어의 모든 n-gram 을 포함하는 도서만 후보로 삼고, 실제 부분 문자열 일치 여부로 한 번 더 거릅니다.
+ * 위치, 삭제 여부, 정렬, 페이지 처리는 목록 쿼리가 담당하므로 색인은 일치하는 도서관별 도서 ID 를 모두 넘깁니다.
+ * 일치하는 ID 가 max-query-ids 개를 넘으면(매우 짧은 검색어) 큰 IN 절 대신 DB 에서 정규화한 검색어로 직접 거르도록 합니다.
+ * 이때 목록 쿼리는 제목/저자의 공백을 지운 값과 비교하므로 색인 검색과 같은 도서가 일치합니다.</p>
+ *
+ * <p>기동 시 DB 로부터 전체를 적재하고, 도서 등록 / 도서관별 도서 등록·삭제 시
+ * {@link BookSearchIndexListener} 를 통해 커밋 이후 갱신됩니다.
+ * 다른 인스턴스에서 발생한 변경을 반영하기 위해 주기적으로 전체를 다시 적재하며,
+ * 다시 적재하는 동안 들어온 변경은 모아 두었다가 새 색인에도 적용한 뒤 교체합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private final BookRepository bookRepository;
+    private final LibraryBookRepository libraryBookRepository;
+
+    // 목록 쿼리(목록 + 개수)의 IN 절로 넘길 최대 ID 수
+    @Value("${book-search.max-query-ids:1000}")
+    private int maxQueryIds;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    // 다시 적재하는 동안 들어온 변경 (적재 중이 아니면 null)
+    private List<Consumer<Snapshot>> pendingChanges;
+
+    /**
+     * 검색어에 일치하는 도서관별 도서로 목록 쿼리의 검색 조건을 만듭니다.
+     *
+     * @param keyword   검색어 (제목 또는 저자)
+     * @param libraryId 특정 도서관으로 제한할 경우 도서관 ID (nullable)
+     * @return 일치하는 도서관별 도서 ID 전체, 또는 max-query-ids 개를 넘으면 정규화한 검색어로 거르는 DB 검색어 조건
+     */
+    public BookSearchFilter search(String keyword, UUID libraryId) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return BookSearchFilter.of(List.of());
+        }
+
+        Snapshot current = snapshot;
+        List<String> grams = query.length() == 1 ? List.of(query) : bigrams(query);
+
+        // posting 이 가장 짧은 gram 부터 교집합
+        List<Set<UUID>> postings = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<UUID> posting = current.postings.get(gram);
+            if (posting == null) {
+                return BookSearchFilter.of(List.of());
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        // 순위는 목록 쿼리의 정렬(sortType)로 다시 정해지므로 매기지 않음
+        List<UUID> result = new ArrayList<>();
+        for (UUID bookId : postings.get(0)) {
+            if (!containsAll(postings, bookId)) continue;
+
+            BookDoc doc = current.books.get(bookId);
+            if (doc == null || !(doc.title().contains(query) || doc.author().contains(query))) continue;
+
+            Map<UUID, UUID> libraryBooks = current.libraryBooks.getOrDefault(bookId, Map.of());
+            for (Map.Entry<UUID, UUID> entry : libraryBooks.entrySet()) {
+                if (libraryId != null && !libraryId.equals(entry.getValue())) continue;
+                result.add(entry.getKey());
+                if (result.size() > maxQueryIds) {
+                    return BookSearchFilter.keyword(query);
+                }
+            }
+        }
+        return BookSearchFilter.of(result);
+    }
+
+    public void indexBook(UUID bookId, String title, String author) {
+        apply(index -> index.addBook(bookId, title, author));
+    }
+
+    public void indexLibraryBook(UUID libraryBookId, UUID bookId, UUID libraryId) {
+        apply(index -> index.addLibraryBook(libraryBookId, bookId, libraryId));
+    }
+
+    public void removeLibraryBook(UUID libraryBookId, UUID bookId) {
+        apply(index -> index.removeLibraryBook(libraryBookId, bookId));
+    }
+
+    /**
+     * DB 로부터 색인을 새로 만들어 교체합니다.
+     * 적재를 시작한 뒤 들어온 변경은 적재 결과에 빠져 있을 수 있으므로 교체 전에 새 색인에 다시 적용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${book-search.rebuild-interval-ms:3600000}", initialDelayString = "${book-search.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+
+        Snapshot fresh = new Snapshot();
+        try {
+            bookRepository.findAllForSearchIndex()
+                    .forEach(b -> fresh.addBook(b.getId(), b.getTitle(), b.getAuthor()));
+            libraryBookRepository.findAllForSearchIndex()
+                    .forEach(lb -> fresh.addLibraryBook(lb.getId(), lb.getBookId(), lb.getLibraryId()));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        int replayed;
+        synchronized (this) {
+            replayed = pendingChanges.size();
+            pendingChanges.forEach(change -> change.accept(fresh));
+            snapshot = fresh;
+            pendingChanges = null;
+        }
+
+        log.info("[BookSearchIndex] rebuild success, books={}, grams={}, replayed={}",
+                fresh.books.size(), fresh.postings.size(), replayed);
+    }
+
+    private synchronized void apply(Consumer<Snapshot> change) {
+        change.accept(snapshot);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private static List<String> bigrams(String text) {
+        List<String> grams = new ArrayList<>(text.length() - 1);
+        for (int i = 0; i < text.length() - 1; i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static boolean containsAll(List<Set<UUID>> postings, UUID bookId) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(bookId)) return false;
+        }
+        return true;
+    }
+
+    private record BookDoc(String title, String author) {
+    }
+
+    private static class Snapshot {
+        private final Map<UUID, BookDoc> books = new ConcurrentHashMap<>();
+        private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+        // bookId -> (libraryBookId -> libraryId)
+        private final Map<UUID, Map<UUID, UUID>> libraryBooks = new ConcurrentHashMap<>();
+
+        private void addBook(UUID bookId, String title, String author) {
+            BookDoc doc = new BookDoc(normalize(title), normalize(author));
+            books.put(bookId, doc);
+
+            Set<String> grams = new HashSet<>();
+            for (String text : List.of(doc.title(), doc.author())) {
+                for (int i = 0; i < text.length(); i++) {
+                    grams.add(text.substring(i, i + 1));
+                    if (i + 2 <= text.length()) {
+                        grams.add(text.substring(i, i + 2));
+                    }
+                }
+            }
+            grams.forEach(gram -> postings
+                    .computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet())
+                    .add(bookId));
+        }
+
+        private void addLibraryBook(UUID libraryBookId, UUID bookId, UUID libraryId) {
+            libraryBooks.computeIfAbsent(bookId, k -> new ConcurrentHashMap<>()).put(libraryBookId, libraryId);
+        }
+
+        private void removeLibraryBook(UUID libraryBookId, UUID bookId) {
+            Map<UUID, UUID> books = libraryBooks.get(bookId);
+            if (books != null) {
+                books.remove(libraryBookId);
+            }
+        }
+    }
+}
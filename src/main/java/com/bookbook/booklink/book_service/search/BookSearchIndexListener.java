@@ -0,0 +1,29 @@
+package com.bookbook.booklink.book_service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 트랜잭션이 커밋된 이후에만 검색 색인에 반영합니다. (롤백된 변경은 색인되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+    private final BookSearchIndex bookSearchIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookSaved(BookIndexEvent event) {
+        bookSearchIndex.indexBook(event.getBookId(), event.getTitle(), event.getAuthor());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLibraryBookChanged(LibraryBookIndexEvent event) {
+        if (event.isDeleted()) {
+            bookSearchIndex.removeLibraryBook(event.getLibraryBookId(), event.getBookId());
+        } else {
+            bookSearchIndex.indexLibraryBook(event.getLibraryBookId(), event.getBookId(), event.getLibraryId());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bookbook.booklink.book_service.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 도서관별 도서가 등록/삭제되어 검색 색인을 갱신해야 할 때 발행하는 이벤트
+ */
+@Getter
+@Builder
+public class LibraryBookIndexEvent {
+    private UUID libraryBookId;
+    private UUID bookId;
+    private UUID libraryId;
+    private boolean deleted;
+}
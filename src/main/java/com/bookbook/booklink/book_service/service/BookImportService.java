@@ -0,0 +1,299 @@
+package com.bookbook.booklink.book_service.service;
+
+import com.bookbook.booklink.book_service.cache.IsbnLookupCache;
+import com.bookbook.booklink.book_service.model.Book;
+import com.bookbook.booklink.book_service.model.BookCategory;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookBulkRowDto;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookBulkRegisterResDto;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookBulkRowResultDto;
+import com.bookbook.booklink.book_service.model.dto.response.LibraryBookBulkRowStatus;
+import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
+import com.bookbook.booklink.book_service.repository.BookRepository;
+import com.bookbook.booklink.common.event.LockEvent;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.common.service.IdempotencyService;
+import com.bookbook.booklink.library_service.model.Library;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도서관별 도서 대량 등록 서비스
+ *
+ * <p>ISBN 목록을 받아 (1) 요청 내 중복 제거 → (2) 기존 도서 한 번에 조회 → (3) 없는 도서만 ISBN 캐시/국립중앙도서관 병렬 조회
+ * → (4) 이미 내 도서관에 등록된 도서 제외 → (5) 나머지를 한 트랜잭션에서 배치 저장하고, 행별 결과를 반환합니다.</p>
+ *
+ * <p>외부 API 조회는 트랜잭션 밖에서 수행하여 조회 대기 동안 DB 커넥션을 점유하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookImportService {
+
+    public static final int MAX_ROWS = 1000;
+
+    private final BookRepository bookRepository;
+    private final NationalLibraryService nationalLibraryService;
+    private final IsbnLookupCache isbnLookupCache;
+    private final LibraryBookService libraryBookService;
+    private final IdempotencyService idempotencyService;
+
+    @Value("${book-import.lookup-concurrency:8}")
+    private int lookupConcurrency;
+
+    public LibraryBookBulkRegisterResDto registerLibraryBooks(List<LibraryBookBulkRowDto> rows, String traceId, UUID userId, Library library) {
+        log.info("[BookImportService] [traceId = {}, userId = {}] bulk register initiate rows={}", traceId, userId, rows.size());
+
+        // 멱등성 체크
+        String key = "library-book:bulk-register:" + traceId;
+        idempotencyService.checkIdempotency(key, 1,
+                () -> LockEvent.builder().key(key).build());
+
+        LibraryBookBulkRowResultDto[] results = new LibraryBookBulkRowResultDto[rows.size()];
+
+        // 1. 행 검증 및 요청 내 중복 제거 (ISBN 별 첫 번째 행만 처리)
+        Map<String, Integer> rowByIsbn = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            LibraryBookBulkRowDto row = rows.get(i);
+            String isbn = normalizeIsbn(row.getIsbn());
+            String invalidReason = validate(row, isbn);
+
+            if (invalidReason != null) {
+                results[i] = result(i, row.getIsbn(), LibraryBookBulkRowStatus.INVALID_ROW, null, invalidReason);
+            } else if (rowByIsbn.putIfAbsent(isbn, i) != null) {
+                results[i] = result(i, isbn, LibraryBookBulkRowStatus.DUPLICATE_IN_REQUEST, null, "요청 " + (rowByIsbn.get(isbn) + 1) + "번째 행과 중복된 ISBN 입니다.");
+            }
+        }
+
+        // 2. 이미 등록된 도서는 한 번의 쿼리로 조회
+        Map<String, Book> books = bookRepository.findAllByISBNIn(rowByIsbn.keySet()).stream()
+                .collect(Collectors.toMap(Book::getISBN, Function.identity()));
+
+        // 3. 없는 도서만 국립중앙도서관 조회 (캐시 우선, 병렬)
+        List<String> missing = rowByIsbn.keySet().stream()
+                .filter(isbn -> !books.containsKey(isbn))
+                .toList();
+        Map<String, NationalLibraryResponseDto> metadata = lookupAll(missing, rowByIsbn, results, traceId, userId);
+
+        for (Map.Entry<String, NationalLibraryResponseDto> entry : metadata.entrySet()) {
+            int index = rowByIsbn.get(entry.getKey());
+            Book book = toBook(entry.getValue(), rows.get(index), index, results);
+            if (book != null) {
+                books.put(entry.getKey(), book);
+            }
+        }
+
+        // 4. 이미 내 도서관에 등록된 도서 제외
+        Set<UUID> registered = libraryBookService.findRegisteredBookIds(library.getId(), books.values().stream()
+                .map(Book::getId)
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<Integer> targetIndexes = new ArrayList<>();
+        List<LibraryBookBulkRowDto> targetRows = new ArrayList<>();
+        List<Book> targetBooks = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : rowByIsbn.entrySet()) {
+            int index = entry.getValue();
+            Book book = books.get(entry.getKey());
+            if (results[index] != null || book == null) {
+                continue;
+            }
+            if (book.getId() != null && registered.contains(book.getId())) {
+                results[index] = result(index, entry.getKey(), LibraryBookBulkRowStatus.ALREADY_REGISTERED, null, "이미 내 도서관에 등록된 도서입니다.");
+                continue;
+            }
+            targetIndexes.add(index);
+            targetRows.add(rows.get(index));
+            targetBooks.add(book);
+        }
+
+        // 5. 배치 저장
+        if (!targetRows.isEmpty()) {
+            List<UUID> libraryBookIds = libraryBookService.registerLibraryBooksInBatch(targetRows, targetBooks, library, traceId, userId);
+            for (int i = 0; i < targetIndexes.size(); i++) {
+                int index = targetIndexes.get(i);
+                results[index] = result(index, targetBooks.get(i).getISBN(), LibraryBookBulkRowStatus.CREATED, libraryBookIds.get(i), null);
+            }
+        }
+
+        List<LibraryBookBulkRowResultDto> resultList = Arrays.asList(results);
+        int created = (int) resultList.stream()
+                .filter(r -> r.getStatus() == LibraryBookBulkRowStatus.CREATED)
+                .count();
+
+        log.info("[BookImportService] [traceId = {}, userId = {}] bulk register success rows={}, created={}, lookedUp={}",
+                traceId, userId, rows.size(), created, missing.size());
+
+        return LibraryBookBulkRegisterResDto.builder()
+                .requested(rows.size())
+                .created(created)
+                .failed(rows.size() - created)
+                .results(resultList)
+                .build();
+    }
+
+    /**
+     * CSV 파일을 대량 등록 행 목록으로 변환합니다.
+     * 형식 : isbn,copies[,deposit[,category[,description]]] (첫 줄이 헤더이면 건너뜀, description 은 쉼표 포함 가능)
+     */
+    public List<LibraryBookBulkRowDto> parseCsv(MultipartFile file) {
+        List<LibraryBookBulkRowDto> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (first) {
+                    first = false;
+                    line = line.replace("\uFEFF", "");
+                    if (line.toLowerCase().startsWith("isbn")) {
+                        continue;
+                    }
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rows.size() >= MAX_ROWS) {
+                    throw new CustomException(ErrorCode.INVALID_BULK_FILE);
+                }
+
+                String[] cols = line.split(",", 5);
+                rows.add(LibraryBookBulkRowDto.builder()
+                        .isbn(cols[0].trim())
+                        .copies(parseInt(cols, 1))
+                        .deposit(cols.length > 2 && !cols[2].isBlank() ? parseInt(cols, 2) : Integer.valueOf(0))
+                        .category(cols.length > 3 && !cols[3].isBlank() ? cols[3].trim() : null)
+                        .description(cols.length > 4 ? cols[4].trim() : null)
+                        .build());
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_BULK_FILE);
+        }
+
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_BULK_FILE);
+        }
+        return rows;
+    }
+
+    private Map<String, NationalLibraryResponseDto> lookupAll(List<String> isbns, Map<String, Integer> rowByIsbn,
+                                                             LibraryBookBulkRowResultDto[] results, String traceId, UUID userId) {
+        Map<String, NationalLibraryResponseDto> metadata = new LinkedHashMap<>();
+        if (isbns.isEmpty()) {
+            return metadata;
+        }
+
+        // 국립중앙도서관 동시 호출 상한을 넘지 않도록 대량 등록 쪽에서도 동시 조회 수를 제한
+        Semaphore limit = new Semaphore(lookupConcurrency);
+        Map<String, Future<NationalLibraryResponseDto>> futures = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String isbn : isbns) {
+                futures.put(isbn, executor.submit(() -> {
+                    limit.acquire();
+                    try {
+                        // 동시 조회 수 제한을 지키도록 가상 스레드에서 결과를 기다린 뒤 허용량을 반환
+                        return isbnLookupCache.get(isbn,
+                                () -> nationalLibraryService.searchBookByIsbnAsync(isbn, traceId, userId)).get();
+                    } catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception cause ? cause : e;
+                    } finally {
+                        limit.release();
+                    }
+                }));
+            }
+
+            for (Map.Entry<String, Future<NationalLibraryResponseDto>> entry : futures.entrySet()) {
+                String isbn = entry.getKey();
+                int index = rowByIsbn.get(isbn);
+                try {
+                    metadata.put(isbn, entry.getValue().get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CustomException ce && ce.getErrorCode() == ErrorCode.INVALID_ISBN_CODE) {
+                        results[index] = result(index, isbn, LibraryBookBulkRowStatus.INVALID_ISBN, null, ErrorCode.INVALID_ISBN_CODE.getMessage());
+                    } else {
+                        log.warn("[BookImportService] [traceId = {}, userId = {}] lookup failed isbn={}", traceId, userId, isbn, e.getCause());
+                        results[index] = result(index, isbn, LibraryBookBulkRowStatus.LOOKUP_FAILED, null, ErrorCode.API_FALLBACK_FAIL.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CustomException(ErrorCode.API_FALLBACK_FAIL);
+                }
+            }
+        }
+        return metadata;
+    }
+
+    private Book toBook(NationalLibraryResponseDto dto, LibraryBookBulkRowDto row, int index, LibraryBookBulkRowResultDto[] results) {
+        if (dto.getTitle() == null || dto.getAuthor() == null || dto.getPublisher() == null || dto.getPublishedDate() == null) {
+            results[index] = result(index, dto.getIsbn(), LibraryBookBulkRowStatus.INVALID_ISBN, null, "국립중앙도서관 도서 정보가 충분하지 않습니다.");
+            return null;
+        }
+
+        // 요청에 카테고리가 없으면 국립중앙도서관 KDC 의 대분류 사용
+        String categoryCode = row.getCategory();
+        if (categoryCode == null && dto.getKdc() != null && !dto.getKdc().isBlank()) {
+            categoryCode = dto.getKdc().trim().charAt(0) + "00";
+        }
+        try {
+            return Book.fromNationalLibrary(dto, BookCategory.getByCode(categoryCode));
+        } catch (CustomException e) {
+            results[index] = result(index, dto.getIsbn(), LibraryBookBulkRowStatus.INVALID_CATEGORY, null, ErrorCode.INVALID_CATEGORY_CODE.getMessage());
+            return null;
+        }
+    }
+
+    private String validate(LibraryBookBulkRowDto row, String isbn) {
+        if (isbn == null || !isbn.matches("\\d{13}")) {
+            return "ISBN 은 13자리 숫자여야 합니다.";
+        }
+        if (row.getCopies() == null || row.getCopies() < 1) {
+            return "보유 권수는 1권 이상이어야 합니다.";
+        }
+        if (row.getDeposit() != null && row.getDeposit() < 0) {
+            return "보증금 가격은 양수여야 합니다.";
+        }
+        return null;
+    }
+
+    private String normalizeIsbn(String isbn) {
+        return isbn == null ? null : isbn.replaceAll("[\\s-]", "");
+    }
+
+    private Integer parseInt(String[] cols, int index) {
+        if (cols.length <= index) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(cols[index].trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LibraryBookBulkRowResultDto result(int index, String isbn, LibraryBookBulkRowStatus status, UUID libraryBookId, String message) {
+        return LibraryBookBulkRowResultDto.builder()
+                .row(index + 1)
+                .isbn(isbn)
+                .status(status)
+                .libraryBookId(libraryBookId)
+                .message(message)
+                .build();
+    }
+}
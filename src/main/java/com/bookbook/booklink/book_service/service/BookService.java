@@ -1,21 +1,26 @@
 package com.bookbook.booklink.book_service.service;
 
+import com.bookbook.booklink.book_service.cache.IsbnLookupCache;
 import com.bookbook.booklink.book_service.model.Book;
 import com.bookbook.booklink.book_service.model.dto.request.BookRegisterDto;
 import com.bookbook.booklink.book_service.model.dto.response.BookResponseDto;
-import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
 import com.bookbook.booklink.book_service.repository.BookRepository;
+import com.bookbook.booklink.book_service.search.BookIndexEvent;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.service.IdempotencyService;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
@@ -23,11 +28,18 @@ import java.util.UUID;
 public class BookService {
     private final BookRepository bookRepository;
     private final NationalLibraryService nationalLibraryService;
+    private final IsbnLookupCache isbnLookupCache;
     private final ModelMapper modelMapper;
     private final IdempotencyService idempotencyService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * ISBN 으로 도서를 조회합니다. DB 에 없으면 국립중앙도서관 API 결과를 반환하며, 응답을 기다리는 동안 호출한 스레드를 점유하지 않습니다.
+     *
+     * @return 도서 정보 Future (INVALID_ISBN_CODE, API_FALLBACK_FAIL 로 실패할 수 있음)
+     */
     @Transactional
-    public BookResponseDto getBook(String isbn, String traceId, UUID userId) {
+    public CompletableFuture<BookResponseDto> getBook(String isbn, String traceId, UUID userId) {
         log.info("[LibraryBookService] [traceId = {}, userId = {}] get book initiate isbn={}", traceId, userId, isbn);
 
         Book book = bookRepository.findByISBN(isbn);
@@ -35,25 +47,28 @@ public class BookService {
             BookResponseDto dto = BookResponseDto.toEntity(book);
             dto.setFoundInNationalLibrary(false);
             log.info("[BookService] [traceId={}, userId={}] found bookId={}", traceId, userId, dto.getId());
-            return dto;
+            return CompletableFuture.completedFuture(dto);
         }
 
-        NationalLibraryResponseDto apiResponse;
-        try {
-            apiResponse = nationalLibraryService.searchBookByIsbn(isbn, traceId, userId);
-        } catch (Exception e) {
-            log.error("[BookService] [traceId={}, userId={}] API 호출 실패 isbn={}", traceId, userId, isbn, e);
-            throw new CustomException(ErrorCode.API_FALLBACK_FAIL);
-        }
-
-        if (apiResponse == null) {
-            throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
-        }
+        return isbnLookupCache.get(isbn, () -> nationalLibraryService.searchBookByIsbnAsync(isbn, traceId, userId))
+                .handle((apiResponse, e) -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof CustomException ce) {
+                        throw ce;
+                    }
+                    if (cause != null) {
+                        log.error("[BookService] [traceId={}, userId={}] API 호출 실패 isbn={}", traceId, userId, isbn, cause);
+                        throw new CustomException(ErrorCode.API_FALLBACK_FAIL);
+                    }
+                    if (apiResponse == null) {
+                        throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
+                    }
 
-        BookResponseDto dto = apiResponse.toBookResponseDto();
-        dto.setFoundInNationalLibrary(true);
-        log.info("[LibraryBookService] [traceId = {}, userId = {}] get book success from nationalLibraryApi bookId={}, isbn={}", traceId, userId, null, dto.getISBN());
-        return dto;
+                    BookResponseDto dto = apiResponse.toBookResponseDto();
+                    dto.setFoundInNationalLibrary(true);
+                    log.info("[LibraryBookService] [traceId = {}, userId = {}] get book success from nationalLibraryApi bookId={}, isbn={}", traceId, userId, null, dto.getISBN());
+                    return dto;
+                });
     }
 
     @Transactional
@@ -73,11 +88,32 @@ public class BookService {
         Book savedBook = bookRepository.save(newBook);
         UUID bookId = savedBook.getId();
 
+        eventPublisher.publishEvent(BookIndexEvent.builder()
+                .bookId(bookId)
+                .title(savedBook.getTitle())
+                .author(savedBook.getAuthor())
+                .build());
+
         log.info("[BookService] [traceId = {}, userId = {}] get book success bookId={}", traceId, userId, bookId);
 
         return bookId;
     }
 
+    /**
+     * 대량 등록 시 새로 조회된 도서들을 한 번에 저장합니다. (호출한 쪽의 트랜잭션에 참여)
+     */
+    @Transactional
+    public List<Book> saveBooks(List<Book> books) {
+        List<Book> savedBooks = bookRepository.saveAll(books);
+
+        savedBooks.forEach(book -> eventPublisher.publishEvent(BookIndexEvent.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .build()));
+        return savedBooks;
+    }
+
     public Book findById(UUID id) {
         return bookRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
@@ -3,28 +3,51 @@ package com.bookbook.booklink.book_service.service;
 import com.bookbook.booklink.book_service.model.Book;
 import com.bookbook.booklink.book_service.model.LibraryBook;
 import com.bookbook.booklink.book_service.model.LibraryBookCopy;
+import com.bookbook.booklink.book_service.cache.LibraryBookCountCache;
+import com.bookbook.booklink.book_service.cache.LibraryBookCountEvent;
+import com.bookbook.booklink.book_service.cache.LibraryTopBooksCache;
+import com.bookbook.booklink.book_service.cache.LibraryTopBooksEvent;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookBulkRowDto;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookCursor;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookCursorReqDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookRegisterDto;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookSearchReqDto;
+import com.bookbook.booklink.book_service.model.dto.request.LibraryBookSortType;
 import com.bookbook.booklink.book_service.model.dto.request.LibraryBookUpdateDto;
 import com.bookbook.booklink.book_service.model.dto.response.*;
 import com.bookbook.booklink.book_service.repository.LibraryBookRepository;
+import com.bookbook.booklink.book_service.search.BookSearchFilter;
+import com.bookbook.booklink.book_service.search.BookSearchIndex;
+import com.bookbook.booklink.book_service.search.LibraryBookIndexEvent;
+import com.bookbook.booklink.common.dto.CursorResponse;
 import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.service.IdempotencyService;
+import com.bookbook.booklink.common.util.GeoHash;
 import com.bookbook.booklink.library_service.model.Library;
 import com.bookbook.booklink.library_service.model.dto.response.LibraryBookListProjection;
 import com.bookbook.booklink.library_service.repository.LibraryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,6 +57,10 @@ public class LibraryBookService {
     private final IdempotencyService idempotencyService;
     private final BookService bookService;
     private final LibraryRepository libraryRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final LibraryBookCountCache libraryBookCountCache;
+    private final LibraryTopBooksCache libraryTopBooksCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UUID registerLibraryBook(LibraryBookRegisterDto bookRegisterDto, String traceId, UUID userId, Library library) {
@@ -62,16 +89,82 @@ public class LibraryBookService {
         LibraryBook savedLibraryBook = libraryBookRepository.save(libraryBook);
         UUID bookId = savedLibraryBook.getId();
 
+        eventPublisher.publishEvent(LibraryBookIndexEvent.builder()
+                .libraryBookId(bookId)
+                .bookId(book.getId())
+                .libraryId(library.getId())
+                .build());
+        if (savedLibraryBook.getCopies() > 0) {
+            publishCountChanged(library.getId(), 1);
+        }
+        publishTopBooksChanged(savedLibraryBook);
+
         log.info("[LibraryBookService] [traceId = {}, userId = {}] register book success bookId={}", traceId, userId, bookId);
 
         return bookId;
     }
 
+    /**
+     * 도서 대량 등록의 저장 단계입니다.
+     * 메타데이터 조회와 중복 검사가 끝난 행만 받아 새 도서와 도서관별 도서, 도서 인스턴스, 미리보기 이미지를
+     * 하나의 트랜잭션에서 저장하며, INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+     *
+     * @param rows  등록할 행
+     * @param books 행과 같은 순서의 도서 (id 가 없으면 새로 저장)
+     * @return 행과 같은 순서의 도서관별 도서 ID
+     */
+    @Transactional
+    public List<UUID> registerLibraryBooksInBatch(List<LibraryBookBulkRowDto> rows, List<Book> books,
+                                                  Library library, String traceId, UUID userId) {
+        log.info("[LibraryBookService] [traceId = {}, userId = {}] bulk register library book initiate size={}", traceId, userId, rows.size());
+
+        List<Book> newBooks = books.stream()
+                .filter(book -> book.getId() == null)
+                .distinct()
+                .toList();
+        if (!newBooks.isEmpty()) {
+            bookService.saveBooks(newBooks);
+        }
+
+        List<LibraryBook> libraryBooks = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            libraryBooks.add(LibraryBook.toEntity(rows.get(i), books.get(i), library));
+        }
+        libraryBookRepository.saveAll(libraryBooks);
+        library.addBooks(libraryBooks.size());
+
+        libraryBooks.forEach(libraryBook -> {
+            eventPublisher.publishEvent(LibraryBookIndexEvent.builder()
+                    .libraryBookId(libraryBook.getId())
+                    .bookId(libraryBook.getBook().getId())
+                    .libraryId(library.getId())
+                    .build());
+            publishTopBooksChanged(libraryBook);
+        });
+        publishCountChanged(library.getId(), libraryBooks.size());
+
+        log.info("[LibraryBookService] [traceId = {}, userId = {}] bulk register library book success size={}, newBooks={}", traceId, userId, libraryBooks.size(), newBooks.size());
+
+        return libraryBooks.stream().map(LibraryBook::getId).toList();
+    }
+
+    /**
+     * 도서관에 이미 등록된 도서 ID 를 한 번의 쿼리로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> findRegisteredBookIds(UUID libraryId, Collection<UUID> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(libraryBookRepository.findRegisteredBookIds(libraryId, bookIds));
+    }
+
     @Transactional
     public void updateLibraryBook(LibraryBookUpdateDto updateBookDto, String traceId, UUID userId) {
         log.info("[LibraryBookService] [traceId = {}, userId = {}] update library book initiate updateBookDto={}", traceId, userId, updateBookDto);
 
         LibraryBook libraryBook = getLibraryBookOrThrow(updateBookDto.getId());
+        boolean listedBefore = libraryBook.getCopies() > 0;
 
         if (updateBookDto.getCopies() != null) libraryBook.updateCopies(updateBookDto.getCopies());
         if (updateBookDto.getDeposit() != null) libraryBook.updateDeposit(updateBookDto.getDeposit());
@@ -80,6 +173,12 @@ public class LibraryBookService {
             libraryBook.updatePreviewImages(updateBookDto.getPreviewImages());
         }
 
+        // 보유 권수가 0 이 되거나 0 에서 늘어나면 목록 노출 여부가 바뀜
+        boolean listedAfter = libraryBook.getCopies() > 0;
+        if (listedBefore != listedAfter) {
+            publishCountChanged(libraryBook.getLibrary().getId(), listedAfter ? 1 : -1);
+        }
+
         log.info("[LibraryBookService] [traceId = {}, userId = {}] update library book success libraryBook={}", traceId, userId, libraryBook);
     }
 
@@ -90,6 +189,19 @@ public class LibraryBookService {
         LibraryBook libraryBook = getLibraryBookOrThrow(libraryBookId);
 
         libraryBook.softDelete();
+        eventPublisher.publishEvent(LibraryBookIndexEvent.builder()
+                .libraryBookId(libraryBookId)
+                .bookId(libraryBook.getBook().getId())
+                .deleted(true)
+                .build());
+        if (libraryBook.getCopies() > 0) {
+            publishCountChanged(libraryBook.getLibrary().getId(), -1);
+        }
+        eventPublisher.publishEvent(LibraryTopBooksEvent.builder()
+                .libraryId(libraryBook.getLibrary().getId())
+                .libraryBookId(libraryBookId)
+                .removed(true)
+                .build());
         log.info("[LibraryBookService] [traceId = {}, userId = {}] delete library book success libraryBookId={}", traceId, userId, libraryBookId);
     }
 
@@ -103,28 +215,54 @@ public class LibraryBookService {
         UUID libraryId = request.getLibraryId();
         UUID myLibraryId = getMyLibraryId(userId);
 
-        List<LibraryBookListProjection> projections =
-                libraryBookRepository.findLibraryBooksBySearch(lat, lng, libraryId, myLibraryId, request.getBookName(), request.getSortType().toString(), size, offset);
-
-        long total = libraryBookRepository.countLibraryBooksBySearch(libraryId, request.getBookName());
+        BookSearchFilter search = resolveSearch(request.getBookName(), libraryId);
+        if (search.noMatch()) {
+            return PageResponse.<LibraryBookListDto>builder()
+                    .totalElements(0)
+                    .totalPages(0)
+                    .currentPage(page)
+                    .pageSize(size)
+                    .content(List.of())
+                    .hasNext(false)
+                    .hasPrevious(page > 0)
+                    .build();
+        }
 
+        List<LibraryBookListProjection> projections;
+        long total;
+        boolean approximate = false;
+        if (lat != null && lng != null) {
+            // 위치가 주어지면 geohash 격자 + bounding box 로 후보 도서관을 좁힌 뒤 거리 계산
+            double radius = request.getRadiusKm();
+            GeoHash.BoundingBox box = GeoHash.boundingBox(lat, lng, radius);
+            List<String> cells = GeoHash.coveringCells(box);
+
+            projections = libraryBookRepository.findLibraryBooksNearby(lat, lng, radius, cells,
+                    box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    libraryId, myLibraryId, search.applied(), search.queryIds(), search.keyword(), request.getSortType().toString(), size, offset);
+            total = libraryBookRepository.countLibraryBooksNearby(lat, lng, radius, cells,
+                    box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    libraryId, search.applied(), search.queryIds(), search.keyword());
+        } else {
+            // 위치 정보가 없으면 거리순 정렬을 할 수 없으므로 최신순으로 처리
+            projections = request.getSortType() == LibraryBookSortType.MOST_BORROWED
+                    ? libraryBookRepository.findLibraryBooksMostBorrowed(libraryId, myLibraryId,
+                            search.applied(), search.queryIds(), search.keyword(), size, offset)
+                    : libraryBookRepository.findLibraryBooksLatest(libraryId, myLibraryId,
+                            search.applied(), search.queryIds(), search.keyword(), size, offset);
+            if (search.searching()) {
+                // 검색어별 개수는 TTL 동안 캐시된 근사값
+                total = libraryBookCountCache.searchCount(libraryId, BookSearchIndex.normalize(request.getBookName()),
+                        () -> libraryBookRepository.countLibraryBooksBySearch(libraryId, search.applied(), search.queryIds(), search.keyword()));
+                approximate = true;
+            } else {
+                total = libraryBookCountCache.exactCount(libraryId,
+                        () -> libraryBookRepository.countLibraryBooksBySearch(libraryId, false, search.queryIds(), search.keyword()));
+            }
+        }
 
         List<LibraryBookListDto> dtoList = projections.stream()
-                .map(p -> LibraryBookListDto.builder()
-                        .id(p.getId())
-                        .title(p.getTitle())
-                        .description(p.getDescription())
-                        .author(p.getAuthor())
-                        .libraryName(p.getLibraryName())
-                        .distance(p.getDistance())
-                        .copies(p.getCopies())
-                        .borrowedCount(p.getBorrowedCount())
-                        .deposit(p.getDeposit())
-                        .rentedOut(p.getRentedOut() != null && p.getRentedOut() == 1)
-                        .expectedReturnDate(p.getExpectedReturnDate())
-                        .imageUrl(p.getImageUrl())
-                        .isMine(p.getMine() == 1)
-                        .build())
+                .map(this::toListDto)
                 .toList();
 
         return PageResponse.<LibraryBookListDto>builder()
@@ -133,8 +271,111 @@ public class LibraryBookService {
                 .currentPage(page)
                 .pageSize(size)
                 .content(dtoList)
-                .hasNext(offset + dtoList.size() < total)
+                .hasNext(approximate ? dtoList.size() == size : offset + dtoList.size() < total)
                 .hasPrevious(page > 0)
+                .approximate(approximate)
+                .build();
+    }
+
+    /**
+     * 커서(keyset) 기반 도서 목록 조회.
+     * OFFSET 대신 마지막으로 받은 행의 (정렬 키, id) 이후부터 조회하며,
+     * size + 1 개를 조회해 다음 페이지 여부를 판단하므로 COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param request 검색 조건 및 커서
+     * @param userId  요청 사용자 ID
+     * @return 커서 기반 페이지 응답
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<LibraryBookListDto> getLibraryBookListByCursor(LibraryBookCursorReqDto request, UUID userId) {
+        int size = request.getSize();
+        Double lat = request.getLatitude();
+        Double lng = request.getLongitude();
+        boolean nearby = lat != null && lng != null;
+        UUID myLibraryId = getMyLibraryId(userId);
+
+        // 위치 정보가 없으면 거리순 정렬을 할 수 없으므로 최신순으로 처리
+        LibraryBookSortType sortType = request.getSortType();
+        if (!nearby && sortType == LibraryBookSortType.DISTANCE) {
+            sortType = LibraryBookSortType.LATEST;
+        }
+
+        LibraryBookCursor cursor = LibraryBookCursor.decode(request.getCursor(), sortType);
+
+        BookSearchFilter search = resolveSearch(request.getBookName(), request.getLibraryId());
+        if (search.noMatch()) {
+            return CursorResponse.<LibraryBookListDto>builder()
+                    .content(List.of())
+                    .hasNext(false)
+                    .pageSize(size)
+                    .build();
+        }
+
+        List<LibraryBookListProjection> projections;
+        if (nearby) {
+            double radius = request.getRadiusKm();
+            GeoHash.BoundingBox box = GeoHash.boundingBox(lat, lng, radius);
+            List<String> cells = GeoHash.coveringCells(box);
+
+            projections = libraryBookRepository.findLibraryBooksNearbyByCursor(lat, lng, radius, cells,
+                    box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    request.getLibraryId(), myLibraryId, search.applied(), search.queryIds(), search.keyword(), sortType.toString(),
+                    cursor.distance(), cursor.createdAt(), cursor.borrowedCount(), cursor.id(), size + 1);
+        } else {
+            projections = sortType == LibraryBookSortType.MOST_BORROWED
+                    ? libraryBookRepository.findLibraryBooksMostBorrowedByCursor(
+                            request.getLibraryId(), myLibraryId, search.applied(), search.queryIds(), search.keyword(),
+                            cursor.borrowedCount(), cursor.id(), size + 1)
+                    : libraryBookRepository.findLibraryBooksLatestByCursor(
+                            request.getLibraryId(), myLibraryId, search.applied(), search.queryIds(), search.keyword(),
+                            cursor.createdAt(), cursor.id(), size + 1);
+        }
+
+        LibraryBookSortType appliedSortType = sortType;
+        CursorResponse<LibraryBookListProjection> page = CursorResponse.of(projections, size,
+                last -> LibraryBookCursor.encode(appliedSortType, last));
+
+        return CursorResponse.<LibraryBookListDto>builder()
+                .content(page.getContent().stream().map(this::toListDto).toList())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .pageSize(size)
+                .build();
+    }
+
+    private void publishCountChanged(UUID libraryId, long delta) {
+        eventPublisher.publishEvent(LibraryBookCountEvent.builder()
+                .libraryId(libraryId)
+                .delta(delta)
+                .build());
+    }
+
+    /**
+     * 검색어가 있으면 도서 검색 색인에서 일치하는 도서관별 도서 ID 를 찾습니다.
+     * 목록 쿼리는 LIKE 검색 대신 이 ID 목록으로 필터링하며, 일치하는 도서가 너무 많을 때에만 검색어로 거릅니다.
+     */
+    private BookSearchFilter resolveSearch(String bookName, UUID libraryId) {
+        if (bookName == null || bookName.isBlank()) {
+            return BookSearchFilter.none();
+        }
+        return bookSearchIndex.search(bookName, libraryId);
+    }
+
+    private LibraryBookListDto toListDto(LibraryBookListProjection p) {
+        return LibraryBookListDto.builder()
+                .id(p.getId())
+                .title(p.getTitle())
+                .description(p.getDescription())
+                .author(p.getAuthor())
+                .libraryName(p.getLibraryName())
+                .distance(p.getDistance())
+                .copies(p.getCopies())
+                .borrowedCount(p.getBorrowedCount())
+                .deposit(p.getDeposit())
+                .rentedOut(p.getRentedOut() != null && p.getRentedOut() == 1)
+                .expectedReturnDate(p.getExpectedReturnDate())
+                .imageUrl(p.getImageUrl())
+                .isMine(p.getMine() == 1)
                 .build();
     }
 
@@ -146,12 +387,63 @@ public class LibraryBookService {
      */
     @Transactional(readOnly = true)
     public List<LibraryBook> findTop5Books(UUID libraryId) {
-        return libraryBookRepository.findTop5BooksByLibraryOrderByLikeCount(libraryId, PageRequest.of(0, 5));
+        return findTop5BooksMap(List.of(libraryId)).getOrDefault(libraryId, List.of());
     }
 
+    /**
+     * 여러 도서관의 Top 5 도서 목록을 반환하는 메서드
+     * 순위는 {@link LibraryTopBooksCache} 에서 읽고, 도서 정보는 도서관당 최대 5건만 한 번의 쿼리로 조회합니다.
+     *
+     * @param libraryIds 조회할 도서관 ID 목록
+     * @return 도서관 ID → 인기 도서 목록 (순위 순)
+     */
     @Transactional(readOnly = true)
-    public List<LibraryBook> findTop5BooksList(List<UUID> libraryIds) {
-        return libraryBookRepository.findTopBooksByLibraryIds(libraryIds);
+    public Map<UUID, List<LibraryBook>> findTop5BooksMap(List<UUID> libraryIds) {
+        Map<UUID, List<UUID>> topIds = libraryTopBooksCache.topLibraryBookIds(libraryIds,
+                libraryBookRepository::findRankingByLibraryIds);
+
+        List<UUID> ids = topIds.values().stream().flatMap(List::stream).toList();
+        Map<UUID, LibraryBook> libraryBooks = ids.isEmpty() ? Map.of() :
+                libraryBookRepository.findAllWithBookByIdIn(ids).stream()
+                        .collect(Collectors.toMap(LibraryBook::getId, Function.identity()));
+
+        Map<UUID, List<LibraryBook>> result = new HashMap<>();
+        topIds.forEach((libraryId, bookIds) -> result.put(libraryId, bookIds.stream()
+                .map(libraryBooks::get)
+                .filter(Objects::nonNull)
+                .toList()));
+        return result;
+    }
+
+    /**
+     * 인기 도서 순위에 영향을 주는 변경(등록, 대여, 좋아요)을 순위 캐시에 알립니다. 커밋 후 반영됩니다.
+     */
+    public void publishTopBooksChanged(LibraryBook libraryBook) {
+        eventPublisher.publishEvent(LibraryTopBooksEvent.builder()
+                .libraryId(libraryBook.getLibrary().getId())
+                .libraryBookId(libraryBook.getId())
+                .likeCount(libraryBook.getBook().getLikeCount())
+                .totalBorrowCount(libraryBook.getTotalBorrowCount())
+                .build());
+    }
+
+    /**
+     * 목록 조회용 nextExpectedReturnAt 컬럼을 도서 인스턴스 기준으로 다시 맞춥니다.
+     * 컬럼 추가 이전 데이터 보정을 위해 기동 시 실행하고, 연체 처리 이후 스케줄러에서도 호출합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void syncExpectedReturnDates() {
+        int updated = libraryBookRepository.syncNextExpectedReturnAt();
+        log.info("[LibraryBookService] sync next expected return date success, updated={}", updated);
+    }
+
+    /**
+     * 대여/반납/연장/취소 후 해당 도서의 nextExpectedReturnAt 컬럼만 집계 쿼리로 다시 계산합니다.
+     */
+    @Transactional
+    public void refreshExpectedReturnDate(UUID libraryBookId) {
+        libraryBookRepository.refreshNextExpectedReturnAt(libraryBookId);
     }
 
     public LibraryBook getLibraryBookOrThrow(UUID libraryBookId) {
@@ -3,20 +3,32 @@ package com.bookbook.booklink.book_service.service;
 import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.bookbook.booklink.common.util.CircuitBreaker;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -29,58 +41,168 @@ public class NationalLibraryService {
     @Value("${national-library.cert-key}")
     private String certKey;
 
+    @Value("${national-library.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
+    @Value("${national-library.max-concurrency:20}")
+    private int maxConcurrency;
+
+    @Value("${national-library.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${national-library.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
     private final ObjectMapper objectMapper;
+    private final HttpClient nationalLibraryHttpClient;
+
+    private Semaphore permits;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrency);
+        circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
+    }
 
     /**
-     * 국립중앙도서관 ISBN 검색
+     * 국립중앙도서관 ISBN 검색 (비동기)
+     *
+     * <p>동시 호출 수가 상한을 넘거나 서킷 브레이커가 열려 있으면 외부 호출 없이 즉시 API_FALLBACK_FAIL 로 실패합니다.
+     * 응답 본문은 문자열로 모으지 않고 스트리밍으로 파싱하여 첫 번째 도서만 DTO 로 변환합니다.
+     * 호출한 스레드는 응답을 기다리지 않으며, 본문 수신까지 read timeout 의 두 배를 넘기면 TimeoutException 으로 실패하고 요청을 중단합니다.</p>
      *
      * @param isbn ISBN 코드
-     * @return JsonNode (응답 데이터)
-     * @throws Exception 예외
+     * @return 도서 정보 Future (존재하지 않는 ISBN 이면 INVALID_ISBN_CODE 로 실패)
      */
-    public NationalLibraryResponseDto searchBookByIsbn(String isbn, String traceId, UUID userId) throws Exception {
+    public CompletableFuture<NationalLibraryResponseDto> searchBookByIsbnAsync(String isbn, String traceId, UUID userId) {
         log.info("[NationalLibraryService] [traceId = {}, userId = {}] get book from national library initiate isbn={}", traceId, userId, isbn);
 
-        StringBuilder urlBuilder = new StringBuilder(apiUrl);
-        urlBuilder.append("?cert_key=").append(certKey);
-        urlBuilder.append("&result_style=json");
-        urlBuilder.append("&page_no=1");
-        urlBuilder.append("&page_size=10");
-        urlBuilder.append("&isbn=").append(URLEncoder.encode(isbn, StandardCharsets.UTF_8));
-
-        URL url = new URL(urlBuilder.toString());
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
+        if (!permits.tryAcquire()) {
+            log.warn("[NationalLibraryService] [traceId = {}, userId = {}] national library concurrency limit exceeded isbn={}", traceId, userId, isbn);
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.API_FALLBACK_FAIL));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            log.warn("[NationalLibraryService] [traceId = {}, userId = {}] national library circuit open isbn={}", traceId, userId, isbn);
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.API_FALLBACK_FAIL));
+        }
 
-        int responseCode = conn.getResponseCode();
-        if (responseCode != 200) {
-            throw new RuntimeException("API 요청 실패 : HTTP error code : " + responseCode);
+        CompletableFuture<HttpResponse<InputStream>> exchange;
+        try {
+            String url = apiUrl +
+                    "?cert_key=" + certKey +
+                    "&result_style=json" +
+                    "&page_no=1" +
+                    "&page_size=10" +
+                    "&isbn=" + URLEncoder.encode(isbn, StandardCharsets.UTF_8);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(readTimeoutMs))
+                    .GET()
+                    .build();
+
+            exchange = nationalLibraryHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (RuntimeException e) {
+            // 요청을 보내기 전에 실패하면 whenComplete 가 실행되지 않으므로 여기서 반환 (시험 호출이었다면 다음 호출에 넘김)
+            permits.release();
+            circuitBreaker.release();
+            log.warn("[NationalLibraryService] [traceId = {}, userId = {}] national library request build fail isbn={}, reason={}", traceId, userId, isbn, e.toString());
+            return CompletableFuture.failedFuture(e);
         }
 
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-            StringBuilder response = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) {
-                response.append(line);
+        AtomicReference<InputStream> body = new AtomicReference<>();
+        return exchange
+                .thenApply(response -> {
+                    body.set(response.body());
+                    return parseResponse(response);
+                })
+                // 헤더 수신 이후 본문이 느리게 오는 경우까지 포함한 전체 대기 시간 제한
+                .orTimeout(readTimeoutMs * 2, TimeUnit.MILLISECONDS)
+                .whenComplete((dto, ex) -> {
+                    permits.release();
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        // orTimeout 은 결과 Future 만 끝내므로 진행 중인 요청이나 본문 읽기를 직접 중단
+                        cancel(exchange, body.get());
+                    }
+                    if (cause == null || isNotFound(cause)) {
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure();
+                    }
+
+                    if (cause == null) {
+                        log.info("[NationalLibraryService] [traceId = {}, userId = {}] get book from national library success isbn={}", traceId, userId, isbn);
+                    } else if (!isNotFound(cause)) {
+                        log.warn("[NationalLibraryService] [traceId = {}, userId = {}] get book from national library fail isbn={}, reason={}", traceId, userId, isbn, cause.toString());
+                    }
+                });
+    }
+
+    private void cancel(CompletableFuture<HttpResponse<InputStream>> exchange, InputStream body) {
+        exchange.cancel(true);
+        if (body != null) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("[NationalLibraryService] response body close failed", e);
             }
+        }
+    }
 
-            JsonNode root = objectMapper.readTree(response.toString());
+    private boolean isNotFound(Throwable e) {
+        return e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.INVALID_ISBN_CODE;
+    }
 
-            if (!root.path("TOTAL_COUNT").asText().equals("1")) {
-                throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
+    private NationalLibraryResponseDto parseResponse(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new RuntimeException("API 요청 실패 : HTTP error code : " + response.statusCode());
             }
+            return parseBody(body);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 응답 본문을 토큰 단위로 읽어 TOTAL_COUNT 와 docs 의 첫 번째 항목만 추출합니다.
+     */
+    private NationalLibraryResponseDto parseBody(InputStream body) throws IOException {
+        String totalCount = null;
+        NationalLibraryResponseDto first = null;
 
-            JsonNode docs = root.path("docs");
-            if (!docs.isArray() || docs.isEmpty()) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
                 throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
             }
 
-            NationalLibraryResponseDto dto = objectMapper.treeToValue(docs.get(0), NationalLibraryResponseDto.class);
-            log.info("[NationalLibraryService] [traceId = {}, userId = {}] get book from national library success isbn={}", traceId, userId, isbn);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("TOTAL_COUNT".equals(field)) {
+                    totalCount = parser.getValueAsString();
+                    if (!"1".equals(totalCount)) {
+                        throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
+                    }
+                } else if ("docs".equals(field) && value == JsonToken.START_ARRAY) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        first = objectMapper.readValue(parser, NationalLibraryResponseDto.class);
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
 
-            return dto;
-        } finally {
-            conn.disconnect();
+        if (!"1".equals(totalCount) || first == null) {
+            throw new CustomException(ErrorCode.INVALID_ISBN_CODE);
         }
+        return first;
     }
 }
@@ -1,5 +1,6 @@
 package com.bookbook.booklink.borrow_service.scheduler;
 
+import com.bookbook.booklink.book_service.service.LibraryBookService;
 import com.bookbook.booklink.borrow_service.model.Borrow;
 import com.bookbook.booklink.borrow_service.model.BorrowStatus;
 import com.bookbook.booklink.borrow_service.repository.BorrowRepository;
@@ -20,6 +21,7 @@ public class BorrowScheduler {
 
     private final BorrowRepository borrowRepository;
     private final PointService pointService;
+    private final LibraryBookService libraryBookService;
 
     /**
      * 매일 자정(00:00)에 실행
@@ -51,5 +53,8 @@ public class BorrowScheduler {
                     .build();
             //pointService.usePoint(pointUseDto, UUID.randomUUID(), UUID.fromString("spring-scheduler"));
         });
+
+        // 3) 목록 조회용 예상 반납일 보정
+        libraryBookService.syncExpectedReturnDates();
     }
 }
\ No newline at end of file
@@ -50,6 +50,8 @@ public class BorrowService {
 
         Borrow borrow = Borrow.createBorrow(copy, member, borrowedAt, dueAt);
         libraryBook.borrowCopy(copy, borrowedAt, dueAt);
+        libraryBookService.refreshExpectedReturnDate(libraryBookId);
+        libraryBookService.publishTopBooksChanged(libraryBook);
 
         int deposit = copy.getLibraryBook().getDeposit();
         if (deposit > 0) {
@@ -108,6 +110,7 @@ public class BorrowService {
         }
 
         borrow.suspendBorrow();
+        libraryBookService.refreshExpectedReturnDate(borrow.getLibraryBookCopy().getLibraryBook().getId());
 
         log.info("[BorrowService] [traceId = {}, userId = {}] suspend borrow success borrowId={}", traceId, userId, borrowId);
 
@@ -136,6 +139,7 @@ public class BorrowService {
 
         borrow.returnBook(LocalDateTime.now(), imageUrl);
         libraryBook.returnCopy(copy);
+        libraryBookService.refreshExpectedReturnDate(libraryBook.getId());
 
         log.info("[BorrowService] [traceId = {}, userId = {}] return book confirm accept success borrowId={}", traceId, userId, borrowId);
     }
@@ -157,6 +161,7 @@ public class BorrowService {
         }
 
         borrow.extendBook(returnDate.atStartOfDay());
+        libraryBookService.refreshExpectedReturnDate(borrow.getLibraryBookCopy().getLibraryBook().getId());
 
         log.info("[BorrowService] [traceId = {}, userId = {}] accept book extend success borrowId={}", traceId, userId, borrowId);
 
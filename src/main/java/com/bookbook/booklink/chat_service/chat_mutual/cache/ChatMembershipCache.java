@@ -0,0 +1,221 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.group.model.GroupChats;
+import com.bookbook.booklink.chat_service.group.repository.GroupChatsRepository;
+import com.bookbook.booklink.chat_service.single.model.SingleChats;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.community.group_service.repository.GroupMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 채팅방 참여자 캐시 ((채팅방 종류, 채팅방 ID) → 참여자 ID 집합)
+ *
+ * <p>메시지 전송마다 참여자 검증을 위해 DB 를 조회하지 않도록 인스턴스 내 LRU 캐시에 보관합니다.
+ * 참여자 구성이 바뀌면 {@link ChatMembershipEvent} 로 커밋 후 해당 채팅방 항목을 지우고,
+ * replicate 설정 시 Redis pub/sub 으로 다른 인스턴스에도 무효화를 전파합니다.
+ * 전파가 누락되더라도 ttl-seconds 가 지나면 다시 적재합니다.</p>
+ *
+ * <p>적중률은 chat.membership.cache.requests (result=hit|miss) 메트릭으로 확인할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipCache implements MessageListener {
+
+    private static final String CHANNEL = "chat:membership:invalidate";
+    private static final String GROUP_PREFIX = "group:";
+    private static final String CHAT_PREFIX = "chat:";
+
+    private final SingleChatsRepository singleChatsRepository;
+    private final GroupChatsRepository groupChatsRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat-membership.max-size:10000}")
+    private int maxSize;
+
+    @Value("${chat-membership.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${chat-membership.replicate:true}")
+    private boolean replicate;
+
+    // 1대1 채팅방과 그룹 채팅방은 테이블이 달라 ID 만으로는 구분되지 않으므로 종류까지 키에 포함
+    private final Map<RoomKey, RoomMembers> local = new LinkedHashMap<>(16, 0.75f, true);
+    // 적재 중에 무효화가 일어나면 적재 결과를 버리기 위한 버전
+    private long version;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = meterRegistry.counter("chat.membership.cache.requests", "result", "hit");
+        misses = meterRegistry.counter("chat.membership.cache.requests", "result", "miss");
+        meterRegistry.gauge("chat.membership.cache.size", local, this::size);
+
+        if (replicate) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 사용자가 채팅방 참여자인지 확인합니다.
+     *
+     * @param roomType 채팅방 종류
+     * @param chatId   채팅방 UUID
+     * @param memberId 사용자 UUID
+     * @return 참여자이면 true
+     * @throws CustomException CHAT_ROOM_NOT_FOUND — 채팅방이 존재하지 않을 때
+     */
+    public boolean isMember(RoomType roomType, UUID chatId, UUID memberId) {
+        return members(roomType, chatId).contains(memberId);
+    }
+
+    /**
+     * 채팅방 참여자 ID 집합을 반환합니다.
+     *
+     * @param roomType 채팅방 종류
+     * @param chatId   채팅방 UUID
+     * @return 참여자 ID 집합 (수정 불가)
+     * @throws CustomException CHAT_ROOM_NOT_FOUND — 채팅방이 존재하지 않을 때
+     */
+    public Set<UUID> members(RoomType roomType, UUID chatId) {
+        RoomKey key = new RoomKey(roomType, chatId);
+        RoomMembers cached = getLocal(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.memberIds();
+        }
+
+        misses.increment();
+        long loadVersion = currentVersion();
+        RoomMembers loaded = roomType == RoomType.GROUP ? loadGroup(chatId) : loadSingle(chatId);
+        putLocal(key, loaded, loadVersion);
+        return loaded.memberIds();
+    }
+
+    private RoomMembers loadSingle(UUID chatId) {
+        SingleChats room = singleChatsRepository.findById(chatId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        return new RoomMembers(null, Set.copyOf(List.of(room.getUser1Id(), room.getUser2Id())), expiresAt());
+    }
+
+    private RoomMembers loadGroup(UUID chatId) {
+        GroupChats room = groupChatsRepository.findById(chatId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        UUID groupId = room.getGroup().getId();
+        return new RoomMembers(groupId, Set.copyOf(groupMemberRepository.findMemberIdsByGroupId(groupId)), expiresAt());
+    }
+
+    /**
+     * 커밋된 참여자 변경을 이 인스턴스에 반영하고 다른 인스턴스에 전파합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMembershipChanged(ChatMembershipEvent event) {
+        String payload = event.getGroupId() != null
+                ? GROUP_PREFIX + event.getGroupId()
+                : CHAT_PREFIX + event.getChatId();
+        evict(payload);
+
+        if (replicate) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, payload);
+            } catch (RuntimeException e) {
+                log.warn("[ChatMembershipCache] invalidation publish failed, payload={}", payload, e);
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 전파한 무효화를 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private synchronized void evict(String payload) {
+        version++;
+        try {
+            if (payload.startsWith(GROUP_PREFIX)) {
+                UUID groupId = UUID.fromString(payload.substring(GROUP_PREFIX.length()));
+                local.values().removeIf(entry -> groupId.equals(entry.groupId()));
+            } else if (payload.startsWith(CHAT_PREFIX)) {
+                UUID chatId = UUID.fromString(payload.substring(CHAT_PREFIX.length()));
+                for (RoomType roomType : RoomType.values()) {
+                    local.remove(new RoomKey(roomType, chatId));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("[ChatMembershipCache] invalid invalidation payload={}", payload);
+        }
+    }
+
+    private synchronized RoomMembers getLocal(RoomKey key) {
+        RoomMembers entry = local.get(key);
+        if (entry != null && entry.expiresAt() < System.currentTimeMillis()) {
+            local.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void putLocal(RoomKey key, RoomMembers members, long loadVersion) {
+        if (loadVersion != version) {
+            // 적재하는 동안 참여자가 바뀌었을 수 있으므로 저장하지 않음
+            return;
+        }
+        local.put(key, members);
+
+        // 접근 순서 기준으로 가장 오래 사용되지 않은 항목부터 제거
+        var iterator = local.entrySet().iterator();
+        while (local.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    private synchronized double size(Map<RoomKey, RoomMembers> map) {
+        return map.size();
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + ttlSeconds * 1000;
+    }
+
+    private record RoomKey(RoomType roomType, UUID chatId) {
+    }
+
+    private record RoomMembers(UUID groupId, Set<UUID> memberIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 채팅방 참여자 구성이 바뀌었을 때(모임 가입/탈퇴/강퇴/삭제, 1대1 채팅방 나가기) 발행하는 이벤트
+ * 그룹 채팅은 groupId, 1대1 채팅은 chatId 가 채워집니다.
+ */
+@Getter
+@Builder
+public class ChatMembershipEvent {
+    private UUID groupId;
+    private UUID chatId;
+}
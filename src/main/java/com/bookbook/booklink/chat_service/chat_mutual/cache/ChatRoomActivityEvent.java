@@ -0,0 +1,21 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅방의 마지막 메시지가 갱신되었을 때 발행하는 이벤트
+ * 커밋 후 참여자별 최근 채팅방 순서와 채팅방 요약을 갱신하는 데 사용합니다.
+ */
+@Getter
+@Builder
+public class ChatRoomActivityEvent {
+    private RoomType roomType;
+    private UUID chatId;
+    private String lastMessage;
+    private LocalDateTime sentAt;
+}
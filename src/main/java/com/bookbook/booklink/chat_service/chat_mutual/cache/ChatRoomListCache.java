@@ -0,0 +1,352 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.group.repository.GroupChatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 최근 채팅방 목록 (Redis sorted set + 채팅방 요약 해시)
+ *
+ * <p>사용자마다 채팅방 ID 를 마지막 메시지 시각(epoch millis) 순으로 유지하고 (chat:rooms:{single|group}:{memberId}),
+ * 목록 화면에 필요한 값은 채팅방별 요약 해시 (chat:room-summary:{chatId}) 에 보관합니다.
+ * 목록 조회는 요청한 페이지 범위의 ID 만 읽고 요약을 한 번에 조회하므로 참여 중인 채팅방 수와 상관없이 페이지 크기만큼만 읽습니다.</p>
+ *
+ * <p>키가 없는 사용자는 조회 시 DB 에서 한 번에 적재하며, 이후에는 커밋된 {@link ChatRoomActivityEvent} 로
+ * 이미 목록에 있는 채팅방의 순서와 요약의 마지막 메시지를 갱신합니다.
+ * 목록 구성이 바뀌면 ({@link ChatRoomListEvent}) 해당 사용자의 목록을 지워 다시 적재합니다.
+ * 모임 이름 변경처럼 이벤트가 없는 요약 값은 summary-ttl-seconds 안에 다시 적재됩니다.</p>
+ *
+ * <p>목록 키의 TTL 은 조회로 연장하지 않으므로, 갱신 실패로 어긋난 순서도 자주 조회하는 사용자까지
+ * index-ttl-seconds 안에 DB 에서 다시 적재되어 보정됩니다.
+ * 적재는 키가 없을 때만 하므로, 동시에 적재한 오래된 목록이 그 사이 갱신된 목록을 덮어쓰지 않습니다.
+ * 목록을 지울 때마다 사용자별 버전 키를 올리고, 적재는 DB 를 읽기 전에 확인한 버전이 그대로일 때만 하므로
+ * 지우기 전에 읽은 목록이 지운 뒤에 다시 적재되지도 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomListCache {
+
+    public static final String CHAT_ID = "chatId";
+    public static final String LAST_MESSAGE = "lastMessage";
+    public static final String LAST_SENT_AT = "lastSentAt";
+
+    private static final String INDEX_PREFIX = "chat:rooms:";
+    private static final String SUMMARY_PREFIX = "chat:room-summary:";
+    private static final String VERSION_SUFFIX = ":ver";
+    private static final String LAST_SENT_SCORE = "lastSentScore";
+    // 채팅방이 없는 사용자도 적재 여부를 구분하기 위해 항상 최하위에 두는 표시용 멤버
+    private static final String LOADED_MARKER = "_";
+
+    // 이미 목록에 있는 참여자의 순서와 요약을 더 최근 메시지일 때만 갱신 (목록에서 숨긴 채팅방은 다시 추가하지 않음)
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            local score = tonumber(ARGV[2])
+            for i = 2, #KEYS do
+                local current = redis.call('ZSCORE', KEYS[i], ARGV[1])
+                if current and tonumber(current) < score then
+                    redis.call('ZADD', KEYS[i], score, ARGV[1])
+                end
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1
+                    and tonumber(redis.call('HGET', KEYS[1], 'lastSentScore') or '0') <= score then
+                redis.call('HSET', KEYS[1], 'lastSentScore', ARGV[2], 'lastSentAt', ARGV[4])
+                if ARGV[3] == '' then
+                    redis.call('HDEL', KEYS[1], 'lastMessage')
+                else
+                    redis.call('HSET', KEYS[1], 'lastMessage', ARGV[3])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 목록이 없고 버전이 읽은 값 그대로일 때만 표시용 멤버와 함께 적재
+    // (ARGV[1]=TTL, ARGV[2]=표시용 멤버, ARGV[3]=읽은 버전 (없으면 ''), 이후 점수/채팅방 ID 쌍)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[3] then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], -1, ARGV[2])
+            for i = 4, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 목록을 지우고 버전을 올림 (ARGV[1]=버전 키 TTL)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatMembershipCache chatMembershipCache;
+    private final GroupChatsRepository groupChatsRepository;
+
+    @Value("${chat-room-list.index-ttl-seconds:3600}")
+    private long indexTtlSeconds;
+
+    @Value("${chat-room-list.summary-ttl-seconds:600}")
+    private long summaryTtlSeconds;
+
+    /**
+     * 사용자의 채팅방 요약을 마지막 메시지 시각 내림차순으로 한 페이지 반환합니다.
+     *
+     * @param roomType      채팅방 종류
+     * @param memberId      사용자 UUID
+     * @param pageable      페이지 번호와 크기
+     * @param allLoader     목록이 적재되지 않았을 때 사용자의 모든 채팅방 요약을 DB 에서 읽는 함수
+     * @param summaryLoader 캐시에 없는 채팅방 요약을 DB 에서 읽는 함수
+     * @return 페이지의 채팅방 요약과 전체 채팅방 수
+     */
+    public RoomPage page(RoomType roomType, UUID memberId, Pageable pageable,
+                         Supplier<List<Map<String, String>>> allLoader,
+                         Function<List<UUID>, List<Map<String, String>>> summaryLoader) {
+        String key = indexKey(roomType, memberId);
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.zRevRange(key, start, end);
+                conn.zCard(key);
+                // DB 를 읽기 전의 버전 (적재 전에 지워졌는지 확인용)
+                conn.get(key + VERSION_SUFFIX);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] index read failed, reading from DB. key={}", key, e);
+            List<Map<String, String>> all = sorted(allLoader.get());
+            return new RoomPage(slice(all, pageable), all.size());
+        }
+
+        Long size = (Long) results.get(1);
+        if (size == null || size == 0) {
+            String version = (String) results.get(2);
+            List<Map<String, String>> all = sorted(allLoader.get());
+            load(key, version, all);
+            return new RoomPage(slice(all, pageable), all.size());
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(0);
+        List<UUID> chatIds = members.stream()
+                .filter(member -> !LOADED_MARKER.equals(member))
+                .map(UUID::fromString)
+                .toList();
+
+        return new RoomPage(summaries(key, chatIds, summaryLoader), size - 1);
+    }
+
+    /**
+     * 커밋된 마지막 메시지를 참여자들의 목록 순서와 채팅방 요약에 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onActivity(ChatRoomActivityEvent event) {
+        UUID chatId = event.getChatId();
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(summaryKey(chatId));
+            chatMembershipCache.members(event.getRoomType(), chatId)
+                    .forEach(memberId -> keys.add(indexKey(event.getRoomType(), memberId)));
+
+            redisTemplate.execute(TOUCH_SCRIPT, keys,
+                    chatId.toString(),
+                    String.valueOf(score(event.getSentAt())),
+                    event.getLastMessage() == null ? "" : event.getLastMessage(),
+                    event.getSentAt().toString());
+        } catch (RuntimeException e) {
+            // 갱신에 실패하면 요약을 지워 다음 조회 때 다시 적재되도록 함 (순서는 TTL 내에 보정)
+            log.warn("[ChatRoomListCache] activity update failed, chatId={}", chatId, e);
+            evictSummary(chatId);
+        }
+    }
+
+    /**
+     * 커밋된 목록 구성 변경이 있는 사용자의 목록을 지웁니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomListChanged(ChatRoomListEvent event) {
+        String key = indexKey(event.getRoomType(), event.getMemberId());
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key, key + VERSION_SUFFIX), String.valueOf(indexTtlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] index evict failed, key={}", key, e);
+        }
+    }
+
+    /**
+     * 모임 참여자가 바뀌면 참여자 수가 바뀌므로 그룹 채팅방 요약을 지웁니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMembershipChanged(ChatMembershipEvent event) {
+        if (event.getGroupId() == null) {
+            return;
+        }
+        groupChatsRepository.findByGroupId(event.getGroupId())
+                .ifPresent(room -> evictSummary(room.getId()));
+    }
+
+    public static UUID chatId(Map<String, String> summary) {
+        return UUID.fromString(summary.get(CHAT_ID));
+    }
+
+    private List<Map<String, String>> summaries(String indexKey, List<UUID> chatIds,
+                                                Function<List<UUID>, List<Map<String, String>>> summaryLoader) {
+        Map<UUID, Map<String, String>> found = new HashMap<>();
+        if (chatIds.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                chatIds.forEach(chatId -> conn.hGetAll(summaryKey(chatId)));
+                return null;
+            });
+            for (int i = 0; i < chatIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> summary = (Map<String, String>) hashes.get(i);
+                // 마지막 메시지만 갱신된 채 만료된 요약은 없는 것으로 취급
+                if (summary != null && summary.containsKey(CHAT_ID)) {
+                    found.put(chatIds.get(i), summary);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] summary read failed, reading from DB. size={}", chatIds.size(), e);
+        }
+
+        List<UUID> missing = chatIds.stream().filter(chatId -> !found.containsKey(chatId)).toList();
+        if (!missing.isEmpty()) {
+            List<Map<String, String>> loaded = summaryLoader.apply(missing);
+            loaded.forEach(summary -> found.put(chatId(summary), summary));
+            putSummaries(loaded);
+
+            // 삭제된 채팅방은 목록에서도 제거
+            String[] removed = missing.stream()
+                    .filter(chatId -> !found.containsKey(chatId))
+                    .map(UUID::toString)
+                    .toArray(String[]::new);
+            if (removed.length > 0) {
+                try {
+                    redisTemplate.opsForZSet().remove(indexKey, (Object[]) removed);
+                } catch (RuntimeException e) {
+                    log.warn("[ChatRoomListCache] stale room remove failed, key={}", indexKey, e);
+                }
+            }
+        }
+
+        return chatIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void load(String key, String version, List<Map<String, String>> rooms) {
+        List<String> args = new ArrayList<>(rooms.size() * 2 + 3);
+        args.add(String.valueOf(indexTtlSeconds));
+        args.add(LOADED_MARKER);
+        args.add(version == null ? "" : version);
+        rooms.forEach(room -> {
+            args.add(String.valueOf(score(room)));
+            args.add(room.get(CHAT_ID));
+        });
+
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key, key + VERSION_SUFFIX), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] index load failed, key={}", key, e);
+        }
+        putSummaries(rooms);
+    }
+
+    private void putSummaries(List<Map<String, String>> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Map<String, String> summary : summaries) {
+                    String key = summaryKey(chatId(summary));
+                    Map<String, String> values = new HashMap<>(summary);
+                    values.put(LAST_SENT_SCORE, String.valueOf(score(summary)));
+                    conn.hMSet(key, values);
+                    conn.expire(key, summaryTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] summary put failed, size={}", summaries.size(), e);
+        }
+    }
+
+    private void evictSummary(UUID chatId) {
+        try {
+            redisTemplate.delete(summaryKey(chatId));
+        } catch (RuntimeException e) {
+            log.warn("[ChatRoomListCache] summary evict failed, chatId={}", chatId, e);
+        }
+    }
+
+    private static List<Map<String, String>> sorted(List<Map<String, String>> rooms) {
+        return rooms.stream()
+                .sorted(Comparator.comparingLong(ChatRoomListCache::score).reversed())
+                .toList();
+    }
+
+    private static List<Map<String, String>> slice(List<Map<String, String>> rooms, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rooms.size());
+        int to = Math.min(from + pageable.getPageSize(), rooms.size());
+        return rooms.subList(from, to);
+    }
+
+    private static long score(Map<String, String> summary) {
+        String lastSentAt = summary.get(LAST_SENT_AT);
+        // 메시지가 없는 채팅방은 가장 뒤 (표시용 멤버보다는 앞)
+        return lastSentAt == null ? 0 : score(LocalDateTime.parse(lastSentAt));
+    }
+
+    private static long score(LocalDateTime sentAt) {
+        return sentAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String indexKey(RoomType roomType, UUID memberId) {
+        return INDEX_PREFIX + roomType.name().toLowerCase() + ":" + memberId;
+    }
+
+    private static String summaryKey(UUID chatId) {
+        return SUMMARY_PREFIX + chatId;
+    }
+
+    /**
+     * @param rooms         마지막 메시지 시각 내림차순 채팅방 요약
+     * @param totalElements 사용자의 전체 채팅방 수
+     */
+    public record RoomPage(List<Map<String, String>> rooms, long totalElements) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 채팅방 목록 구성이 바뀌었을 때(채팅방 생성/복구/나가기/삭제, 모임 가입/탈퇴/강퇴) 발행하는 이벤트
+ * 커밋 후 해당 사용자의 최근 채팅방 목록을 지워 다음 조회 때 DB 에서 다시 적재되도록 합니다.
+ */
+@Getter
+@Builder
+public class ChatRoomListEvent {
+    private RoomType roomType;
+    private UUID memberId;
+}
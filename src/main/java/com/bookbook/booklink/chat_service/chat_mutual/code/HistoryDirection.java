@@ -0,0 +1,9 @@
+package com.bookbook.booklink.chat_service.chat_mutual.code;
+
+/**
+ * 채팅 메시지 조회 방향
+ */
+public enum HistoryDirection {
+    BEFORE, // 커서보다 이전(오래된) 메시지
+    AFTER   // 커서보다 이후(최신) 메시지
+}
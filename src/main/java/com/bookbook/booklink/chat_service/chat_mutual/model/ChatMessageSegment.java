@@ -0,0 +1,80 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.Length;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 채팅 메시지를 채팅방별로 묶어 압축 저장한 세그먼트
+ *
+ * <p>한 세그먼트는 한 채팅방의 연속된 메시지를 (전송 시각, ID) 오름차순으로 담으며,
+ * 첫/마지막 메시지 위치를 인덱스 컬럼으로 두어 커서 조회 시 필요한 세그먼트만 읽습니다.
+ * 본문은 메시지 목록 JSON 을 deflate 로 압축한 값입니다.</p>
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_chat_message_segments_chat_first", columnList = "chat_id, first_sent_at, first_message_id"),
+        @Index(name = "idx_chat_message_segments_chat_last", columnList = "chat_id, last_sent_at, last_message_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSegment {
+    @Id
+    @UuidGenerator
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(nullable = false)
+    @Schema(description = "채팅방 ID")
+    private UUID chatId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Schema(description = "채팅방 타입", example = "SINGLE")
+    private RoomType roomType;
+
+    @Column(nullable = false)
+    @Schema(description = "첫 메시지 전송 시각")
+    private LocalDateTime firstSentAt;
+
+    @Column(nullable = false)
+    @Schema(description = "첫 메시지 ID")
+    private UUID firstMessageId;
+
+    @Column(nullable = false)
+    @Schema(description = "마지막 메시지 전송 시각")
+    private LocalDateTime lastSentAt;
+
+    @Column(nullable = false)
+    @Schema(description = "마지막 메시지 ID")
+    private UUID lastMessageId;
+
+    @Column(nullable = false)
+    @Schema(description = "메시지 수", example = "500")
+    private int messageCount;
+
+    @Column(nullable = false)
+    @Schema(description = "압축 전 크기 (bytes)")
+    private int rawSize;
+
+    @Lob
+    @Column(nullable = false, length = Length.LONG32)
+    @Schema(description = "압축된 메시지 목록")
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Schema(description = "보관 시각")
+    private LocalDateTime createdAt;
+}
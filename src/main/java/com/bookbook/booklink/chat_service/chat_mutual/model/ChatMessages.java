@@ -11,22 +11,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UuidGenerator;
+import lombok.AccessLevel;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_chat_messages_chat_sent_at", columnList = "chat_id, sent_at, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ChatMessages {
+public class ChatMessages implements Persistable<UUID> {
+    // 브로드캐스트 전에 식별자를 알 수 있도록 생성 시점에 애플리케이션에서 부여
     @Id
-    @UuidGenerator
     @Column(updatable = false, nullable = false)
     @Schema(description = "메시지 UUID")
     private UUID id;
@@ -35,7 +40,7 @@ public class ChatMessages {
     @Schema(description = "메시지 본문", example = "안녕하세요!")
     private String text;
 
-    @CreationTimestamp
+    // 브로드캐스트한 값과 저장되는 값이 같도록 DB 정밀도(마이크로초)로 잘라서 부여
     @Schema(description = "전송 시각")
     private LocalDateTime sentAt;
 
@@ -66,10 +71,54 @@ public class ChatMessages {
     @JoinColumn(name = "sender_id", nullable = false)
     private Member sender;
 
+    // 페이지 단위로 조회한 메시지들의 첨부파일을 IN 쿼리로 한 번에 불러옴
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "message", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<MessageAttachments> attachments = new ArrayList<>();
 
+    // 식별자를 미리 부여하므로 save 시 SELECT 없이 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    /**
+     * 저장에 실패한 메시지를 다시 저장하기 위해 같은 식별자와 내용으로 새 엔티티를 만듭니다.
+     * 롤백된 엔티티는 새 엔티티 여부와 첨부파일 ID 가 저장 시도 때의 값으로 남아 있어, 그대로 다시 저장하면 INSERT 대신 merge 됩니다.
+     */
+    public ChatMessages copyForRetry() {
+        ChatMessages copy = ChatMessages.builder()
+                .id(id)
+                .chatId(chatId)
+                .sender(sender)
+                .text(text)
+                .status(status)
+                .type(type)
+                .roomType(roomType)
+                .isDeleted(isDeleted)
+                .sentAt(sentAt)
+                .build();
+        attachments.forEach(a -> copy.getAttachments().add(MessageAttachments.builder()
+                .fileName(a.getFileName())
+                .filePath(a.getFilePath())
+                .fileSize(a.getFileSize())
+                .message(copy)
+                .build()));
+        return copy;
+    }
+
     /**
      * 1대1 채팅에서 발생하는 메세지를 저장하기 위한 메서드
      * @param sender 보낸사람 UUID
@@ -83,13 +132,14 @@ public class ChatMessages {
 
         // 1. 먼저 메시지 엔티티 생성
         ChatMessages message = ChatMessages.builder()
+                .id(UUID.randomUUID())
                 .chatId(dto.getChatId())
                 .sender(sender)
                 .text(dto.getText())
                 .status(MessageStatus.SENT)
                 .type(messageType)
                 .roomType(RoomType.SINGLE)
-                .sentAt(LocalDateTime.now())
+                .sentAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
                 .build();
         // 2. 첨부파일 있으면 엔티티로 변환 후 message에 연결
         if (dto.getAttachments() != null) {
@@ -119,13 +169,14 @@ public class ChatMessages {
                 (dto.getType() != null) ? dto.getType() : MessageType.TEXT;
 
         ChatMessages message = ChatMessages.builder()
+                .id(UUID.randomUUID())
                 .chatId(dto.getChatId())      // groupId가 chatId 역할
                 .sender(sender)
                 .text(dto.getText())
                 .status(MessageStatus.SENT)
                 .type(messageType)
                 .roomType(RoomType.GROUP)
-                .sentAt(LocalDateTime.now())
+                .sentAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
                 .build();
 
         if (dto.getAttachments() != null) {
@@ -0,0 +1,50 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅방별 사용자의 마지막 읽은 메시지 위치
+ * 동시에 들어온 읽음 처리가 충돌하지 않도록 {@code ChatReadCursorRepository.upsert} 로만 추가/갱신합니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_chat_read_cursor_chat_member", columnNames = {"chat_id", "member_id"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadCursor {
+    @Id
+    @UuidGenerator
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(nullable = false)
+    @Schema(description = "채팅방 ID")
+    private UUID chatId;
+
+    @Column(nullable = false)
+    @Schema(description = "사용자 ID")
+    private UUID memberId;
+
+    @Column(nullable = false)
+    @Schema(description = "마지막으로 읽은 메시지 ID")
+    private UUID lastReadMessageId;
+
+    @Column(nullable = false)
+    @Schema(description = "마지막으로 읽은 메시지의 전송 시각")
+    private LocalDateTime lastReadSentAt;
+
+    @UpdateTimestamp
+    @Schema(description = "마지막 읽음 처리 시각")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.request;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.HistoryDirection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Schema(description = "채팅 메시지 커서 기반 조회 요청 DTO")
+public class ChatHistoryReqDto {
+
+    @Schema(description = "이전 응답의 prevCursor 또는 nextCursor (생략 시 BEFORE 는 최신 메시지부터, AFTER 는 가장 오래된 메시지부터)",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String cursor;
+
+    @Schema(description = "조회 방향 (BEFORE: 이전 메시지, AFTER: 이후 메시지)", example = "BEFORE", defaultValue = "BEFORE",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private HistoryDirection direction = HistoryDirection.BEFORE;
+
+    @Schema(description = "이동할 메시지 ID. 지정하면 cursor/direction 을 무시하고 해당 메시지 전후를 함께 조회합니다.",
+            example = "550e8400-e29b-41d4-a716-446655440000", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private UUID anchorId;
+
+    @Schema(description = "페이지 크기 (생략 시 서버 기본값, 최대값을 넘으면 최대값으로 조정)", example = "30",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    private Integer size;
+}
@@ -0,0 +1,37 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.request;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.common.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 커서. (전송 시각 | 메시지 ID) 를 인코딩합니다.
+ * 같은 시각에 전송된 메시지는 ID 로 순서를 정합니다.
+ */
+public record ChatMessageCursor(
+        LocalDateTime sentAt,
+        UUID id
+) {
+    private static final ChatMessageCursor NONE = new ChatMessageCursor(null, null);
+
+    public static ChatMessageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return NONE;
+        }
+
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new ChatMessageCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(MessageResDto message) {
+        return CursorCodec.encode(message.getSentAt(), message.getMessageId());
+    }
+}
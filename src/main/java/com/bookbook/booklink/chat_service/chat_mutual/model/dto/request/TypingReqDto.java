@@ -0,0 +1,22 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypingReqDto {
+
+    @Schema(description = "채팅방 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID chatId;
+
+    @Schema(description = "입력 중 여부 (입력을 멈추거나 전송하면 false)", example = "true")
+    private boolean typing;
+}
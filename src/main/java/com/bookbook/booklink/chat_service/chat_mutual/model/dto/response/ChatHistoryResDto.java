@@ -0,0 +1,31 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "채팅 메시지 커서 기반 조회 응답 DTO")
+public class ChatHistoryResDto {
+
+    @Schema(description = "메시지 목록 (전송 시각 오름차순)")
+    private List<MessageResDto> messages;
+
+    @Schema(description = "이전(오래된) 메시지 조회 시 direction=BEFORE 와 함께 전달할 커서 (없으면 null)")
+    private String prevCursor;
+
+    @Schema(description = "이전 메시지 존재 여부")
+    private boolean hasPrev;
+
+    @Schema(description = "이후(최신) 메시지 조회 시 direction=AFTER 와 함께 전달할 커서 (없으면 null)")
+    private String nextCursor;
+
+    @Schema(description = "이후 메시지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "페이지당 메시지 수", example = "30")
+    private int pageSize;
+}
@@ -0,0 +1,26 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@Schema(description = "채팅방 읽음 처리 응답 DTO")
+public class ChatReadResDto {
+
+    @Schema(description = "채팅방 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID chatId;
+
+    @Schema(description = "마지막으로 읽은 메시지 ID (읽을 메시지가 없으면 null)", example = "7fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID lastReadMessageId;
+
+    @Schema(description = "마지막으로 읽은 메시지의 전송 시각", example = "2025-09-28T15:30:00")
+    private LocalDateTime lastReadSentAt;
+
+    @Schema(description = "읽음 처리 후 남은 안 읽은 메시지 수", example = "0")
+    private int unreadCount;
+}
@@ -20,6 +20,9 @@ import java.util.UUID;
 @NoArgsConstructor
 public class MessageResDto {
 
+    @Schema(description = "메시지 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID messageId;
+
     @Schema(description = "채팅방 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
     private UUID chatId;
 
@@ -46,6 +49,7 @@ public class MessageResDto {
 
     public static MessageResDto fromEntity(ChatMessages entity) {
         return MessageResDto.builder()
+                .messageId(entity.getId())
                 .chatId(entity.getChatId())
                 .senderId(entity.getSender().getId())
                 .senderEmail(entity.getSender().getEmail())
@@ -0,0 +1,34 @@
+package com.bookbook.booklink.chat_service.chat_mutual.model.dto.response;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅방 접속/입력 중 상태 (/sub/chat/{chatId}/presence, /sub/group/{chatId}/presence 로 전달)
+ * 짧은 주기로 모은 변경을 채팅방별 한 번의 전체 상태로 보냅니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PresenceResDto {
+
+    @Schema(description = "채팅방 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID chatId;
+
+    @Schema(description = "채팅방 타입", example = "GROUP")
+    private RoomType roomType;
+
+    @Schema(description = "현재 채팅방에 접속 중인 사용자 ID 목록")
+    private List<UUID> onlineMemberIds;
+
+    @Schema(description = "현재 입력 중인 사용자 ID 목록")
+    private List<UUID> typingMemberIds;
+}
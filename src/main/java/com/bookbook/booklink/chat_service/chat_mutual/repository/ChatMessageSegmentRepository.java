@@ -0,0 +1,46 @@
+package com.bookbook.booklink.chat_service.chat_mutual.repository;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessageSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChatMessageSegmentRepository extends JpaRepository<ChatMessageSegment, UUID> {
+
+    /**
+     * 커서 (sentAt, id) 이전 메시지를 포함하는 세그먼트를 최신순으로 조회합니다. 커서가 없으면 가장 최근 세그먼트부터 조회합니다.
+     */
+    @Query("SELECT s FROM ChatMessageSegment s " +
+            "WHERE s.chatId = :chatId " +
+            "AND (:cursorId IS NULL " +
+            "     OR s.firstSentAt < :cursorSentAt " +
+            "     OR (s.firstSentAt = :cursorSentAt AND s.firstMessageId < :cursorId)) " +
+            "ORDER BY s.firstSentAt DESC, s.firstMessageId DESC")
+    List<ChatMessageSegment> findBeforeCursor(@Param("chatId") UUID chatId,
+                                              @Param("cursorSentAt") LocalDateTime cursorSentAt,
+                                              @Param("cursorId") UUID cursorId,
+                                              Pageable limit);
+
+    /**
+     * 커서 (sentAt, id) 이후 메시지를 포함하는 세그먼트를 오래된 순으로 조회합니다. 커서가 없으면 가장 오래된 세그먼트부터 조회합니다.
+     */
+    @Query("SELECT s FROM ChatMessageSegment s " +
+            "WHERE s.chatId = :chatId " +
+            "AND (:cursorId IS NULL " +
+            "     OR s.lastSentAt > :cursorSentAt " +
+            "     OR (s.lastSentAt = :cursorSentAt AND s.lastMessageId > :cursorId)) " +
+            "ORDER BY s.lastSentAt ASC, s.lastMessageId ASC")
+    List<ChatMessageSegment> findAfterCursor(@Param("chatId") UUID chatId,
+                                             @Param("cursorSentAt") LocalDateTime cursorSentAt,
+                                             @Param("cursorId") UUID cursorId,
+                                             Pageable limit);
+
+    // 메시지 이동(anchor) 조회 시 최근 세그먼트부터 차례로 확인
+    @Query("SELECT s.id FROM ChatMessageSegment s WHERE s.chatId = :chatId ORDER BY s.lastSentAt DESC")
+    List<UUID> findIdsByChatIdLatestFirst(@Param("chatId") UUID chatId);
+}
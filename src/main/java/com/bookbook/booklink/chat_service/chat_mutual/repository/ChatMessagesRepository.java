@@ -1,15 +1,102 @@
 package com.bookbook.booklink.chat_service.chat_mutual.repository;
 
 import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ChatMessagesRepository extends JpaRepository<ChatMessages, UUID> {
-    // 특정 채팅방의 메시지를 시간순으로 불러오기
+
+    /**
+     * 커서 (sentAt, id) 이전 메시지를 최신순으로 조회합니다. 커서가 없으면 가장 최근 메시지부터 조회합니다.
+     * (chat_id, sent_at, id) 인덱스를 역방향으로 읽습니다.
+     */
+    @EntityGraph(attributePaths = {"sender"})
+    @Query("SELECT m FROM ChatMessages m " +
+            "WHERE m.chatId = :chatId " +
+            "AND (:cursorId IS NULL " +
+            "     OR m.sentAt < :cursorSentAt " +
+            "     OR (m.sentAt = :cursorSentAt AND m.id < :cursorId)) " +
+            "ORDER BY m.sentAt DESC, m.id DESC")
+    List<ChatMessages> findBeforeCursor(@Param("chatId") UUID chatId,
+                                        @Param("cursorSentAt") LocalDateTime cursorSentAt,
+                                        @Param("cursorId") UUID cursorId,
+                                        Pageable limit);
+
+    /**
+     * 커서 (sentAt, id) 이후 메시지를 오래된 순으로 조회합니다. 커서가 없으면 가장 오래된 메시지부터 조회합니다.
+     */
     @EntityGraph(attributePaths = {"sender"})
-    List<ChatMessages> findAllByChatId(UUID chatId);
+    @Query("SELECT m FROM ChatMessages m " +
+            "WHERE m.chatId = :chatId " +
+            "AND (:cursorId IS NULL " +
+            "     OR m.sentAt > :cursorSentAt " +
+            "     OR (m.sentAt = :cursorSentAt AND m.id > :cursorId)) " +
+            "ORDER BY m.sentAt ASC, m.id ASC")
+    List<ChatMessages> findAfterCursor(@Param("chatId") UUID chatId,
+                                       @Param("cursorSentAt") LocalDateTime cursorSentAt,
+                                       @Param("cursorId") UUID cursorId,
+                                       Pageable limit);
+
+    /**
+     * 읽은 위치 (sentAt, id) 이후에 다른 사용자가 보낸 메시지 수를 셉니다. 읽음 처리 시에만 사용합니다.
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessages m " +
+            "WHERE m.chatId = :chatId AND m.sender.id <> :memberId " +
+            "AND (m.sentAt > :readSentAt OR (m.sentAt = :readSentAt AND m.id > :readId))")
+    long countUnreadAfter(@Param("chatId") UUID chatId,
+                          @Param("memberId") UUID memberId,
+                          @Param("readSentAt") LocalDateTime readSentAt,
+                          @Param("readId") UUID readId);
+
+    /**
+     * countUnreadAfter 와 같지만, 쓰기 큐에서 함께 세는 아직 저장되지 않았던 메시지는 제외합니다.
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessages m " +
+            "WHERE m.chatId = :chatId AND m.sender.id <> :memberId " +
+            "AND (m.sentAt > :readSentAt OR (m.sentAt = :readSentAt AND m.id > :readId)) " +
+            "AND m.id NOT IN :excludedIds")
+    long countUnreadAfterExcluding(@Param("chatId") UUID chatId,
+                                   @Param("memberId") UUID memberId,
+                                   @Param("readSentAt") LocalDateTime readSentAt,
+                                   @Param("readId") UUID readId,
+                                   @Param("excludedIds") Collection<UUID> excludedIds);
+
+    // 메시지 이동(anchor) 조회 시 기준 메시지
+    @EntityGraph(attributePaths = {"sender"})
+    Optional<ChatMessages> findByIdAndChatId(UUID id, UUID chatId);
+
+    /**
+     * 기준 시각 이전 메시지가 남아 있는 채팅방 ID 목록 (보관 작업용)
+     */
+    @Query("SELECT DISTINCT m.chatId FROM ChatMessages m WHERE m.sentAt < :cutoff")
+    List<UUID> findChatIdsWithMessagesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 채팅방에서 기준 시각 이전 메시지를 오래된 순으로 조회합니다. (보관 작업용)
+     */
+    @EntityGraph(attributePaths = {"sender"})
+    @Query("SELECT m FROM ChatMessages m " +
+            "WHERE m.chatId = :chatId AND m.sentAt < :cutoff " +
+            "ORDER BY m.sentAt ASC, m.id ASC")
+    List<ChatMessages> findArchivable(@Param("chatId") UUID chatId,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable limit);
+
+    @Modifying
+    @Query("DELETE FROM MessageAttachments a WHERE a.message.id IN :messageIds")
+    int deleteAttachmentsByMessageIdIn(@Param("messageIds") Collection<UUID> messageIds);
 
+    @Modifying
+    @Query("DELETE FROM ChatMessages m WHERE m.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,42 @@
+package com.bookbook.booklink.chat_service.chat_mutual.repository;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, UUID> {
+
+    Optional<ChatReadCursor> findByChatIdAndMemberId(UUID chatId, UUID memberId);
+
+    /**
+     * 읽은 위치를 추가하거나 옮깁니다. (chat_id, member_id) 유니크 제약에 걸리면 기존 행을 갱신하므로
+     * 같은 사용자의 첫 읽음 처리가 동시에 들어와도 실패하지 않습니다.
+     * 이미 더 뒤의 메시지 (sentAt, id) 까지 읽었으면 그대로 둡니다.
+     *
+     * <p>MariaDB 는 SET 을 왼쪽부터 적용하므로 메시지 ID 를 기존 전송 시각과 비교해 먼저 정한 뒤 전송 시각을 갱신합니다.</p>
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO chat_read_cursor (id, chat_id, member_id, last_read_message_id, last_read_sent_at, updated_at)
+            VALUES (:id, :chatId, :memberId, :messageId, :sentAt, NOW(6))
+            ON DUPLICATE KEY UPDATE
+                last_read_message_id = IF(VALUES(last_read_sent_at) > last_read_sent_at
+                        OR (VALUES(last_read_sent_at) = last_read_sent_at
+                            AND VALUES(last_read_message_id) > last_read_message_id),
+                        VALUES(last_read_message_id), last_read_message_id),
+                last_read_sent_at = GREATEST(last_read_sent_at, VALUES(last_read_sent_at)),
+                updated_at = NOW(6)
+            """,
+            nativeQuery = true)
+    int upsert(@Param("id") UUID id,
+               @Param("chatId") UUID chatId,
+               @Param("memberId") UUID memberId,
+               @Param("messageId") UUID messageId,
+               @Param("sentAt") LocalDateTime sentAt);
+}
@@ -0,0 +1,116 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessageSegment;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 보관 기간(retention-days)이 지난 채팅 메시지를 채팅방별 압축 세그먼트로 옮기는 스케줄러
+ *
+ * <p>채팅방마다 세그먼트 하나씩 별도 트랜잭션으로 옮기므로 중간에 실패해도 이미 옮긴 세그먼트는 유지되고,
+ * 남은 메시지는 다음 실행 때 이어서 옮깁니다. 여러 인스턴스가 동시에 실행하지 않도록 Redis 락을 잡습니다.</p>
+ *
+ * <p>락 값은 실행마다 만든 토큰이며, 세그먼트를 하나 옮길 때마다 토큰이 같을 때만 TTL 을 연장하고
+ * 끝나면 토큰이 같을 때만 지웁니다. 연장에 실패하면(락을 잃으면) 그 자리에서 멈춥니다.
+ * 락이 만료되어 두 인스턴스가 겹치더라도 세그먼트 저장은 원본 삭제 건수가 맞을 때만 커밋됩니다.</p>
+ *
+ * <p>실행이 끝나면 옮긴 메시지 수와 압축 전/후 크기를 로그로 남깁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveScheduler {
+
+    private static final String LOCK_KEY = "chat:archive:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    // 토큰이 같을 때만 TTL 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰이 같을 때만 해제 (만료 후 다른 인스턴스가 잡은 락은 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ChatArchiveService chatArchiveService;
+    private final ChatMessagesRepository chatMessagesRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${chat-archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat-archive.retention-days:90}")
+    private int retentionDays;
+
+    @Scheduled(cron = "${chat-archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            List<UUID> chatIds = chatMessagesRepository.findChatIdsWithMessagesBefore(cutoff);
+
+            long segments = 0;
+            long messages = 0;
+            long rawBytes = 0;
+            long storedBytes = 0;
+            boolean locked = true;
+            for (UUID chatId : chatIds) {
+                try {
+                    Optional<ChatMessageSegment> segment;
+                    while ((locked = renew(token))
+                            && (segment = chatArchiveService.archiveNextSegment(chatId, cutoff)).isPresent()) {
+                        segments++;
+                        messages += segment.get().getMessageCount();
+                        rawBytes += segment.get().getRawSize();
+                        storedBytes += segment.get().getPayload().length;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("[ChatArchiveScheduler] archive failed, chatId={}", chatId, e);
+                }
+                if (!locked) {
+                    log.warn("[ChatArchiveScheduler] lock lost, stopping. chatId={}", chatId);
+                    break;
+                }
+            }
+
+            log.info("[ChatArchiveScheduler] archive success, cutoff={}, rooms={}, segments={}, messages={}, rawBytes={}, storedBytes={}",
+                    cutoff, chatIds.size(), segments, messages, rawBytes, storedBytes);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private boolean renew(String token) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY),
+                token, String.valueOf(LOCK_TTL.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+}
@@ -0,0 +1,234 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessageSegment;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessageSegmentRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관 기간이 지난 채팅 메시지를 압축 세그먼트({@link ChatMessageSegment})로 옮기고 읽습니다.
+ *
+ * <p>세그먼트는 채팅방별로 가장 오래된 메시지부터 segment-size 개씩 만들어지므로,
+ * 한 채팅방의 보관 메시지는 항상 남아 있는 메시지보다 앞섭니다.
+ * 커서 조회는 이 순서를 이용해 한쪽 저장소에서 부족한 만큼만 다른 쪽에서 이어서 읽습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    private static final TypeReference<List<MessageResDto>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private final ChatMessagesRepository chatMessagesRepository;
+    private final ChatMessageSegmentRepository segmentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat-archive.segment-size:500}")
+    private int segmentSize;
+
+    /**
+     * 채팅방에서 기준 시각 이전 메시지를 오래된 것부터 segment-size 개까지 세그먼트 하나로 옮깁니다.
+     * 세그먼트 저장과 원본 삭제는 한 트랜잭션으로 처리하며, 삭제한 건수가 읽은 건수와 다르면 롤백합니다.
+     *
+     * @param chatId 채팅방 UUID
+     * @param cutoff 이 시각 이전 메시지를 보관
+     * @return 만든 세그먼트 (옮길 메시지가 없으면 empty)
+     * @throws CustomException DATABASE_ERROR — 동시에 실행된 보관 작업과 메시지가 겹쳤을 때
+     */
+    @Transactional
+    public Optional<ChatMessageSegment> archiveNextSegment(UUID chatId, LocalDateTime cutoff) {
+        List<ChatMessages> messages =
+                chatMessagesRepository.findArchivable(chatId, cutoff, PageRequest.of(0, segmentSize));
+        if (messages.isEmpty()) {
+            return Optional.empty();
+        }
+
+        byte[] raw = serialize(messages.stream().map(MessageResDto::fromEntity).toList());
+        ChatMessages first = messages.get(0);
+        ChatMessages last = messages.get(messages.size() - 1);
+
+        ChatMessageSegment segment = segmentRepository.save(ChatMessageSegment.builder()
+                .chatId(chatId)
+                .roomType(first.getRoomType())
+                .firstSentAt(first.getSentAt())
+                .firstMessageId(first.getId())
+                .lastSentAt(last.getSentAt())
+                .lastMessageId(last.getId())
+                .messageCount(messages.size())
+                .rawSize(raw.length)
+                .payload(deflate(raw))
+                .build());
+
+        List<UUID> ids = messages.stream().map(ChatMessages::getId).toList();
+        chatMessagesRepository.deleteAttachmentsByMessageIdIn(ids);
+        int deleted = chatMessagesRepository.deleteAllByIdIn(ids);
+        if (deleted != ids.size()) {
+            // 다른 작업이 같은 메시지를 먼저 옮겼거나 지웠으면 중복 세그먼트가 남지 않도록 롤백
+            log.warn("[ChatArchiveService] archive conflict, rolling back. chatId={}, expected={}, deleted={}",
+                    chatId, ids.size(), deleted);
+            throw new CustomException(ErrorCode.DATABASE_ERROR);
+        }
+
+        return Optional.of(segment);
+    }
+
+    /**
+     * 커서 (sentAt, id) 이전의 보관 메시지를 최신순으로 최대 limit 개 조회합니다. 커서가 없으면 가장 최근 보관 메시지부터 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResDto> findBefore(UUID chatId, LocalDateTime cursorSentAt, UUID cursorId, int limit) {
+        List<MessageResDto> result = new ArrayList<>(limit);
+        LocalDateTime sentAt = cursorSentAt;
+        UUID id = cursorId;
+
+        while (result.size() < limit) {
+            List<ChatMessageSegment> segments =
+                    segmentRepository.findBeforeCursor(chatId, sentAt, id, PageRequest.of(0, 1));
+            if (segments.isEmpty()) {
+                break;
+            }
+
+            ChatMessageSegment segment = segments.get(0);
+            List<MessageResDto> messages = decode(segment);
+            for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                MessageResDto message = messages.get(i);
+                if (id == null || compare(message, sentAt, id) < 0) {
+                    result.add(message);
+                }
+            }
+            // 다음 세그먼트는 이 세그먼트의 첫 메시지보다 앞선 메시지만 담음
+            sentAt = segment.getFirstSentAt();
+            id = segment.getFirstMessageId();
+        }
+        return result;
+    }
+
+    /**
+     * 커서 (sentAt, id) 이후의 보관 메시지를 오래된 순으로 최대 limit 개 조회합니다. 커서가 없으면 가장 오래된 보관 메시지부터 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResDto> findAfter(UUID chatId, LocalDateTime cursorSentAt, UUID cursorId, int limit) {
+        List<MessageResDto> result = new ArrayList<>(limit);
+        LocalDateTime sentAt = cursorSentAt;
+        UUID id = cursorId;
+
+        while (result.size() < limit) {
+            List<ChatMessageSegment> segments =
+                    segmentRepository.findAfterCursor(chatId, sentAt, id, PageRequest.of(0, 1));
+            if (segments.isEmpty()) {
+                break;
+            }
+
+            ChatMessageSegment segment = segments.get(0);
+            for (MessageResDto message : decode(segment)) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (id == null || compare(message, sentAt, id) > 0) {
+                    result.add(message);
+                }
+            }
+            sentAt = segment.getLastSentAt();
+            id = segment.getLastMessageId();
+        }
+        return result;
+    }
+
+    /**
+     * 보관 메시지 하나를 찾습니다. 최근 세그먼트부터 차례로 확인하므로 메시지 이동(anchor) 조회에서만 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<MessageResDto> findMessage(UUID chatId, UUID messageId) {
+        for (UUID segmentId : segmentRepository.findIdsByChatIdLatestFirst(chatId)) {
+            Optional<MessageResDto> found = segmentRepository.findById(segmentId).stream()
+                    .flatMap(segment -> decode(segment).stream())
+                    .filter(message -> messageId.equals(message.getMessageId()))
+                    .findFirst();
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int compare(MessageResDto message, LocalDateTime sentAt, UUID id) {
+        int bySentAt = message.getSentAt().compareTo(sentAt);
+        return bySentAt != 0 ? bySentAt : message.getMessageId().compareTo(id);
+    }
+
+    private byte[] serialize(List<MessageResDto> messages) {
+        try {
+            return objectMapper.writeValueAsBytes(messages);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.JSON_PARSING_ERROR);
+        }
+    }
+
+    private List<MessageResDto> decode(ChatMessageSegment segment) {
+        try {
+            return objectMapper.readValue(inflate(segment.getPayload(), segment.getRawSize()), MESSAGES_TYPE);
+        } catch (IOException | DataFormatException e) {
+            log.error("[ChatArchiveService] segment decode failed. segmentId={}, chatId={}",
+                    segment.getId(), segment.getChatId(), e);
+            throw new CustomException(ErrorCode.CHAT_ARCHIVE_READ_FAILED);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] payload, int rawSize) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            byte[] raw = new byte[rawSize];
+            int read = 0;
+            while (read < rawSize && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawSize - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated segment payload");
+                }
+                read += n;
+            }
+            return raw;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 쓰기 큐
+ *
+ * <p>전송 요청은 검증 후 식별자와 전송 시각을 부여한 메시지를 큐에 넣고 바로 브로드캐스트합니다.
+ * 큐에 쌓인 메시지는 주기적으로 batch-size 개씩 꺼내 한 트랜잭션으로 저장하며,
+ * 채팅방의 마지막 메시지도 이 때 방마다 한 번만 갱신합니다.</p>
+ *
+ * <p>저장은 공용 @Scheduled 스레드가 아닌 전용 스레드(chat-message-writer)에서 flush-interval-ms 주기로 실행되므로
+ * 다른 스케줄 작업이 늦어져도 메시지 저장이 밀리지 않습니다.</p>
+ *
+ * <p>묶음 저장과 개별 재시도에 모두 실패한 메시지는 버리지 않고 재시도 버퍼에 보관하여,
+ * retry-backoff-ms 부터 retry-max-backoff-ms 까지 두 배씩 늘어나는 간격으로 DB 가 받아줄 때까지 다시 저장합니다.
+ * 다시 저장할 때는 롤백된 엔티티 대신 {@link ChatMessages#copyForRetry()} 로 새로 만든 엔티티를 사용합니다.
+ * 재시도 버퍼가 queue-capacity 만큼 차면 큐에서 더 꺼내지 않으므로, 큐가 가득 차 새 전송이 거절됩니다.</p>
+ *
+ * <p>큐가 가득 차면 offer-timeout-ms 만큼 기다린 뒤 전송을 거절(CHAT_SEND_BUSY)하여 메모리 사용량을 제한합니다.
+ * 종료 시에는 큐와 재시도 버퍼에 남은 메시지를 모두 저장을 시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatMessagesService chatMessagesService;
+
+    @Value("${chat-write.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat-write.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat-write.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${chat-write.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${chat-write.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${chat-write.retry-max-backoff-ms:60000}")
+    private long retryMaxBackoffMs;
+
+    private BlockingQueue<ChatMessages> queue;
+    private ScheduledExecutorService executor;
+
+    // 저장에 실패한 메시지
+    private final BlockingDeque<ChatMessages> retryBuffer = new LinkedBlockingDeque<>();
+    // 큐나 재시도 버퍼에서 꺼내 저장 중인 메시지 (읽음 처리가 저장 전 메시지를 찾을 수 있도록 노출)
+    private volatile List<ChatMessages> inFlight = List.of();
+    private long currentBackoffMs;
+    private long nextRetryAt;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-message-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메시지를 쓰기 큐에 넣습니다.
+     *
+     * @param message 식별자와 전송 시각이 부여된 메시지
+     * @throws CustomException CHAT_SEND_BUSY — 대기 시간 안에 큐에 자리가 나지 않을 때
+     */
+    public void enqueue(ChatMessages message) {
+        try {
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("[ChatMessageWriter] write queue full, message rejected. chatId={}, queueSize={}",
+                message.getChatId(), queue.size());
+        throw new CustomException(ErrorCode.CHAT_SEND_BUSY);
+    }
+
+    /**
+     * 아직 DB 에 저장되지 않은 채팅방 메시지를 조회합니다. (이 인스턴스의 큐, 저장 중인 묶음, 재시도 버퍼)
+     * 조회 도중 저장이 끝난 메시지가 포함될 수 있으므로, DB 조회보다 먼저 호출해야 빠지는 메시지가 없습니다.
+     */
+    public List<ChatMessages> pending(UUID chatId) {
+        // 재시도 버퍼와 저장 중인 묶음 사이를 옮기는 순간에는 같은 메시지가 두 번 보일 수 있어 ID 로 중복 제거
+        Map<UUID, ChatMessages> pending = new LinkedHashMap<>();
+        queue.forEach(message -> collect(pending, message, chatId));
+        inFlight.forEach(message -> collect(pending, message, chatId));
+        retryBuffer.forEach(message -> collect(pending, message, chatId));
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * 재시도 시각이 된 실패 메시지를 먼저 다시 저장한 뒤, 큐에 쌓인 메시지를 batch-size 개씩 저장합니다.
+     */
+    public synchronized void flush() {
+        if (!retryBuffer.isEmpty() && System.currentTimeMillis() >= nextRetryAt) {
+            retryFailed();
+        }
+
+        List<ChatMessages> batch = new ArrayList<>(batchSize);
+        while (retryBuffer.size() < queueCapacity
+                && queue.drainTo(batch, Math.min(batchSize, queueCapacity - retryBuffer.size())) > 0) {
+            inFlight = List.copyOf(batch);
+            List<ChatMessages> failed = write(batch);
+            if (!failed.isEmpty()) {
+                if (retryBuffer.isEmpty()) {
+                    scheduleRetry(false);
+                }
+                retryBuffer.addAll(failed);
+            }
+            inFlight = List.of();
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[ChatMessageWriter] shutdown, flushing remaining messages. size={}, retry={}",
+                queue.size(), retryBuffer.size());
+        nextRetryAt = 0;
+        flush();
+        if (!retryBuffer.isEmpty()) {
+            retryBuffer.forEach(message -> log.error("[ChatMessageWriter] message not saved on shutdown. messageId={}, chatId={}",
+                    message.getId(), message.getChatId()));
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 주기가 실행되지 않으므로 여기서 삼킴
+            log.error("[ChatMessageWriter] flush failed", e);
+        }
+    }
+
+    private void retryFailed() {
+        List<ChatMessages> pending = new ArrayList<>(retryBuffer);
+        inFlight = List.copyOf(pending);
+        retryBuffer.clear();
+
+        List<ChatMessages> failed = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            failed.addAll(write(pending.subList(from, Math.min(from + batchSize, pending.size()))));
+        }
+        retryBuffer.addAll(failed);
+        inFlight = List.of();
+
+        if (failed.isEmpty()) {
+            log.info("[ChatMessageWriter] retried messages saved. size={}", pending.size());
+            currentBackoffMs = 0;
+            return;
+        }
+
+        scheduleRetry(true);
+        log.warn("[ChatMessageWriter] retry failed, will retry in {}ms. pending={}", currentBackoffMs, failed.size());
+    }
+
+    private static void collect(Map<UUID, ChatMessages> pending, ChatMessages message, UUID chatId) {
+        if (chatId.equals(message.getChatId())) {
+            pending.putIfAbsent(message.getId(), message);
+        }
+    }
+
+    private void scheduleRetry(boolean increase) {
+        currentBackoffMs = increase && currentBackoffMs > 0
+                ? Math.min(currentBackoffMs * 2, retryMaxBackoffMs)
+                : retryBackoffMs;
+        nextRetryAt = System.currentTimeMillis() + currentBackoffMs;
+    }
+
+    /**
+     * @return 저장하지 못한 메시지
+     */
+    private List<ChatMessages> write(List<ChatMessages> batch) {
+        try {
+            chatMessagesService.saveMessagesInBatch(batch);
+            log.debug("[ChatMessageWriter] batch saved. size={}", batch.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            // 한 메시지 때문에 묶음 전체가 밀리지 않도록 하나씩 다시 저장
+            // 롤백된 엔티티는 저장된 것처럼 남아 있으므로 매번 새로 만든 엔티티로 저장
+            log.warn("[ChatMessageWriter] batch save failed, retrying one by one. size={}", batch.size(), e);
+            List<ChatMessages> failed = new ArrayList<>();
+            for (ChatMessages message : batch) {
+                try {
+                    chatMessagesService.saveMessagesInBatch(List.of(message.copyForRetry()));
+                } catch (RuntimeException ex) {
+                    log.error("[ChatMessageWriter] message save failed, kept for retry. messageId={}, chatId={}",
+                            message.getId(), message.getChatId(), ex);
+                    failed.add(message.copyForRetry());
+                }
+            }
+            return failed;
+        }
+    }
+}
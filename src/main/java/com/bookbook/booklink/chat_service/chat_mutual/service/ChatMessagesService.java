@@ -1,45 +1,218 @@
 package com.bookbook.booklink.chat_service.chat_mutual.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomActivityEvent;
+import com.bookbook.booklink.chat_service.chat_mutual.code.HistoryDirection;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
 import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatMessageCursor;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.chat_service.group.repository.GroupChatsRepository;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ChatMessagesService {
 
+    // 채팅방 목록의 마지막 메시지 컬럼 길이
+    private static final int LAST_MESSAGE_MAX_LENGTH = 255;
+
     private final ChatMessagesRepository chatMessagesRepository;
+    private final SingleChatsRepository singleChatsRepository;
+    private final GroupChatsRepository groupChatsRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat-history.default-page-size:30}")
+    private int defaultPageSize;
+
+    @Value("${chat-history.max-page-size:100}")
+    private int maxPageSize;
 
     /**
-     * 특정 채팅방에 속한 모든 메시지를 전송 시간 순으로 조회합니다.
+     * 특정 채팅방의 메시지를 커서 기반으로 조회합니다.
+     * <p>
+     * - anchorId 가 있으면 해당 메시지를 가운데 두고 전후 메시지를 함께 조회합니다. <br>
+     * - BEFORE 는 커서 이전 메시지를, AFTER 는 커서 이후 메시지를 조회하며 커서가 없으면 각각 최신/최초 메시지부터 조회합니다. <br>
+     * - 보관 기간이 지나 세그먼트로 옮겨진 메시지({@link ChatArchiveService})도 같은 커서로 이어서 조회합니다. <br>
+     * - 응답 메시지는 방향과 상관없이 전송 시각 오름차순입니다.
      *
-     * @param chatId 채팅방 UUID
-     * @return 메시지 응답 DTO 리스트
+     * @param chatId  채팅방 UUID
+     * @param request 커서, 방향, 이동할 메시지 ID, 페이지 크기
+     * @return 메시지 목록과 양방향 커서
+     * @throws CustomException INVALID_CURSOR — 커서 형식이 올바르지 않을 때
+     * @throws CustomException CHAT_MESSAGE_NOT_FOUND — 이동할 메시지가 해당 채팅방에 없을 때
      */
     @Transactional(readOnly = true)
-    public List<MessageResDto> findSentMessages(UUID chatId) {
-        return chatMessagesRepository.findAllByChatId(chatId)
-                .stream()
+    public ChatHistoryResDto findMessageHistory(UUID chatId, ChatHistoryReqDto request) {
+        int size = resolvePageSize(request.getSize());
+
+        if (request.getAnchorId() != null) {
+            return findAroundAnchor(chatId, request.getAnchorId(), size);
+        }
+
+        ChatMessageCursor cursor = ChatMessageCursor.decode(request.getCursor());
+        boolean hasCursor = cursor.id() != null;
+
+        if (request.getDirection() == HistoryDirection.AFTER) {
+            List<MessageResDto> fetched = findAfter(chatId, cursor.sentAt(), cursor.id(), size + 1);
+            boolean hasNext = fetched.size() > size;
+            List<MessageResDto> messages = hasNext ? fetched.subList(0, size) : fetched;
+            // 커서 위치의 메시지가 있으므로 커서를 넘겨 조회했다면 이전 메시지가 존재
+            return toHistory(messages, hasCursor, hasNext, size);
+        }
+
+        List<MessageResDto> fetched = findBefore(chatId, cursor.sentAt(), cursor.id(), size + 1);
+        boolean hasPrev = fetched.size() > size;
+        List<MessageResDto> messages = new ArrayList<>(hasPrev ? fetched.subList(0, size) : fetched);
+        Collections.reverse(messages);
+        return toHistory(messages, hasPrev, hasCursor, size);
+    }
+
+    /**
+     * 기준 메시지 이전 size / 2 개, 기준 메시지, 이후 나머지 개수를 조회합니다.
+     */
+    private ChatHistoryResDto findAroundAnchor(UUID chatId, UUID anchorId, int size) {
+        MessageResDto anchor = chatMessagesRepository.findByIdAndChatId(anchorId, chatId)
                 .map(MessageResDto::fromEntity)
-                .toList();
+                .or(() -> chatArchiveService.findMessage(chatId, anchorId))
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+
+        int beforeSize = size / 2;
+        int afterSize = size - beforeSize - 1;
+
+        List<MessageResDto> before = findBefore(chatId, anchor.getSentAt(), anchor.getMessageId(), beforeSize + 1);
+        List<MessageResDto> after = findAfter(chatId, anchor.getSentAt(), anchor.getMessageId(), afterSize + 1);
+
+        boolean hasPrev = before.size() > beforeSize;
+        boolean hasNext = after.size() > afterSize;
+
+        List<MessageResDto> messages = new ArrayList<>(size);
+        messages.addAll(hasPrev ? before.subList(0, beforeSize) : before);
+        Collections.reverse(messages);
+        messages.add(anchor);
+        messages.addAll(hasNext ? after.subList(0, afterSize) : after);
+
+        return toHistory(messages, hasPrev, hasNext, size);
+    }
+
+    /**
+     * 커서 이전 메시지를 최신순으로 최대 limit 개 조회합니다.
+     * 보관 메시지는 항상 남아 있는 메시지보다 앞서므로, 부족한 만큼만 보관 세그먼트에서 이어서 읽습니다.
+     */
+    private List<MessageResDto> findBefore(UUID chatId, LocalDateTime cursorSentAt, UUID cursorId, int limit) {
+        List<MessageResDto> messages = new ArrayList<>(limit);
+        chatMessagesRepository.findBeforeCursor(chatId, cursorSentAt, cursorId, PageRequest.of(0, limit))
+                .forEach(message -> messages.add(MessageResDto.fromEntity(message)));
+
+        if (messages.size() < limit) {
+            MessageResDto oldest = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+            messages.addAll(chatArchiveService.findBefore(chatId,
+                    oldest == null ? cursorSentAt : oldest.getSentAt(),
+                    oldest == null ? cursorId : oldest.getMessageId(),
+                    limit - messages.size()));
+        }
+        return messages;
     }
+
+    /**
+     * 커서 이후 메시지를 오래된 순으로 최대 limit 개 조회합니다.
+     * 커서 이후의 보관 메시지를 먼저 읽고, 부족한 만큼 남아 있는 메시지에서 이어서 읽습니다.
+     */
+    private List<MessageResDto> findAfter(UUID chatId, LocalDateTime cursorSentAt, UUID cursorId, int limit) {
+        List<MessageResDto> messages =
+                new ArrayList<>(chatArchiveService.findAfter(chatId, cursorSentAt, cursorId, limit));
+
+        if (messages.size() < limit) {
+            MessageResDto newest = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+            chatMessagesRepository.findAfterCursor(chatId,
+                            newest == null ? cursorSentAt : newest.getSentAt(),
+                            newest == null ? cursorId : newest.getMessageId(),
+                            PageRequest.of(0, limit - messages.size()))
+                    .forEach(message -> messages.add(MessageResDto.fromEntity(message)));
+        }
+        return messages;
+    }
+
+    private ChatHistoryResDto toHistory(List<MessageResDto> messages, boolean hasPrev, boolean hasNext, int size) {
+        boolean empty = messages.isEmpty();
+        return ChatHistoryResDto.builder()
+                .messages(messages)
+                .prevCursor(hasPrev && !empty ? ChatMessageCursor.encode(messages.get(0)) : null)
+                .hasPrev(hasPrev)
+                .nextCursor(hasNext && !empty ? ChatMessageCursor.encode(messages.get(messages.size() - 1)) : null)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    /**
+     * 쓰기 큐에서 꺼낸 메시지들을 한 트랜잭션으로 저장합니다.
+     * <p>
+     * - INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다. <br>
+     * - 채팅방의 마지막 메시지는 방마다 가장 최근 메시지 하나로만 갱신합니다. <br>
+     * - 커밋 후 {@link ChatRoomActivityEvent} 로 참여자들의 최근 채팅방 목록 순서를 갱신합니다.
+     *
+     * @param messages 식별자와 전송 시각이 부여된 메시지 목록
+     */
     @Transactional
-    public ChatMessages saveSingleMessagesEntity(Member member, MessageReqDto dto) {
-        ChatMessages chatMessages = ChatMessages.saveSingleRoomMessage(member,dto);
-        return chatMessagesRepository.save(chatMessages);
+    public void saveMessagesInBatch(List<ChatMessages> messages) {
+        chatMessagesRepository.saveAll(messages);
+
+        Map<UUID, ChatMessages> latestByRoom = new HashMap<>();
+        for (ChatMessages message : messages) {
+            latestByRoom.merge(message.getChatId(), message,
+                    (current, candidate) -> candidate.getSentAt().isBefore(current.getSentAt()) ? current : candidate);
+        }
+
+        latestByRoom.values().forEach(latest -> {
+            String lastMessage = latest.getText() != null && latest.getText().length() > LAST_MESSAGE_MAX_LENGTH
+                    ? latest.getText().substring(0, LAST_MESSAGE_MAX_LENGTH)
+                    : latest.getText();
+            if (latest.getRoomType() == RoomType.GROUP) {
+                groupChatsRepository.updateLastMessage(latest.getChatId(), lastMessage, latest.getSentAt());
+            } else {
+                singleChatsRepository.updateLastMessage(latest.getChatId(), lastMessage, latest.getSentAt());
+            }
+            eventPublisher.publishEvent(ChatRoomActivityEvent.builder()
+                    .roomType(latest.getRoomType())
+                    .chatId(latest.getChatId())
+                    .lastMessage(lastMessage)
+                    .sentAt(latest.getSentAt())
+                    .build());
+        });
     }
 
     @Transactional
-    public ChatMessages saveGroupMessagesEntity(Member member, MessageReqDto dto) {
-        ChatMessages chatMessages = ChatMessages.saveGroupMessage(member,dto);
+    public ChatMessages saveSingleMessagesEntity(Member member, MessageReqDto dto) {
+        ChatMessages chatMessages = ChatMessages.saveSingleRoomMessage(member,dto);
         return chatMessagesRepository.save(chatMessages);
     }
 }
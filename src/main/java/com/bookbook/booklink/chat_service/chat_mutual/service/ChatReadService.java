@@ -0,0 +1,254 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipCache;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatReadCursor;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatReadCursorRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 채팅방 안 읽은 메시지 수와 읽은 위치를 관리합니다.
+ *
+ * <p>안 읽은 메시지 수는 사용자별 Redis 해시 (chat:unread:{memberId}, 필드=채팅방 ID) 에 보관하며,
+ * 메시지 전송 시 보낸 사람을 제외한 참여자의 값을 1 씩 올립니다.
+ * 채팅방 목록은 해시 한 번 조회(HMGET)로 모든 방의 값을 채우므로 메시지 행을 세지 않습니다.</p>
+ *
+ * <p>읽음 처리 시 (채팅방, 사용자) 별 마지막 읽은 메시지를 DB 에 저장하고,
+ * 그 이후 메시지 수를 (chat_id, sent_at, id) 인덱스로 세어 안 읽은 수를 보정합니다.
+ * 메시지는 쓰기 큐를 거쳐 나중에 저장되므로, 읽은 위치와 안 읽은 수에는 아직 저장되지 않은 메시지도 포함합니다.</p>
+ *
+ * <p>보정하는 동안 새 메시지로 올라간 값을 덮어쓰지 않도록, 보정 시작 전에 읽은 값과 저장 시점의 값의 차이만큼을
+ * 다시 센 값에 더해 저장합니다. 이 사이에 저장된 메시지는 두 번 세어질 수 있지만 다음 읽음 처리 때 바로잡힙니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadService {
+
+    private static final String UNREAD_PREFIX = "chat:unread:";
+
+    // 다시 센 값(ARGV[2])에 보정 시작 이후 올라간 만큼(현재 값 - ARGV[3])을 더해 저장하고 저장한 값을 반환 (0 이하면 필드 삭제)
+    private static final RedisScript<Long> RECOUNT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            local unread = tonumber(ARGV[2]) + math.max(0, current - tonumber(ARGV[3]))
+            if unread <= 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], unread)
+            return unread
+            """, Long.class);
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatArchiveService chatArchiveService;
+    private final ChatMessagesRepository chatMessagesRepository;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 보낸 사람을 제외한 채팅방 참여자의 안 읽은 메시지 수를 1 올립니다.
+     * 카운터 갱신에 실패해도 메시지 전송은 계속 진행합니다.
+     */
+    public void incrementUnread(RoomType roomType, UUID chatId, UUID senderId) {
+        String field = chatId.toString();
+        try {
+            List<UUID> receivers = chatMembershipCache.members(roomType, chatId).stream()
+                    .filter(memberId -> !memberId.equals(senderId))
+                    .toList();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                receivers.forEach(memberId -> conn.hIncrBy(unreadKey(memberId), field, 1));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ChatReadService] unread increment failed. chatId={}, senderId={}", chatId, senderId, e);
+        }
+    }
+
+    /**
+     * 사용자의 채팅방별 안 읽은 메시지 수를 조회합니다.
+     *
+     * @return 채팅방 ID → 안 읽은 메시지 수 (값이 없는 방은 0)
+     */
+    public Map<UUID, Integer> unreadCounts(UUID memberId, List<UUID> chatIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        if (chatIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Object> fields = new ArrayList<>(chatIds.size());
+        chatIds.forEach(chatId -> fields.add(chatId.toString()));
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(unreadKey(memberId), fields);
+            for (int i = 0; i < chatIds.size(); i++) {
+                Object value = values.get(i);
+                counts.put(chatIds.get(i), value == null ? 0 : Math.max(0, Integer.parseInt(value.toString())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ChatReadService] unread read failed. memberId={}", memberId, e);
+        }
+        return counts;
+    }
+
+    /**
+     * 채팅방을 읽음 처리합니다. 참여자 검증은 호출하는 쪽에서 합니다.
+     *
+     * <p>messageId 는 쓰기 큐에 있는 메시지, 저장된 메시지, 보관된 메시지 순으로 찾습니다.
+     * 다른 인스턴스의 쓰기 큐에 있어 찾을 수 없는 메시지도 있으므로, 클라이언트는 받은 메시지의 sentAt 을 함께 보내면
+     * 조회 없이 그 위치를 읽은 위치로 사용합니다.</p>
+     *
+     * @param chatId    채팅방 UUID
+     * @param memberId  읽은 사용자 UUID
+     * @param messageId 마지막으로 읽은 메시지 (null 이면 채팅방의 가장 최근 메시지)
+     * @param sentAt    마지막으로 읽은 메시지의 전송 시각 (선택)
+     * @return 읽은 위치와 남은 안 읽은 메시지 수
+     * @throws CustomException CHAT_MESSAGE_NOT_FOUND — sentAt 없이 보낸 messageId 가 해당 채팅방의 메시지가 아닐 때
+     */
+    @Transactional
+    public ChatReadResDto markRead(UUID chatId, UUID memberId, UUID messageId, LocalDateTime sentAt) {
+        // 다시 세는 동안 올라간 값을 구분하기 위해 가장 먼저 읽음
+        long unreadBefore = currentUnread(chatId, memberId);
+        // DB 조회보다 먼저 읽어야 그 사이 저장이 끝난 메시지를 놓치지 않음
+        List<ChatMessages> pending = chatMessageWriter.pending(chatId);
+        ReadPosition position = messageId != null
+                ? resolve(chatId, messageId, sentAt, pending)
+                : latest(chatId, pending);
+
+        if (position == null) {
+            // 메시지가 없는 방 (저장 대기 중인 메시지 포함)
+            long unread = storeUnread(chatId, memberId, 0, unreadBefore);
+            return ChatReadResDto.builder().chatId(chatId).unreadCount((int) unread).build();
+        }
+
+        // 첫 읽음 처리가 동시에 들어와도 유니크 제약 오류 없이 하나의 행으로 합쳐짐
+        chatReadCursorRepository.upsert(UUID.randomUUID(), chatId, memberId, position.messageId(), position.sentAt());
+        ChatReadCursor cursor = chatReadCursorRepository.findByChatIdAndMemberId(chatId, memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DATABASE_ERROR));
+
+        long recounted = countUnread(chatId, memberId,
+                new ReadPosition(cursor.getLastReadMessageId(), cursor.getLastReadSentAt()), pending);
+        long unread = storeUnread(chatId, memberId, recounted, unreadBefore);
+
+        log.debug("[ChatReadService] marked read. chatId={}, memberId={}, lastReadMessageId={}, unread={}",
+                chatId, memberId, cursor.getLastReadMessageId(), unread);
+
+        return ChatReadResDto.builder()
+                .chatId(chatId)
+                .lastReadMessageId(cursor.getLastReadMessageId())
+                .lastReadSentAt(cursor.getLastReadSentAt())
+                .unreadCount((int) unread)
+                .build();
+    }
+
+    private long currentUnread(UUID chatId, UUID memberId) {
+        Object value = redisTemplate.opsForHash().get(unreadKey(memberId), chatId.toString());
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    /**
+     * 다시 센 안 읽은 수를 저장합니다. 보정 시작 이후 다른 메시지로 올라간 만큼은 덮어쓰지 않고 더합니다.
+     *
+     * @return 저장한 안 읽은 메시지 수
+     */
+    private long storeUnread(UUID chatId, UUID memberId, long recounted, long unreadBefore) {
+        Long stored = redisTemplate.execute(RECOUNT_SCRIPT, List.of(unreadKey(memberId)),
+                chatId.toString(), Long.toString(recounted), Long.toString(unreadBefore));
+        return stored == null ? recounted : stored;
+    }
+
+    private ReadPosition resolve(UUID chatId, UUID messageId, LocalDateTime sentAt, List<ChatMessages> pending) {
+        for (ChatMessages message : pending) {
+            if (message.getId().equals(messageId)) {
+                return ReadPosition.of(message);
+            }
+        }
+
+        Optional<ChatMessages> stored = chatMessagesRepository.findByIdAndChatId(messageId, chatId);
+        if (stored.isPresent()) {
+            return ReadPosition.of(stored.get());
+        }
+
+        if (sentAt != null) {
+            // 읽은 위치는 앞으로만 움직이므로 미래 시각으로 이후 메시지가 모두 읽힌 것이 되지 않도록 현재 시각으로 제한
+            LocalDateTime now = LocalDateTime.now();
+            return new ReadPosition(messageId, sentAt.isAfter(now) ? now : sentAt);
+        }
+
+        return chatArchiveService.findMessage(chatId, messageId)
+                .map(message -> new ReadPosition(message.getMessageId(), message.getSentAt()))
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+    }
+
+    private ReadPosition latest(UUID chatId, List<ChatMessages> pending) {
+        ReadPosition latest = chatMessagesRepository.findBeforeCursor(chatId, null, null, PageRequest.of(0, 1))
+                .stream().findFirst().map(ReadPosition::of).orElse(null);
+        for (ChatMessages message : pending) {
+            ReadPosition position = ReadPosition.of(message);
+            if (latest == null || position.isAfter(latest)) {
+                latest = position;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 읽은 위치 이후 다른 사용자가 보낸 메시지 수. 저장된 메시지는 DB 에서 세고, 쓰기 큐의 메시지는 따로 셉니다.
+     * 그 사이 저장이 끝난 큐 메시지가 두 번 세어지지 않도록 DB 에서는 큐 메시지를 제외합니다.
+     */
+    private long countUnread(UUID chatId, UUID memberId, ReadPosition readPosition, List<ChatMessages> pending) {
+        if (pending.isEmpty()) {
+            return chatMessagesRepository.countUnreadAfter(
+                    chatId, memberId, readPosition.sentAt(), readPosition.messageId());
+        }
+
+        long pendingUnread = pending.stream()
+                .filter(message -> !memberId.equals(message.getSender().getId()))
+                .filter(message -> ReadPosition.of(message).isAfter(readPosition))
+                .count();
+        List<UUID> pendingIds = pending.stream().map(ChatMessages::getId).toList();
+        return chatMessagesRepository.countUnreadAfterExcluding(
+                chatId, memberId, readPosition.sentAt(), readPosition.messageId(), pendingIds) + pendingUnread;
+    }
+
+    /**
+     * 메시지 위치 (전송 시각, ID)
+     */
+    private record ReadPosition(UUID messageId, LocalDateTime sentAt) {
+
+        static ReadPosition of(ChatMessages message) {
+            return new ReadPosition(message.getId(), message.getSentAt());
+        }
+
+        boolean isAfter(ReadPosition other) {
+            int compared = sentAt.compareTo(other.sentAt);
+            return compared > 0 || (compared == 0 && messageId.compareTo(other.messageId) > 0);
+        }
+    }
+
+    private static String unreadKey(UUID memberId) {
+        return UNREAD_PREFIX + memberId;
+    }
+}
@@ -1,22 +1,32 @@
 package com.bookbook.booklink.chat_service.group.controller;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
 import com.bookbook.booklink.chat_service.group.controller.docs.GroupChatApiDocs;
 import com.bookbook.booklink.chat_service.group.model.dto.response.GroupChatRoomResDto;
 import com.bookbook.booklink.chat_service.group.service.GroupChatsService;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -46,16 +56,17 @@ public class GroupChatsController implements GroupChatApiDocs {
     }
 
     @Override
-    public ResponseEntity<BaseResponse<List<MessageResDto>>> getGroupMessages(
+    public ResponseEntity<BaseResponse<ChatHistoryResDto>> getGroupMessages(
             @PathVariable UUID chatId,
-            @AuthenticationPrincipal CustomUserDetails user
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Valid @ModelAttribute ChatHistoryReqDto request
     ) {
         Member me = user.getMember();
 
         log.debug("[GroupChatsController] getGroupMessages called. memberId={}, chatId={}",
                 me.getId(), chatId);
 
-        List<MessageResDto> messages = groupChatsService.getGroupMessages(chatId, me);
+        ChatHistoryResDto messages = groupChatsService.getGroupMessages(chatId, me, request);
 
         log.debug("[GroupChatsController] getGroupMessages success. memberId={}, chatId={}",
                 me.getId(), chatId);
@@ -64,18 +75,30 @@ public class GroupChatsController implements GroupChatApiDocs {
     }
 
     @Override
-    public ResponseEntity<BaseResponse<List<GroupChatRoomResDto>>> getMyGroupChatRooms(
-            @AuthenticationPrincipal CustomUserDetails user
+    public ResponseEntity<BaseResponse<ChatReadResDto>> readGroupMessages(
+            @PathVariable UUID chatId,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) UUID messageId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime sentAt
+    ) {
+        ChatReadResDto response = groupChatsService.readGroupMessages(chatId, user.getMember(), messageId, sentAt);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<PageResponse<GroupChatRoomResDto>>> getMyGroupChatRooms(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PageableDefault(page = 0, size = 20) Pageable pageable
     ) {
         Member me = user.getMember();
 
         log.debug("[GroupChatsController] getMyGroupChatRooms called. memberId={}", me.getId());
 
-        List<GroupChatRoomResDto> rooms = groupChatsService.getMyGroupChatRooms(me);
+        PageResponse<GroupChatRoomResDto> rooms = groupChatsService.getMyGroupChatRooms(me, pageable);
 
         log.debug("[GroupChatsController] getMyGroupChatRooms success. memberId={}, size={}",
-                me.getId(), rooms.size());
+                me.getId(), rooms.getContent().size());
 
         return ResponseEntity.ok(BaseResponse.success(rooms));
     }
-}
\ No newline at end of file
+}
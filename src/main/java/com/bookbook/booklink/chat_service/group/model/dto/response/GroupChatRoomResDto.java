@@ -1,5 +1,6 @@
 package com.bookbook.booklink.chat_service.group.model.dto.response;
 
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListCache;
 import com.bookbook.booklink.chat_service.chat_mutual.code.ChatStatus;
 import com.bookbook.booklink.chat_service.group.model.GroupChats;
 import com.bookbook.booklink.community.group_service.model.Group;
@@ -9,6 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -23,8 +26,9 @@ public class GroupChatRoomResDto {
     private String lastMessage;
     private LocalDateTime lastSentAt;
     private ChatStatus status;
+    private int unreadCount;
 
-    public static GroupChatRoomResDto from(GroupChats entity) {
+    public static GroupChatRoomResDto from(GroupChats entity, int unreadCount) {
         Group group = entity.getGroup();
 
         return GroupChatRoomResDto.builder()
@@ -34,6 +38,47 @@ public class GroupChatRoomResDto {
                 .participantCount(group.getParticipantCount())
                 .lastMessage(entity.getLastMessage())
                 .lastSentAt(entity.getLastSentAt())
+                .status(entity.getStatus())
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    /**
+     * 채팅방 목록 캐시({@link ChatRoomListCache})에 저장할 요약으로 변환합니다. (안 읽은 메시지 수 제외)
+     */
+    public static Map<String, String> toSummary(GroupChats entity) {
+        Group group = entity.getGroup();
+
+        Map<String, String> summary = new HashMap<>();
+        summary.put(ChatRoomListCache.CHAT_ID, entity.getId().toString());
+        summary.put("groupId", group.getId().toString());
+        summary.put("groupName", group.getName());
+        summary.put("status", entity.getStatus().name());
+        if (group.getParticipantCount() != null) {
+            summary.put("participantCount", group.getParticipantCount().toString());
+        }
+        if (entity.getLastMessage() != null) {
+            summary.put(ChatRoomListCache.LAST_MESSAGE, entity.getLastMessage());
+        }
+        if (entity.getLastSentAt() != null) {
+            summary.put(ChatRoomListCache.LAST_SENT_AT, entity.getLastSentAt().toString());
+        }
+        return summary;
+    }
+
+    public static GroupChatRoomResDto fromSummary(Map<String, String> summary, int unreadCount) {
+        String participantCount = summary.get("participantCount");
+        String lastSentAt = summary.get(ChatRoomListCache.LAST_SENT_AT);
+
+        return GroupChatRoomResDto.builder()
+                .chatId(ChatRoomListCache.chatId(summary))
+                .groupId(UUID.fromString(summary.get("groupId")))
+                .groupName(summary.get("groupName"))
+                .participantCount(participantCount == null ? null : Integer.valueOf(participantCount))
+                .lastMessage(summary.get(ChatRoomListCache.LAST_MESSAGE))
+                .lastSentAt(lastSentAt == null ? null : LocalDateTime.parse(lastSentAt))
+                .status(ChatStatus.valueOf(summary.get("status")))
+                .unreadCount(unreadCount)
                 .build();
     }
 }
@@ -4,10 +4,13 @@ import com.bookbook.booklink.auth_service.model.Member;
 import com.bookbook.booklink.chat_service.group.model.GroupChats;
 import com.bookbook.booklink.community.group_service.model.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,13 +20,40 @@ public interface GroupChatsRepository extends JpaRepository<GroupChats, UUID> {
     
     Optional<GroupChats> findById(UUID uuid);
     Optional<GroupChats> findByGroup(Group group);
+    Optional<GroupChats> findByGroupId(UUID groupId);
+
+    /**
+     * 채팅방 목록 요약에 필요한 모임 정보를 함께 조회
+     */
+    @Query("""
+        select gc
+        from GroupChats gc
+        join fetch gc.group
+        where gc.id in :chatIds
+        """)
+    List<GroupChats> findAllWithGroupByIdIn(@Param("chatIds") Collection<UUID> chatIds);
 
     @Query("""
         select gc 
         from GroupChats gc
-        join gc.group g
+        join fetch gc.group g
         join GroupMember gm on gm.group = g
         where gm.member = :member
         """)
     List<GroupChats> findAllByMember(@Param("member") Member member);
+
+    /**
+     * 마지막 메시지를 갱신합니다. 더 최근 메시지가 이미 반영되어 있으면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE GroupChats c
+            SET c.lastMessage = :message, c.lastSentAt = :sentAt
+            WHERE c.id = :chatId AND (c.lastSentAt IS NULL OR c.lastSentAt <= :sentAt)
+            """)
+    int updateLastMessage(@Param("chatId") UUID chatId,
+                          @Param("message") String message,
+                          @Param("sentAt") LocalDateTime sentAt);
 }
@@ -1,14 +1,23 @@
 package com.bookbook.booklink.chat_service.group.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipCache;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListCache;
 import com.bookbook.booklink.chat_service.chat_mutual.code.ChatStatus;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
 import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.service.ChatMessageWriter;
 import com.bookbook.booklink.chat_service.chat_mutual.service.ChatMessagesService;
+import com.bookbook.booklink.chat_service.chat_mutual.service.ChatReadService;
 import com.bookbook.booklink.chat_service.group.model.GroupChats;
 import com.bookbook.booklink.chat_service.group.model.dto.response.GroupChatRoomResDto;
 import com.bookbook.booklink.chat_service.group.repository.GroupChatsRepository;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.community.group_service.model.Group;
@@ -16,10 +25,14 @@ import com.bookbook.booklink.community.group_service.repository.GroupMemberRepos
 import com.bookbook.booklink.community.group_service.service.GroupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -29,6 +42,10 @@ public class GroupChatsService {
 
     private final GroupChatsRepository groupChatsRepository;
     private final ChatMessagesService chatMessagesService;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatReadService chatReadService;
+    private final ChatRoomListCache chatRoomListCache;
     private final GroupMemberRepository groupMemberRepository;
 
 
@@ -54,35 +71,33 @@ public class GroupChatsService {
     }
 
     /**
-     * 그룹 채팅 메시지 저장
+     * 그룹 채팅 메시지 전송
+     * <p>
+     * 멤버 검증({@link ChatMembershipCache}) 후 메시지를 쓰기 큐에 넣고 바로 반환합니다. 저장과 마지막 메시지 갱신은 {@link ChatMessageWriter} 가 처리합니다.
      */
-    @Transactional
     public MessageResDto saveGroupChatMessage(Member member, MessageReqDto dto) {
         UUID chatId = dto.getChatId();
-        GroupChats room = groupChatsRepository.findById(chatId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         // 멤버 검증
-        boolean isMember = groupMemberRepository.existsByGroupAndMember(room.getGroup(), member);
-        if (!isMember) {
+        if (!chatMembershipCache.isMember(RoomType.GROUP, chatId, member.getId())) {
             throw new CustomException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
-        ChatMessages saved = chatMessagesService.saveGroupMessagesEntity(member, dto);
+        ChatMessages message = ChatMessages.saveGroupMessage(member, dto);
+        chatMessageWriter.enqueue(message);
+        chatReadService.incrementUnread(RoomType.GROUP, chatId, member.getId());
 
-        room.updateLastMessage(saved.getText(), saved.getSentAt());
-        groupChatsRepository.save(room);
-
-        log.info("[GroupChatsService] message saved. groupChatId={}, sender={}", chatId, member.getId());
+        log.debug("[GroupChatsService] message queued. groupChatId={}, sender={}, messageId={}",
+                chatId, member.getId(), message.getId());
 
-        return MessageResDto.fromEntity(saved);
+        return MessageResDto.fromEntity(message);
     }
 
     /**
-     * 그룹 채팅 메시지 조회
+     * 그룹 채팅 메시지 커서 기반 조회
      */
     @Transactional(readOnly = true)
-    public List<MessageResDto> getGroupMessages(UUID chatId, Member me) {
+    public ChatHistoryResDto getGroupMessages(UUID chatId, Member me, ChatHistoryReqDto request) {
         GroupChats room = groupChatsRepository.findById(chatId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
@@ -91,18 +106,46 @@ public class GroupChatsService {
             throw new CustomException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
-        return chatMessagesService.findSentMessages(chatId);
+        return chatMessagesService.findMessageHistory(chatId, request);
     }
 
     /**
-     * 내가 속한 모든 그룹 채팅 목록 조회
+     * 내가 속한 그룹 채팅 목록을 마지막 메시지 시각 내림차순으로 조회
+     * <p>
+     * 채팅방 순서와 요약은 {@link ChatRoomListCache} 에서 읽으며, 캐시에 없을 때만 DB 에서 적재합니다.
      */
     @Transactional(readOnly = true)
-    public List<GroupChatRoomResDto> getMyGroupChatRooms(Member me) {
-        List<GroupChats> rooms = groupChatsRepository.findAllByMember(me);
-
-        return rooms.stream()
-                .map(GroupChatRoomResDto::from)
+    public PageResponse<GroupChatRoomResDto> getMyGroupChatRooms(Member me, Pageable pageable) {
+        ChatRoomListCache.RoomPage roomPage = chatRoomListCache.page(RoomType.GROUP, me.getId(), pageable,
+                () -> groupChatsRepository.findAllByMember(me).stream()
+                        .map(GroupChatRoomResDto::toSummary)
+                        .toList(),
+                chatIds -> groupChatsRepository.findAllWithGroupByIdIn(chatIds).stream()
+                        .map(GroupChatRoomResDto::toSummary)
+                        .toList());
+
+        // 페이지에 포함된 방의 안 읽은 메시지 수를 한 번에 조회
+        List<UUID> chatIds = roomPage.rooms().stream().map(ChatRoomListCache::chatId).toList();
+        Map<UUID, Integer> unreadCounts = chatReadService.unreadCounts(me.getId(), chatIds);
+
+        List<GroupChatRoomResDto> rooms = roomPage.rooms().stream()
+                .map(summary -> GroupChatRoomResDto.fromSummary(summary,
+                        unreadCounts.getOrDefault(ChatRoomListCache.chatId(summary), 0)))
                 .toList();
+
+        return PageResponse.from(new PageImpl<>(rooms, pageable, roomPage.totalElements()));
+    }
+
+    /**
+     * 그룹 채팅방 읽음 처리
+     * <p>
+     * messageId 가 없으면 가장 최근 메시지까지 읽은 것으로 처리합니다.
+     * sentAt 을 함께 받으면 아직 저장되지 않았거나 보관된 메시지도 읽은 위치로 사용합니다.
+     */
+    public ChatReadResDto readGroupMessages(UUID chatId, Member me, UUID messageId, LocalDateTime sentAt) {
+        if (!chatMembershipCache.isMember(RoomType.GROUP, chatId, me.getId())) {
+            throw new CustomException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+        return chatReadService.markRead(chatId, me.getId(), messageId, sentAt);
     }
 }
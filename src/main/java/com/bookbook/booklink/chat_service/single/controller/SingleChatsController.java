@@ -1,7 +1,10 @@
 package com.bookbook.booklink.chat_service.single.controller;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
 import com.bookbook.booklink.chat_service.single.controller.docs.SingleChatApiDocs;
 import com.bookbook.booklink.chat_service.single.model.dto.request.SingleRoomDeleteReqDto;
@@ -9,16 +12,23 @@ import com.bookbook.booklink.chat_service.single.model.dto.request.SingleRoomReq
 import com.bookbook.booklink.chat_service.single.model.dto.response.SingleRoomResDto;
 import com.bookbook.booklink.chat_service.single.service.SingleChatsService;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -42,11 +52,12 @@ public class SingleChatsController implements SingleChatApiDocs {
     }
 
     @Override
-    public ResponseEntity<BaseResponse<List<SingleRoomResDto>>> getMyRooms(
-            @AuthenticationPrincipal CustomUserDetails user
+    public ResponseEntity<BaseResponse<PageResponse<SingleRoomResDto>>> getMyRooms(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PageableDefault(page = 0, size = 20) Pageable pageable
     ) {
         UUID me = user.getMember().getId();
-        List<SingleRoomResDto> rooms = singleChatsService.getMyRooms(me);
+        PageResponse<SingleRoomResDto> rooms = singleChatsService.getMyRooms(me, pageable);
         return ResponseEntity.ok(BaseResponse.success(rooms));
     }
 
@@ -69,18 +80,31 @@ public class SingleChatsController implements SingleChatApiDocs {
     }
 
     @Override
-    public ResponseEntity<BaseResponse<List<MessageResDto>>> getMessages(
-            @PathVariable UUID chatId
+    public ResponseEntity<BaseResponse<ChatHistoryResDto>> getMessages(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable UUID chatId,
+            @Valid @ModelAttribute ChatHistoryReqDto request
     ) {
 
         log.debug("[SingleChatsController] getMessages called. chatId={}", chatId);
 
-        List<MessageResDto> response = singleChatsService.getChatMessages(chatId);
+        ChatHistoryResDto response = singleChatsService.getChatMessages(user.getMember(), chatId, request);
 
         log.debug("[SingleChatsController] getMessages called success. chatId={}", chatId);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<ChatReadResDto>> readMessages(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable UUID chatId,
+            @RequestParam(required = false) UUID messageId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime sentAt
+    ) {
+        ChatReadResDto response = singleChatsService.readMessages(user.getMember(), chatId, messageId, sentAt);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<Void>> leaveRoom(
             @AuthenticationPrincipal CustomUserDetails user,
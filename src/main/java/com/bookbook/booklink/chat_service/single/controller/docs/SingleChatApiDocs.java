@@ -1,21 +1,29 @@
 package com.bookbook.booklink.chat_service.single.controller.docs;
 
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
 import com.bookbook.booklink.chat_service.single.model.dto.request.SingleRoomDeleteReqDto;
 import com.bookbook.booklink.chat_service.single.model.dto.request.SingleRoomReqDto;
 import com.bookbook.booklink.chat_service.single.model.dto.response.SingleRoomResDto;
 import com.bookbook.booklink.common.exception.ApiErrorResponses;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Tag(name = "1:1 채팅 API", description = "1:1 채팅방 및 메시지 관련 API 명세")
@@ -35,14 +43,15 @@ public interface SingleChatApiDocs {
     );
 
     @Operation(
-            summary = "내 1:1 채팅방 모든 목록 조회",
-            description = "로그인한 사용자가 참여 중인 1:1 채팅방 목록들을 반환합니다."
+            summary = "내 1:1 채팅방 목록 조회",
+            description = "로그인한 사용자가 참여 중인 1:1 채팅방 목록을 마지막 메시지 시각 내림차순으로, 안 읽은 메시지 수와 함께 페이지 단위로 반환합니다."
     )
     @ApiErrorResponses({ErrorCode.VALIDATION_FAILED, ErrorCode.DATABASE_ERROR,
             ErrorCode.METHOD_UNAUTHORIZED, ErrorCode.DATA_INTEGRITY_VIOLATION})
     @GetMapping("/rooms")
-    ResponseEntity<BaseResponse<List<SingleRoomResDto>>> getMyRooms(
-            @AuthenticationPrincipal CustomUserDetails user
+    ResponseEntity<BaseResponse<PageResponse<SingleRoomResDto>>> getMyRooms(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PageableDefault(page = 0, size = 20) Pageable pageable
     );
 
 
@@ -59,13 +68,34 @@ public interface SingleChatApiDocs {
 
     @Operation(
             summary = "채팅방 메시지 조회",
-            description = "채팅방의 모든 메시지를 시간순으로 조회합니다."
+            description = "채팅방 메시지를 커서 기반으로 조회합니다. 커서 없이 호출하면 최신 메시지부터 조회하며, " +
+                    "prevCursor 를 direction=BEFORE 와 함께, nextCursor 를 direction=AFTER 와 함께 전달하면 이어서 조회합니다. " +
+                    "anchorId 를 지정하면 해당 메시지 전후를 조회합니다. 메시지는 시간순으로 반환됩니다."
     )
     @ApiErrorResponses({ErrorCode.VALIDATION_FAILED, ErrorCode.DATABASE_ERROR,
-            ErrorCode.METHOD_UNAUTHORIZED, ErrorCode.DATA_INTEGRITY_VIOLATION})
+            ErrorCode.METHOD_UNAUTHORIZED, ErrorCode.CHAT_ROOM_NOT_FOUND, ErrorCode.CHAT_ROOM_FORBIDDEN,
+            ErrorCode.INVALID_CURSOR, ErrorCode.CHAT_MESSAGE_NOT_FOUND})
     @GetMapping("/room/{chatId}/messages")
-    public ResponseEntity<BaseResponse<List<MessageResDto>>> getMessages(
-            @PathVariable UUID chatId);
+    public ResponseEntity<BaseResponse<ChatHistoryResDto>> getMessages(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable UUID chatId,
+            @Valid @ModelAttribute ChatHistoryReqDto request);
+
+    @Operation(
+            summary = "채팅방 읽음 처리",
+            description = "messageId 까지 읽은 것으로 처리하고 남은 안 읽은 메시지 수를 반환합니다. " +
+                    "messageId 를 생략하면 가장 최근 메시지까지 읽은 것으로 처리합니다. " +
+                    "받은 메시지의 sentAt 을 함께 보내면 아직 저장되지 않았거나 보관된 메시지도 읽은 위치로 사용합니다."
+    )
+    @ApiErrorResponses({ErrorCode.DATABASE_ERROR, ErrorCode.METHOD_UNAUTHORIZED,
+            ErrorCode.CHAT_ROOM_NOT_FOUND, ErrorCode.CHAT_ROOM_FORBIDDEN, ErrorCode.CHAT_MESSAGE_NOT_FOUND})
+    @PostMapping("/room/{chatId}/read")
+    ResponseEntity<BaseResponse<ChatReadResDto>> readMessages(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable UUID chatId,
+            @RequestParam(required = false) UUID messageId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime sentAt
+    );
 
     @Operation(
             summary = "채팅방 나가기",
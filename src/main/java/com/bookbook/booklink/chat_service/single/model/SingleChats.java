@@ -92,6 +92,11 @@ public class SingleChats {
         }
     }
 
+    /** 특정 유저 기준으로 목록에서 숨김 처리되었는지 여부 */
+    public boolean isDeletedFor(UUID memberId) {
+        return memberId.equals(user1Id) ? user1Deleted : user2Deleted;
+    }
+
     /** 특정 유저 기준으로 목록 복구 처리 (다시 채팅 걸었을 때) */
     public void restoreForUser(UUID memberId) {
         if (memberId.equals(user1Id)) {
@@ -1,5 +1,6 @@
 package com.bookbook.booklink.chat_service.single.model.dto.response;
 
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListCache;
 import com.bookbook.booklink.chat_service.chat_mutual.code.ChatStatus;
 import com.bookbook.booklink.chat_service.single.model.SingleChats;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,6 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -38,8 +41,15 @@ public class SingleRoomResDto {
     @Schema(description = "채팅방 상태", example = "ACTIVE")
     private ChatStatus status;
 
+    @Schema(description = "안 읽은 메시지 수", example = "3")
+    private int unreadCount;
+
 
     public static SingleRoomResDto fromEntity(SingleChats chat) {
+        return fromEntity(chat, 0);
+    }
+
+    public static SingleRoomResDto fromEntity(SingleChats chat, int unreadCount) {
         return SingleRoomResDto.builder()
                 .chatId(chat.getId())
                 .user1Id(chat.getUser1Id())
@@ -48,6 +58,44 @@ public class SingleRoomResDto {
                 .lastSentAt(chat.getLastSentAt())
                 .createdAt(chat.getCreatedAt())
                 .status(chat.getStatus())
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    /**
+     * 채팅방 목록 캐시({@link ChatRoomListCache})에 저장할 요약으로 변환합니다. (안 읽은 메시지 수 제외)
+     */
+    public static Map<String, String> toSummary(SingleChats chat) {
+        Map<String, String> summary = new HashMap<>();
+        summary.put(ChatRoomListCache.CHAT_ID, chat.getId().toString());
+        summary.put("user1Id", chat.getUser1Id().toString());
+        summary.put("user2Id", chat.getUser2Id().toString());
+        summary.put("status", chat.getStatus().name());
+        if (chat.getLastMessage() != null) {
+            summary.put(ChatRoomListCache.LAST_MESSAGE, chat.getLastMessage());
+        }
+        if (chat.getLastSentAt() != null) {
+            summary.put(ChatRoomListCache.LAST_SENT_AT, chat.getLastSentAt().toString());
+        }
+        if (chat.getCreatedAt() != null) {
+            summary.put("createdAt", chat.getCreatedAt().toString());
+        }
+        return summary;
+    }
+
+    public static SingleRoomResDto fromSummary(Map<String, String> summary, int unreadCount) {
+        String lastSentAt = summary.get(ChatRoomListCache.LAST_SENT_AT);
+        String createdAt = summary.get("createdAt");
+
+        return SingleRoomResDto.builder()
+                .chatId(ChatRoomListCache.chatId(summary))
+                .user1Id(UUID.fromString(summary.get("user1Id")))
+                .user2Id(UUID.fromString(summary.get("user2Id")))
+                .lastMessage(summary.get(ChatRoomListCache.LAST_MESSAGE))
+                .lastSentAt(lastSentAt == null ? null : LocalDateTime.parse(lastSentAt))
+                .createdAt(createdAt == null ? null : LocalDateTime.parse(createdAt))
+                .status(ChatStatus.valueOf(summary.get("status")))
+                .unreadCount(unreadCount)
                 .build();
     }
 }
@@ -2,10 +2,12 @@ package com.bookbook.booklink.chat_service.single.repository;
 
 import com.bookbook.booklink.chat_service.single.model.SingleChats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,5 +37,19 @@ public interface SingleChatsRepository extends JpaRepository<SingleChats, UUID>
             where s.user1Id = :memberId or s.user2Id = :memberId
             """)
     List<SingleChats> findAllByMember(@Param("memberId") UUID memberId);
+
+    /**
+     * 마지막 메시지를 갱신합니다. 더 최근 메시지가 이미 반영되어 있으면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE SingleChats c
+            SET c.lastMessage = :message, c.lastSentAt = :sentAt
+            WHERE c.id = :chatId AND (c.lastSentAt IS NULL OR c.lastSentAt <= :sentAt)
+            """)
+    int updateLastMessage(@Param("chatId") UUID chatId,
+                          @Param("message") String message,
+                          @Param("sentAt") LocalDateTime sentAt);
 }
-    
\ No newline at end of file
@@ -1,24 +1,41 @@
 package com.bookbook.booklink.chat_service.single.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipCache;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipEvent;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomActivityEvent;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListCache;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListEvent;
 import com.bookbook.booklink.chat_service.chat_mutual.code.MessageType;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
 import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.service.ChatMessageWriter;
 import com.bookbook.booklink.chat_service.chat_mutual.service.ChatMessagesService;
+import com.bookbook.booklink.chat_service.chat_mutual.service.ChatReadService;
 import com.bookbook.booklink.chat_service.single.model.SingleChats;
 import com.bookbook.booklink.chat_service.single.model.dto.request.SingleRoomDeleteReqDto;
 import com.bookbook.booklink.chat_service.single.model.dto.response.SingleRoomResDto;
 import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -27,6 +44,11 @@ import java.util.UUID;
 public class SingleChatsService {
     private final SingleChatsRepository singleChatsRepository;
     private final ChatMessagesService chatMessagesService;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatReadService chatReadService;
+    private final ChatRoomListCache chatRoomListCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final SimpMessagingTemplate messagingTemplate;
 
     /**
@@ -48,8 +70,15 @@ public class SingleChatsService {
         UUID u1 = me.compareTo(chatPartner) <= 0 ? me : chatPartner;
         UUID u2 = me.compareTo(chatPartner) <= 0 ? chatPartner : me;
 
-        SingleChats chat = singleChatsRepository.findByUser1IdAndUser2Id(u1, u2)
-                .orElseGet(() -> singleChatsRepository.save(SingleChats.createNormalized(u1, u2)));
+        SingleChats chat = singleChatsRepository.findByUser1IdAndUser2Id(u1, u2).orElse(null);
+        if (chat == null) {
+            chat = singleChatsRepository.save(SingleChats.createNormalized(u1, u2));
+            // 새 채팅방은 두 사용자 목록에 모두 추가됨
+            publishRoomListChanged(me);
+            publishRoomListChanged(chatPartner);
+        } else if (chat.isDeletedFor(me)) {
+            publishRoomListChanged(me);
+        }
 
         // 내가 다시 채팅을 걸었으면 내 쪽 deleted 플래그 해제
         chat.restoreForUser(me);
@@ -58,18 +87,49 @@ public class SingleChatsService {
         return SingleRoomResDto.fromEntity(chat);
     }
 
+    /**
+     * 내 1대1 채팅방 목록을 마지막 메시지 시각 내림차순으로 조회합니다.
+     * <p>
+     * - 채팅방 순서와 요약은 {@link ChatRoomListCache} 에서 읽으며, 캐시에 없을 때만 DB 에서 적재합니다. <br>
+     * - 페이지에 포함된 방의 안 읽은 메시지 수를 한 번에 조회합니다.
+     *
+     * @param memberId 사용자 UUID
+     * @param pageable 페이지 번호와 크기
+     * @return 채팅방 목록 페이지
+     */
     @Transactional(readOnly = true)
-    public List<SingleRoomResDto> getMyRooms(UUID memberId) {
-        List<SingleChats> rooms =
-                singleChatsRepository.findAllByMemberSorted(memberId);
-
-        return rooms.stream()
-                .map(SingleRoomResDto::fromEntity)
+    public PageResponse<SingleRoomResDto> getMyRooms(UUID memberId, Pageable pageable) {
+        ChatRoomListCache.RoomPage roomPage = chatRoomListCache.page(RoomType.SINGLE, memberId, pageable,
+                () -> singleChatsRepository.findAllByMemberSorted(memberId).stream()
+                        .map(SingleRoomResDto::toSummary)
+                        .toList(),
+                chatIds -> singleChatsRepository.findAllById(chatIds).stream()
+                        .map(SingleRoomResDto::toSummary)
+                        .toList());
+
+        List<UUID> chatIds = roomPage.rooms().stream().map(ChatRoomListCache::chatId).toList();
+        Map<UUID, Integer> unreadCounts = chatReadService.unreadCounts(memberId, chatIds);
+
+        List<SingleRoomResDto> rooms = roomPage.rooms().stream()
+                .map(summary -> SingleRoomResDto.fromSummary(summary,
+                        unreadCounts.getOrDefault(ChatRoomListCache.chatId(summary), 0)))
                 .toList();
+
+        return PageResponse.from(new PageImpl<>(rooms, pageable, roomPage.totalElements()));
     }
 
 
-    @Transactional
+    /**
+     * 1대1 채팅 메시지를 전송합니다.
+     * <p>
+     * - 참여자 검증은 {@link ChatMembershipCache} 로 하므로 캐시 적중 시 DB 를 조회하지 않습니다. <br>
+     * - 참여자 검증 후 식별자와 전송 시각을 부여한 메시지를 쓰기 큐에 넣고 바로 반환합니다. <br>
+     * - 메시지 저장과 채팅방 마지막 메시지 갱신은 {@link ChatMessageWriter} 가 묶어서 처리합니다.
+     *
+     * @throws CustomException CHAT_ROOM_NOT_FOUND — 채팅방이 존재하지 않을 때
+     * @throws CustomException CHAT_ROOM_FORBIDDEN — 해당 채팅방의 멤버가 아닐 때
+     * @throws CustomException CHAT_SEND_BUSY — 쓰기 큐가 가득 찼을 때
+     */
     public MessageResDto saveChatMessages(Member member, MessageReqDto dto) {
 
         UUID memberId = member.getId();
@@ -77,34 +137,61 @@ public class SingleChatsService {
 
         log.debug("[SingleChatsService] saveChatMessages called. memberId={}, chatId={}", memberId, chatId);
 
-        SingleChats room = singleChatsRepository.findById(dto.getChatId())
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        if (!chatMembershipCache.isMember(RoomType.SINGLE, chatId, memberId)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
 
-        if (!room.hasMember(member.getId())) {throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);}
+        ChatMessages message = ChatMessages.saveSingleRoomMessage(member, dto);
+        chatMessageWriter.enqueue(message);
+        chatReadService.incrementUnread(RoomType.SINGLE, chatId, memberId);
 
-        ChatMessages saved = chatMessagesService.saveSingleMessagesEntity(member,dto);
+        log.debug("[SingleChatsService] message queued. roomId={}, senderId={}, messageId={}",
+                chatId, memberId, message.getId());
 
+        return MessageResDto.fromEntity(message);
+    }
 
-        room.updateLastMessage(saved.getText(), saved.getSentAt());
-        singleChatsRepository.save(room);
+    /**
+     * 특정 채팅방의 메시지를 커서 기반으로 조회합니다.
+     * <p>
+     * - 내부적으로 {@link ChatMessagesService#findMessageHistory(UUID, ChatHistoryReqDto)} 호출합니다.
+     *
+     * @param member  조회를 요청한 사용자
+     * @param chatId  채팅방 UUID
+     * @param request 커서, 방향, 이동할 메시지 ID, 페이지 크기
+     * @return 메시지 목록과 양방향 커서
+     * @throws CustomException CHAT_ROOM_NOT_FOUND — 채팅방이 존재하지 않을 때
+     * @throws CustomException CHAT_ROOM_FORBIDDEN — 해당 채팅방의 멤버가 아닐 때
+     */
+    @Transactional(readOnly = true)
+    public ChatHistoryResDto getChatMessages(Member member, UUID chatId, ChatHistoryReqDto request) {
+        SingleChats room = singleChatsRepository.findById(chatId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
-        log.info("[SingleChatsService] Last message updated. roomId={}, senderId={}",
-                room.getId(), memberId);
+        if (!room.hasMember(member.getId())) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
 
-        return MessageResDto.fromEntity(saved);
+        return chatMessagesService.findMessageHistory(chatId, request);
     }
 
     /**
-     * 특정 채팅방의 모든 메시지를 조회합니다.
-     * <p>
-     * - 내부적으로 {@link ChatMessagesService#findSentMessages(UUID)} 호출합니다.
+     * 1대1 채팅방을 읽음 처리합니다.
      *
-     * @param chatId 채팅방 UUID
-     * @return 메시지 응답 DTO 리스트
+     * @param member    읽음 처리를 요청한 사용자
+     * @param chatId    채팅방 UUID
+     * @param messageId 마지막으로 읽은 메시지 (null 이면 가장 최근 메시지)
+     * @param sentAt    마지막으로 읽은 메시지의 전송 시각 (선택)
+     * @return 읽은 위치와 남은 안 읽은 메시지 수
+     * @throws CustomException CHAT_ROOM_NOT_FOUND — 채팅방이 존재하지 않을 때
+     * @throws CustomException CHAT_ROOM_FORBIDDEN — 해당 채팅방의 멤버가 아닐 때
+     * @throws CustomException CHAT_MESSAGE_NOT_FOUND — sentAt 없이 보낸 messageId 가 해당 채팅방의 메시지가 아닐 때
      */
-    @Transactional(readOnly = true)
-    public List<MessageResDto> getChatMessages(UUID chatId){
-        return chatMessagesService.findSentMessages(chatId);
+    public ChatReadResDto readMessages(Member member, UUID chatId, UUID messageId, LocalDateTime sentAt) {
+        if (!chatMembershipCache.isMember(RoomType.SINGLE, chatId, member.getId())) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
+        return chatReadService.markRead(chatId, member.getId(), messageId, sentAt);
     }
 
     /**
@@ -134,6 +221,7 @@ public class SingleChatsService {
                 .build();
 
         ChatMessages saved = chatMessagesService.saveSingleMessagesEntity(member, systemMessage);
+        chatReadService.incrementUnread(RoomType.SINGLE, chatId, memberId);
 
         room.updateLastMessage(saved.getText(), saved.getSentAt());
 
@@ -141,6 +229,14 @@ public class SingleChatsService {
         room.deleteForUser(memberId);
 
         singleChatsRepository.save(room);
+        eventPublisher.publishEvent(ChatMembershipEvent.builder().chatId(chatId).build());
+        eventPublisher.publishEvent(ChatRoomActivityEvent.builder()
+                .roomType(RoomType.SINGLE)
+                .chatId(chatId)
+                .lastMessage(saved.getText())
+                .sentAt(saved.getSentAt())
+                .build());
+        publishRoomListChanged(memberId);
 
         // WebSocket 실시간 전송 (상대방이 보고 있는 채팅창)
         MessageResDto resDto = MessageResDto.fromEntity(saved);
@@ -170,6 +266,7 @@ public class SingleChatsService {
             for (SingleChats room : rooms) {
                 room.deleteForUser(me);
             }
+            publishRoomListChanged(me);
             log.info("[SingleChatsService] deleteRooms ALL. memberId={}, count={}", me, rooms.size());
             return;
         }
@@ -188,9 +285,16 @@ public class SingleChatsService {
             }
             room.deleteForUser(me);
         }
+        publishRoomListChanged(me);
 
         log.info("[SingleChatsService] deleteRooms. memberId={}, size={}",
                 me, reqDto.getChatIds().size());
     }
+
+    private void publishRoomListChanged(UUID memberId) {
+        eventPublisher.publishEvent(ChatRoomListEvent.builder()
+                .roomType(RoomType.SINGLE)
+                .memberId(memberId)
+                .build());
+    }
 }
-    
\ No newline at end of file
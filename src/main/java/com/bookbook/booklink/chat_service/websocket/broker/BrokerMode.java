@@ -0,0 +1,10 @@
+package com.bookbook.booklink.chat_service.websocket.broker;
+
+/**
+ * STOMP 메시지 브로커 동작 방식 (chat-broker.mode)
+ */
+public enum BrokerMode {
+    SIMPLE, // 인스턴스 내 simple broker (단일 인스턴스 전용)
+    REDIS,  // 인스턴스 내 simple broker + Redis pub/sub 으로 다른 인스턴스에 전달
+    RELAY   // 외부 STOMP 브로커 릴레이
+}
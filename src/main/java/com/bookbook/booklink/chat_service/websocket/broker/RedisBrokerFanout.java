@@ -0,0 +1,122 @@
+package com.bookbook.booklink.chat_service.websocket.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 STOMP 메시지 전달 (chat-broker.mode=REDIS)
+ *
+ * <p>각 인스턴스의 simple broker 는 자신에게 연결된 구독자에게만 메시지를 전달하므로,
+ * brokerChannel 로 나가는 메시지를 가로채 Redis 채널에 함께 발행하고
+ * 다른 인스턴스는 이를 받아 자신의 brokerChannel 로 다시 보내 로컬 구독자에게 전달합니다.</p>
+ *
+ * <p>발행한 인스턴스는 로컬 구독자에게 바로 전달하며, Redis 에서 돌아온 자신의 메시지는 무시합니다.
+ * 다시 보낸 메시지에는 전달 표시 헤더를 붙여 재발행되지 않도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBrokerFanout implements ChannelInterceptor, MessageListener {
+
+    private static final String CHANNEL = "chat:broker:fanout";
+    private static final String RELAYED_HEADER = "redisRelayed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    // WebSocket 설정이 이 컴포넌트를 참조하므로 템플릿은 사용 시점에 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    @Value("${chat-broker.mode:SIMPLE}")
+    private BrokerMode mode;
+
+    @PostConstruct
+    void init() {
+        if (mode == BrokerMode.REDIS) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+            log.info("[RedisBrokerFanout] subscribed. nodeId={}", nodeId);
+        }
+    }
+
+    /**
+     * brokerChannel 로 나가는 메시지를 다른 인스턴스에 발행합니다.
+     * 발행에 실패해도 로컬 구독자에게는 전달합니다.
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        try {
+            Envelope envelope = new Envelope(nodeId, destination,
+                    contentType == null ? null : contentType.toString(), payload);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.warn("[RedisBrokerFanout] publish failed, destination={}", destination, e);
+        }
+        return message;
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 메시지를 로컬 구독자에게 전달합니다.
+     */
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeTypeUtils.parseMimeType(envelope.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.getObject().send(envelope.destination(),
+                    MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.warn("[RedisBrokerFanout] relay failed", e);
+        }
+    }
+
+    /**
+     * Redis 채널로 전달하는 메시지 (payload 는 이미 변환된 STOMP 본문)
+     */
+    record Envelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookbook.booklink.chat_service.websocket.codec;
+
+/**
+ * STOMP 메시지 본문 형식 (CONNECT 프레임의 payload-format 헤더로 선택)
+ */
+public enum PayloadFormat {
+    JSON, // 기본값 (헤더가 없거나 알 수 없는 값이면 JSON)
+    CBOR; // 바이너리 프레임으로 보내는 CBOR
+
+    public static PayloadFormat from(String value) {
+        return "cbor".equalsIgnoreCase(value) ? CBOR : JSON;
+    }
+}
@@ -0,0 +1,169 @@
+package com.bookbook.booklink.chat_service.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별로 STOMP 메시지 본문 형식(JSON / CBOR)을 협상하고 변환합니다.
+ *
+ * <p>클라이언트가 CONNECT 프레임에 {@code payload-format: cbor} 헤더를 보내면 그 세션으로 나가는 JSON 메시지를
+ * CBOR 로 바꿔 바이너리 프레임으로 보냅니다. 헤더가 없는 기존 클라이언트는 지금처럼 JSON 텍스트 프레임을 받습니다.
+ * 바이너리 프레임은 content-type 이 application/octet-stream 일 때만 만들어지므로, CBOR 메시지는
+ * {@code content-type: application/octet-stream}, {@code payload-format: cbor} 헤더로 보냅니다.</p>
+ *
+ * <p>브로커는 구독자마다 같은 payload 배열을 공유하므로 변환 결과를 payload 기준으로 캐시해
+ * 채팅방 메시지 하나당 한 번만 변환합니다. 클라이언트가 보내는 메시지는 content-type 이 application/cbor 이면 CBOR 로 읽습니다.</p>
+ *
+ * <p>형식별 프레임 크기(chat.ws.outbound.payload.bytes)와 CBOR 변환 시간(chat.ws.outbound.transcode)을 기록합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompPayloadCodec implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "payload-format";
+    public static final MimeType CBOR_MIME_TYPE = new MimeType("application", "cbor");
+
+    private final ObjectMapper objectMapper;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+    private final MeterRegistry meterRegistry;
+
+    // CBOR 를 선택한 세션 (JSON 세션은 저장하지 않음)
+    private final Map<String, PayloadFormat> sessionFormats = new ConcurrentHashMap<>();
+    // byte[] 는 동일성으로 비교되므로 브로커가 공유하는 payload 배열 기준으로 변환 결과를 재사용
+    private final Map<byte[], byte[]> transcoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ObjectMapper cborMapper;
+    private DistributionSummary jsonBytes;
+    private DistributionSummary cborBytes;
+    private Timer transcodeTimer;
+
+    @PostConstruct
+    void init() {
+        cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+
+        jsonBytes = DistributionSummary.builder("chat.ws.outbound.payload.bytes")
+                .tag("format", "json").baseUnit("bytes").register(meterRegistry);
+        cborBytes = DistributionSummary.builder("chat.ws.outbound.payload.bytes")
+                .tag("format", "cbor").baseUnit("bytes").register(meterRegistry);
+        transcodeTimer = meterRegistry.timer("chat.ws.outbound.transcode", "format", "cbor");
+    }
+
+    /**
+     * content-type 이 application/cbor 인 클라이언트 메시지를 읽는 변환기
+     * (그 외 content-type 은 기본 JSON 변환기가 처리)
+     */
+    public MessageConverter cborMessageConverter() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(CBOR_MIME_TYPE);
+        converter.setObjectMapper(cborMapper);
+        converter.setStrictContentTypeMatch(true);
+        return converter;
+    }
+
+    /**
+     * clientInboundChannel 에서는 CONNECT 의 형식 헤더를 기록하고,
+     * clientOutboundChannel 에서는 CBOR 세션으로 나가는 JSON 메시지를 변환합니다.
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return message;
+        }
+
+        if (messageType == SimpMessageType.CONNECT) {
+            PayloadFormat format = PayloadFormat.from(
+                    StompHeaderAccessor.wrap(message).getFirstNativeHeader(FORMAT_HEADER));
+            if (format == PayloadFormat.CBOR) {
+                sessionFormats.put(sessionId, format);
+            }
+            return message;
+        }
+
+        if (messageType != SimpMessageType.MESSAGE || !(message.getPayload() instanceof byte[] payload)
+                || !(headers.get(MessageHeaders.CONTENT_TYPE) instanceof MimeType contentType)
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+
+        if (sessionFormats.get(sessionId) != PayloadFormat.CBOR) {
+            jsonBytes.record(payload.length);
+            return message;
+        }
+
+        byte[] cbor;
+        try {
+            cbor = toCbor(payload);
+        } catch (IOException e) {
+            // 변환하지 못한 메시지는 JSON 그대로 전달
+            log.warn("[StompPayloadCodec] cbor transcode failed. sessionId={}", sessionId, e);
+            jsonBytes.record(payload.length);
+            return message;
+        }
+        cborBytes.record(cbor.length);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FORMAT_HEADER, "cbor");
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionFormats.remove(event.getSessionId());
+    }
+
+    private byte[] toCbor(byte[] json) throws IOException {
+        byte[] cached = transcoded.get(json);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        byte[] cbor = out.toByteArray();
+        transcodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        transcoded.put(json, cbor);
+        return cbor;
+    }
+}
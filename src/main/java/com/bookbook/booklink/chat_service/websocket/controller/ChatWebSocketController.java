@@ -1,10 +1,14 @@
 package com.bookbook.booklink.chat_service.websocket.controller;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipCache;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.TypingReqDto;
 import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
 import com.bookbook.booklink.chat_service.group.service.GroupChatsService;
 import com.bookbook.booklink.chat_service.single.service.SingleChatsService;
+import com.bookbook.booklink.chat_service.websocket.presence.ChatPresenceService;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
@@ -29,6 +33,8 @@ public class ChatWebSocketController {
     private final SingleChatsService singleChatsService;
     private final SimpMessagingTemplate messagingTemplate;
     private final GroupChatsService groupChatsService;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatPresenceService chatPresenceService;
 
     // 클라이언트가 /pub/chat.send 로 메시지 발행
     @MessageMapping("/chat/send")
@@ -69,4 +75,26 @@ public class ChatWebSocketController {
         log.info("[GroupChat] WebSocket message sent. memberId={}, chatId={}",
                 member.getId(), dto.getChatId());
     }
-}
\ No newline at end of file
+
+    // 클라이언트가 /pub/chat/typing, /pub/group/typing 으로 입력 중 상태 발행
+    // 상태는 바로 보내지 않고 ChatPresenceService 가 모아서 /sub/{chat|group}/{chatId}/presence 로 전달
+    @MessageMapping("/chat/typing")
+    public void typing(TypingReqDto dto, Principal principal) {
+        publishTyping(RoomType.SINGLE, dto, principal);
+    }
+
+    @MessageMapping("/group/typing")
+    public void groupTyping(TypingReqDto dto, Principal principal) {
+        publishTyping(RoomType.GROUP, dto, principal);
+    }
+
+    private void publishTyping(RoomType roomType, TypingReqDto dto, Principal principal) {
+        Member member = ((CustomUserDetails) principal).getMember();
+
+        if (!chatMembershipCache.isMember(roomType, dto.getChatId(), member.getId())) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
+
+        chatPresenceService.typing(roomType, dto.getChatId(), member.getId(), dto.isTyping());
+    }
+}
@@ -0,0 +1,333 @@
+package com.bookbook.booklink.chat_service.websocket.presence;
+
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipCache;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.PresenceResDto;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 접속(presence)과 입력 중(typing) 상태를 관리하고 묶어서 전달합니다.
+ *
+ * <p>STOMP 세션 이벤트(구독/구독 해제/연결 종료)로 이 인스턴스에 접속한 채팅방 참여자를 추적하고,
+ * Redis sorted set (chat:presence:{single|group}:{chatId}, 멤버={memberId}|{nodeId}, 점수=만료 시각)에
+ * 인스턴스별로 기록하여 여러 인스턴스의 접속자를 합칩니다. 인스턴스는 refresh-interval-ms 마다 자기 항목의 만료 시각을 늘리므로,
+ * 종료된 인스턴스의 항목은 ttl-ms 가 지나면 빠집니다. 끊긴 클라이언트는 STOMP heartbeat 가 끊기면 연결 종료 이벤트로 정리됩니다.</p>
+ *
+ * <p>변경이 생긴 채팅방은 표시만 해 두고 flush-interval-ms 마다 채팅방별 전체 상태 한 건으로 전달하므로,
+ * 여러 명이 동시에 입장하거나 입력해도 채팅방당 주기마다 최대 한 번만 전송합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/(chat|group)/([0-9a-fA-F-]{36})$");
+    private static final String PRESENCE_PREFIX = "chat:presence:";
+    private static final String TYPING_PREFIX = "chat:typing:";
+    private static final String NODE_SEPARATOR = "|";
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${chat-presence.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${chat-presence.typing-ttl-ms:5000}")
+    private long typingTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 세션 ID → 구독 ID → 채팅방
+    private final Map<String, Map<String, Room>> subscriptions = new HashMap<>();
+    private final Map<String, UUID> sessionMembers = new HashMap<>();
+    // 채팅방 → 사용자 ID → 이 인스턴스의 구독 수 (같은 사용자가 여러 창으로 접속할 수 있음)
+    private final Map<Room, Map<UUID, Integer>> localMembers = new HashMap<>();
+
+    // 입력 중 상태가 만료되면 다시 알리기 위한 채팅방별 만료 시각
+    private final Map<Room, Long> typingDeadlines = new ConcurrentHashMap<>();
+    // 다음 전송 주기에 상태를 보낼 채팅방
+    private final Set<Room> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Room room = Room.parse(accessor.getDestination());
+        UUID memberId = memberId(event.getUser());
+        if (room == null || memberId == null || !isMember(room, memberId)) {
+            return;
+        }
+
+        boolean joined;
+        synchronized (this) {
+            sessionMembers.put(accessor.getSessionId(), memberId);
+            subscriptions.computeIfAbsent(accessor.getSessionId(), key -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), room);
+            joined = localMembers.computeIfAbsent(room, key -> new HashMap<>())
+                    .merge(memberId, 1, Integer::sum) == 1;
+        }
+
+        if (joined) {
+            try {
+                redisTemplate.opsForZSet().add(room.presenceKey(), entry(memberId), System.currentTimeMillis() + ttlMs);
+                redisTemplate.expire(room.presenceKey(), Duration.ofMillis(ttlMs));
+            } catch (RuntimeException e) {
+                log.warn("[ChatPresenceService] join record failed. chatId={}, memberId={}", room.chatId(), memberId, e);
+            }
+            dirtyRooms.add(room);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+
+        Room room;
+        UUID memberId;
+        boolean left;
+        synchronized (this) {
+            Map<String, Room> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+            room = sessionSubscriptions == null ? null : sessionSubscriptions.remove(accessor.getSubscriptionId());
+            memberId = sessionMembers.get(accessor.getSessionId());
+            if (room == null || memberId == null) {
+                return;
+            }
+            left = release(room, memberId);
+        }
+
+        if (left) {
+            leave(room, memberId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        List<Room> leftRooms = new ArrayList<>();
+        UUID memberId;
+        synchronized (this) {
+            Map<String, Room> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+            memberId = sessionMembers.remove(event.getSessionId());
+            if (sessionSubscriptions == null || memberId == null) {
+                return;
+            }
+            for (Room room : sessionSubscriptions.values()) {
+                if (release(room, memberId)) {
+                    leftRooms.add(room);
+                }
+            }
+        }
+
+        leftRooms.forEach(room -> leave(room, memberId));
+    }
+
+    /**
+     * 입력 중 상태를 기록합니다. 참여자 검증은 호출하는 쪽에서 합니다.
+     * 입력 중 상태는 typing-ttl-ms 동안 유지되며, 클라이언트는 입력하는 동안 그보다 짧은 주기로 다시 보내야 합니다.
+     */
+    public void typing(RoomType roomType, UUID chatId, UUID memberId, boolean typing) {
+        Room room = new Room(roomType, chatId);
+        try {
+            if (typing) {
+                long expiresAt = System.currentTimeMillis() + typingTtlMs;
+                redisTemplate.opsForZSet().add(room.typingKey(), memberId.toString(), expiresAt);
+                redisTemplate.expire(room.typingKey(), Duration.ofMillis(typingTtlMs));
+                typingDeadlines.merge(room, expiresAt, Math::max);
+            } else {
+                redisTemplate.opsForZSet().remove(room.typingKey(), memberId.toString());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ChatPresenceService] typing record failed. chatId={}, memberId={}", chatId, memberId, e);
+            return;
+        }
+        dirtyRooms.add(room);
+    }
+
+    /**
+     * 이 인스턴스 접속자의 만료 시각을 늘리고, 만료된(종료된 인스턴스의) 항목을 정리합니다.
+     * 정리된 항목이 있는 채팅방은 다음 주기에 상태를 다시 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${chat-presence.refresh-interval-ms:10000}")
+    public void refresh() {
+        Map<Room, Set<UUID>> members = new LinkedHashMap<>();
+        synchronized (this) {
+            localMembers.forEach((room, counts) -> members.put(room, Set.copyOf(counts.keySet())));
+        }
+        if (members.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                members.forEach((room, memberIds) -> {
+                    conn.zRemRangeByScore(room.presenceKey(), Double.NEGATIVE_INFINITY, now);
+                    memberIds.forEach(memberId -> conn.zAdd(room.presenceKey(), now + ttlMs, entry(memberId)));
+                    conn.pExpire(room.presenceKey(), ttlMs);
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ChatPresenceService] refresh failed. rooms={}", members.size(), e);
+            return;
+        }
+
+        // 채팅방마다 [만료 항목 삭제, 접속자 수만큼 갱신, 키 만료 갱신] 순서로 결과가 쌓임
+        int index = 0;
+        for (Map.Entry<Room, Set<UUID>> entry : members.entrySet()) {
+            if (results.get(index) instanceof Long removed && removed > 0) {
+                dirtyRooms.add(entry.getKey());
+            }
+            index += entry.getValue().size() + 2;
+        }
+    }
+
+    /**
+     * 변경이 생긴 채팅방마다 여러 인스턴스의 접속자와 입력 중인 사용자를 합친 전체 상태를 한 건씩 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${chat-presence.flush-interval-ms:250}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        typingDeadlines.entrySet().removeIf(deadline -> {
+            if (deadline.getValue() > now) {
+                return false;
+            }
+            dirtyRooms.add(deadline.getKey());
+            return true;
+        });
+        if (dirtyRooms.isEmpty()) {
+            return;
+        }
+
+        List<Room> rooms = new ArrayList<>(dirtyRooms);
+        rooms.forEach(dirtyRooms::remove);
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                rooms.forEach(room -> {
+                    conn.zRangeByScore(room.presenceKey(), now, Double.POSITIVE_INFINITY);
+                    conn.zRangeByScore(room.typingKey(), now, Double.POSITIVE_INFINITY);
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ChatPresenceService] flush failed. rooms={}", rooms.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < rooms.size(); i++) {
+            Room room = rooms.get(i);
+            @SuppressWarnings("unchecked")
+            Set<String> online = (Set<String>) results.get(i * 2);
+            @SuppressWarnings("unchecked")
+            Set<String> typing = (Set<String>) results.get(i * 2 + 1);
+
+            PresenceResDto presence = PresenceResDto.builder()
+                    .chatId(room.chatId())
+                    .roomType(room.type())
+                    .onlineMemberIds(online == null ? List.of() : online.stream()
+                            .map(value -> UUID.fromString(value.substring(0, value.indexOf(NODE_SEPARATOR))))
+                            .distinct()
+                            .toList())
+                    .typingMemberIds(typing == null ? List.of() : typing.stream().map(UUID::fromString).toList())
+                    .build();
+            messagingTemplate.convertAndSend(room.topic() + "/presence", presence);
+        }
+    }
+
+    /**
+     * 구독 수를 하나 줄이고, 이 인스턴스에서 해당 사용자의 마지막 구독이었으면 true 를 반환합니다.
+     */
+    private boolean release(Room room, UUID memberId) {
+        Map<UUID, Integer> counts = localMembers.get(room);
+        if (counts == null || counts.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null) != null) {
+            return false;
+        }
+        if (counts.isEmpty()) {
+            localMembers.remove(room);
+        }
+        return true;
+    }
+
+    private void leave(Room room, UUID memberId) {
+        try {
+            redisTemplate.opsForZSet().remove(room.presenceKey(), entry(memberId));
+            redisTemplate.opsForZSet().remove(room.typingKey(), memberId.toString());
+        } catch (RuntimeException e) {
+            log.warn("[ChatPresenceService] leave record failed. chatId={}, memberId={}", room.chatId(), memberId, e);
+        }
+        dirtyRooms.add(room);
+    }
+
+    private boolean isMember(Room room, UUID memberId) {
+        try {
+            return chatMembershipCache.isMember(room.type(), room.chatId(), memberId);
+        } catch (CustomException e) {
+            return false;
+        }
+    }
+
+    private String entry(UUID memberId) {
+        return memberId + NODE_SEPARATOR + nodeId;
+    }
+
+    private static UUID memberId(Principal principal) {
+        return principal instanceof CustomUserDetails userDetails ? userDetails.getMember().getId() : null;
+    }
+
+    private record Room(RoomType type, UUID chatId) {
+
+        static Room parse(String destination) {
+            if (destination == null) {
+                return null;
+            }
+            Matcher matcher = ROOM_DESTINATION.matcher(destination);
+            if (!matcher.matches()) {
+                return null;
+            }
+            try {
+                RoomType type = "group".equals(matcher.group(1)) ? RoomType.GROUP : RoomType.SINGLE;
+                return new Room(type, UUID.fromString(matcher.group(2)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        String topic() {
+            return (type == RoomType.GROUP ? "/sub/group/" : "/sub/chat/") + chatId;
+        }
+
+        String presenceKey() {
+            return PRESENCE_PREFIX + type.name().toLowerCase() + ":" + chatId;
+        }
+
+        String typingKey() {
+            return TYPING_PREFIX + type.name().toLowerCase() + ":" + chatId;
+        }
+    }
+}
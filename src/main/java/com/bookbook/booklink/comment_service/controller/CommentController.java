@@ -7,15 +7,20 @@ import com.bookbook.booklink.comment_service.model.dto.request.CommentUpdateDto;
 import com.bookbook.booklink.comment_service.model.dto.response.CommentDto;
 import com.bookbook.booklink.comment_service.service.CommentService;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,6 +28,7 @@ import java.util.UUID;
 
 @Slf4j
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class CommentController implements CommentApiDocs {
 
@@ -90,6 +96,17 @@ public class CommentController implements CommentApiDocs {
         return ResponseEntity.ok(BaseResponse.success(comments));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<PageResponse<CommentDto>>> getCommentPageByBoard(
+            @PathVariable UUID boardId,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal(expression = "member") Member member
+    ) {
+        PageResponse<CommentDto> comments = commentService.getCommentPageByBoard(boardId, page, size, member);
+        return ResponseEntity.ok(BaseResponse.success(comments));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<List<CommentDto>>> getReplies(
             @PathVariable UUID parentId,
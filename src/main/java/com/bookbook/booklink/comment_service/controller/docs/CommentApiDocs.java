@@ -5,12 +5,15 @@ import com.bookbook.booklink.comment_service.model.dto.request.CommentCreateDto;
 import com.bookbook.booklink.comment_service.model.dto.request.CommentUpdateDto;
 import com.bookbook.booklink.comment_service.model.dto.response.CommentDto;
 import com.bookbook.booklink.common.dto.BaseResponse;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.exception.ApiErrorResponses;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -89,6 +92,21 @@ public interface CommentApiDocs {
             @AuthenticationPrincipal(expression = "member") Member member
     );
 
+    @Operation(
+            summary = "게시글 댓글 목록 페이지 조회",
+            description = "특정 게시글의 최상위 댓글을 페이지 단위로 조회합니다. 각 댓글의 대댓글 수와 좋아요 기준 최상위 대댓글을 포함합니다."
+    )
+    @ApiErrorResponses({
+            ErrorCode.DATABASE_ERROR
+    })
+    @GetMapping("/{boardId}/page")
+    ResponseEntity<BaseResponse<PageResponse<CommentDto>>> getCommentPageByBoard(
+            @Parameter(description = "댓글 목록을 조회할 게시글 고유 ID") @PathVariable UUID boardId,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal(expression = "member") Member member
+    );
+
     @Operation(
             summary = "대댓글 목록 조회",
             description = "특정 댓글에 대한 대댓글 목록을 조회합니다. (삭제된 대댓글 제외)"
@@ -27,6 +27,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_comment_board_created_at", columnList = "board_id, created_at")
+})
 @Schema(name = "Comment", description = "댓글 엔티티")
 public class Comment {
 
@@ -53,7 +56,8 @@ public class Comment {
     @Schema(description = "댓글 삭제 일시", example = "2025-09-30T22:00:00")
     private LocalDateTime deletedAt;
 
-    @Column(nullable = false)
+    // CounterService 의 일괄 UPDATE 로만 갱신 (변경 감지로 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     @Schema(description = "좋아요 수", example = "5", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer likeCount = 0;
@@ -120,14 +124,4 @@ public class Comment {
     public void delete() {
         this.deletedAt = LocalDateTime.now();
     }
-
-    public void like() {
-        this.likeCount++;
-    }
-
-    public void unlike() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 }
@@ -37,36 +37,34 @@ public class CommentDto {
     @Schema(description = "내가 작성한 댓글인지 여부", example = "true")
     private Boolean isMine;
 
+    @Schema(description = "대댓글 수", example = "3")
+    private Integer childCount;
+
     @Schema(
             description = "좋아요 기준 최상위 대댓글",
             implementation = CommentDto.class
     )
     private CommentDto topChild;
 
-    public static CommentDto fromEntity(Comment comment, UUID userId) {
+    /**
+     * @param likeCount  아직 DB 에 반영되지 않은 증감분을 합친 좋아요 수
+     * @param likedByMe  현재 사용자가 좋아요를 눌렀는지 여부
+     * @param childCount 삭제되지 않은 대댓글 수
+     * @param topChild   좋아요 기준 최상위 대댓글 (없으면 null)
+     */
+    public static CommentDto fromEntity(Comment comment, UUID userId, int likeCount, boolean likedByMe,
+                                        int childCount, CommentDto topChild) {
         return CommentDto.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
                 .writerName(comment.getWriterName())
                 .createdAt(comment.getCreatedAt())
                 .isUpdated(comment.getUpdatedAt() != null)
-                .likeCount(comment.getLikeCount())
-                .likedByMe(comment.getLikesList().stream()
-                        .anyMatch(like -> like.getUserId().equals(userId)))
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
                 .isMine(comment.getWriterId().equals(userId))
-                .topChild(getTopChild(comment, userId))
+                .childCount(childCount)
+                .topChild(topChild)
                 .build();
     }
-
-    private static CommentDto getTopChild(Comment parent, UUID userId) {
-        return parent.getChildren().stream()
-                .filter(c -> c.getDeletedAt() == null)
-                .max((c1, c2) -> {
-                    int cmp = c1.getLikeCount().compareTo(c2.getLikeCount());
-                    if (cmp != 0) return cmp;
-                    return c2.getCreatedAt().compareTo(c1.getCreatedAt());
-                })
-                .map(c -> CommentDto.fromEntity(c, userId))
-                .orElse(null);
-    }
 }
@@ -1,17 +1,43 @@
 package com.bookbook.booklink.comment_service.repository;
 
-import com.bookbook.booklink.comment_service.model.Comment;
 import com.bookbook.booklink.comment_service.model.CommentLikes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CommentLikesRepository extends JpaRepository<CommentLikes, UUID> {
 
-    boolean existsByCommentAndUserId(Comment comment, UUID userId);
-    
-    Optional<CommentLikes> findByCommentAndUserId(Comment comment, UUID userId);
+    /**
+     * 좋아요 기록을 추가합니다. (comment_id, user_id) 유니크 제약에 걸리면 무시합니다.
+     * 댓글은 soft delete 되므로 외래 키 오류는 나지 않으며, 호출 전에 댓글이 삭제되지 않았는지 확인해야 합니다.
+     *
+     * @return 추가된 행 수 (이미 좋아요를 눌렀으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO comment_likes (id, comment_id, user_id, created_at)
+            VALUES (:id, :commentId, :userId, NOW())
+            """,
+            nativeQuery = true)
+    int insertIgnore(@Param("id") UUID id, @Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+    /**
+     * @return 삭제된 행 수 (좋아요 기록이 없으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLikes cl WHERE cl.comment.id = :commentId AND cl.userId = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+    /**
+     * 주어진 댓글들 중 사용자가 좋아요를 누른 댓글 ID 만 조회합니다.
+     */
+    @Query("SELECT cl.comment.id FROM CommentLikes cl WHERE cl.userId = :userId AND cl.comment.id IN :commentIds")
+    List<UUID> findLikedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
 }
@@ -1,11 +1,14 @@
 package com.bookbook.booklink.comment_service.repository;
 
 import com.bookbook.booklink.comment_service.model.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,17 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     @Query("SELECT c FROM Comment c JOIN FETCH c.board b JOIN FETCH b.member WHERE c.id = :commentId")
     Optional<Comment> findByIdWithBoard(@Param("commentId") UUID commentId);
 
-    List<Comment> findByBoardIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(UUID boardId);
+    /**
+     * 게시글의 삭제되지 않은 댓글과 대댓글을 한 번에 조회합니다. (작성일 오름차순)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
+    List<Comment> findAllByBoardIdForTree(@Param("boardId") UUID boardId);
+
+    Page<Comment> findByBoardIdAndParentIsNullAndDeletedAtIsNull(UUID boardId, Pageable pageable);
+
+    /**
+     * 여러 댓글의 삭제되지 않은 대댓글을 한 번에 조회합니다. (작성일 오름차순)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.parent.id IN :parentIds AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
+    List<Comment> findChildrenByParentIds(@Param("parentIds") Collection<UUID> parentIds);
 }
-    
\ No newline at end of file
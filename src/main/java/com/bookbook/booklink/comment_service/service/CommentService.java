@@ -2,26 +2,41 @@ package com.bookbook.booklink.comment_service.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
 import com.bookbook.booklink.auth_service.service.MemberService;
+import com.bookbook.booklink.board_service.cache.BoardHotRanking;
 import com.bookbook.booklink.board_service.model.Board;
 import com.bookbook.booklink.board_service.service.BoardService;
 import com.bookbook.booklink.comment_service.model.Comment;
-import com.bookbook.booklink.comment_service.model.CommentLikes;
 import com.bookbook.booklink.comment_service.model.dto.request.CommentCreateDto;
 import com.bookbook.booklink.comment_service.model.dto.request.CommentUpdateDto;
 import com.bookbook.booklink.comment_service.model.dto.response.CommentDto;
 import com.bookbook.booklink.comment_service.repository.CommentLikesRepository;
 import com.bookbook.booklink.comment_service.repository.CommentRepository;
+import com.bookbook.booklink.common.counter.CounterService;
+import com.bookbook.booklink.common.counter.CounterType;
+import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
 import com.bookbook.booklink.common.exception.ErrorCode;
 import com.bookbook.booklink.common.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -31,6 +46,7 @@ public class CommentService {
     private final BoardService boardService;
     private final MemberService memberService;
     private final IdempotencyService idempotencyService;
+    private final CounterService counterService;
 
     private final CommentRepository commentRepository;
     private final CommentLikesRepository commentLikesRepository;
@@ -149,6 +165,7 @@ public class CommentService {
 
         Board board = comment.getBoard();
         board.uncomment();
+        boardService.publishHotScoreChanged(board, -BoardHotRanking.COMMENT_POINTS);
 
         log.info("[CommentService] [userId={}] delete comment success, commentId={}",
                 userId, commentId);
@@ -171,13 +188,11 @@ public class CommentService {
 
         Comment comment = getCommentById(commentId);
 
-        if (commentLikesRepository.existsByCommentAndUserId(comment, member.getId())) {
+        // 좋아요 컬렉션을 읽지 않고 유니크 제약으로 중복을 걸러냄
+        if (commentLikesRepository.insertIgnore(UUID.randomUUID(), comment.getId(), member.getId()) == 0) {
             throw new CustomException(ErrorCode.COMMENT_ALREADY_LIKES);
         }
-
-        CommentLikes newLikes = CommentLikes.create(comment, member.getId());
-        comment.getLikesList().add(newLikes);
-        comment.like();
+        counterService.increment(CounterType.COMMENT_LIKE, commentId, 1);
 
         log.info("[CommentService] [userId={}] like comment success, commentId={}", member.getId(), commentId);
     }
@@ -198,11 +213,10 @@ public class CommentService {
 
         Comment comment = getCommentById(commentId);
 
-        CommentLikes existingLike = commentLikesRepository.findByCommentAndUserId(comment, member.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_LIKED));
-
-        comment.unlike();
-        comment.getLikesList().remove(existingLike);
+        if (commentLikesRepository.deleteByCommentIdAndUserId(comment.getId(), member.getId()) == 0) {
+            throw new CustomException(ErrorCode.COMMENT_NOT_LIKED);
+        }
+        counterService.increment(CounterType.COMMENT_LIKE, commentId, -1);
 
         log.info("[CommentService] [userId={}] unlike comment success, commentId={}", member.getId(), commentId);
     }
@@ -211,18 +225,50 @@ public class CommentService {
      * 특정 게시글에 속한 최상위 레벨의 댓글 목록을 조회합니다.
      * 삭제되지 않은 댓글만 포함하며, 작성일 기준 오름차순으로 정렬합니다.
      * 각 댓글에 대해 현재 사용자의 '좋아요' 여부 정보를 포함하는 DTO로 변환하여 반환합니다.
+     * <p>
+     * 게시글의 댓글과 대댓글을 쿼리 한 번으로 읽고, 좋아요 여부도 쿼리 한 번으로 읽어 메모리에서 조립합니다.
      *
      * @param boardId 댓글을 조회할 게시글의 고유 ID
      * @param member  현재 요청을 보낸 사용자 정보 (좋아요 여부 판단에 사용)
      * @return 게시글의 최상위 댓글 목록 DTO
      */
+    @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByBoard(UUID boardId, Member member) {
-        List<Comment> topLevelComments = commentRepository
-                .findByBoardIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(boardId);
+        List<Comment> comments = commentRepository.findAllByBoardIdForTree(boardId);
 
-        return topLevelComments.stream()
-                .map(c -> CommentDto.fromEntity(c, member.getId()))
+        List<Comment> topLevelComments = comments.stream()
+                .filter(c -> c.getParent() == null)
                 .toList();
+        Map<UUID, List<Comment>> childrenByParent = groupByParent(comments.stream()
+                .filter(c -> c.getParent() != null)
+                .toList());
+
+        return toCommentDtos(topLevelComments, childrenByParent, member.getId());
+    }
+
+    /**
+     * 특정 게시글에 속한 최상위 레벨의 댓글 목록을 페이지 단위로 조회합니다.
+     * 페이지에 포함된 댓글들의 대댓글은 쿼리 한 번으로 읽어 대댓글 수와 최상위 대댓글을 계산합니다.
+     *
+     * @param boardId 댓글을 조회할 게시글의 고유 ID
+     * @param page    페이지 번호 (0부터 시작)
+     * @param size    페이지 크기
+     * @param member  현재 요청을 보낸 사용자 정보 (좋아요 여부 판단에 사용)
+     * @return 게시글의 최상위 댓글 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<CommentDto> getCommentPageByBoard(UUID boardId, int page, int size, Member member) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
+        Page<Comment> topLevelComments = commentRepository
+                .findByBoardIdAndParentIsNullAndDeletedAtIsNull(boardId, pageable);
+
+        List<UUID> parentIds = topLevelComments.getContent().stream().map(Comment::getId).toList();
+        Map<UUID, List<Comment>> childrenByParent = parentIds.isEmpty()
+                ? Map.of()
+                : groupByParent(commentRepository.findChildrenByParentIds(parentIds));
+
+        List<CommentDto> content = toCommentDtos(topLevelComments.getContent(), childrenByParent, member.getId());
+        return PageResponse.from(new PageImpl<>(content, pageable, topLevelComments.getTotalElements()));
     }
 
     /**
@@ -235,13 +281,59 @@ public class CommentService {
      * @throws CustomException COMMENT_NOT_FOUND 해당 ID의 댓글이 존재하지 않을 경우
      * @throws CustomException COMMENT_DELETED 삭제된 댓글일 경우
      */
+    @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByComment(UUID commentId, Member member) {
-        Comment comment = getCommentById(commentId);
+        getCommentById(commentId);
+
+        List<Comment> children = commentRepository.findChildrenByParentIds(List.of(commentId));
+
+        return toCommentDtos(children, Map.of(), member.getId());
+    }
+
+    private Map<UUID, List<Comment>> groupByParent(List<Comment> children) {
+        // 부모는 프록시로 남아 있으므로 ID 만 읽어 초기화하지 않음
+        return children.stream()
+                .collect(Collectors.groupingBy(c -> c.getParent().getId(), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 댓글과 대댓글의 좋아요 여부, 아직 DB 에 반영되지 않은 좋아요 증감분을 한 번에 조회해 DTO 로 조립합니다.
+     *
+     * @param comments         변환할 댓글 목록
+     * @param childrenByParent 부모 댓글 ID → 삭제되지 않은 대댓글 목록
+     * @param userId           현재 사용자 ID
+     */
+    private List<CommentDto> toCommentDtos(List<Comment> comments, Map<UUID, List<Comment>> childrenByParent,
+                                           UUID userId) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = Stream.concat(comments.stream(), childrenByParent.values().stream().flatMap(List::stream))
+                .map(Comment::getId)
+                .toList();
+        Map<UUID, Long> pendingLikes = counterService.pendingDeltas(CounterType.COMMENT_LIKE, ids);
+        Set<UUID> likedIds = new HashSet<>(commentLikesRepository.findLikedCommentIds(userId, ids));
+
+        return comments.stream()
+                .map(comment -> {
+                    List<Comment> children = childrenByParent.getOrDefault(comment.getId(), List.of());
+                    // 좋아요가 가장 많은 대댓글, 같으면 먼저 작성된 대댓글
+                    CommentDto topChild = children.stream()
+                            .max(Comparator.<Comment>comparingInt(c -> likeCount(c, pendingLikes))
+                                    .thenComparing(Comment::getCreatedAt, Comparator.reverseOrder()))
+                            .map(c -> CommentDto.fromEntity(c, userId, likeCount(c, pendingLikes),
+                                    likedIds.contains(c.getId()), 0, null))
+                            .orElse(null);
+
+                    return CommentDto.fromEntity(comment, userId, likeCount(comment, pendingLikes),
+                            likedIds.contains(comment.getId()), children.size(), topChild);
+                })
+                .toList();
+    }
 
-        return comment.getChildren()
-                .stream()
-                .filter(c -> c.getDeletedAt() == null)
-                .map(c -> CommentDto.fromEntity(c, member.getId())).toList();
+    private int likeCount(Comment comment, Map<UUID, Long> pendingLikes) {
+        return CounterService.merge(comment.getLikeCount(), pendingLikes.get(comment.getId()));
     }
 
     /**
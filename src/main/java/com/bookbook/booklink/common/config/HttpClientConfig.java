@@ -0,0 +1,36 @@
+package com.bookbook.booklink.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 API 호출용 JDK HttpClient 빈 설정 클래스입니다.
+ * HttpClient 는 커넥션 풀을 내부에서 관리하므로 요청마다 생성하지 않고 하나의 인스턴스를 공유합니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${national-library.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    /**
+     * 국립중앙도서관 API 호출용 HttpClient 를 생성합니다.
+     * 응답 처리는 가상 스레드에서 수행되어 요청 스레드(Tomcat worker)를 점유하지 않습니다.
+     *
+     * @return HttpClient 객체
+     */
+    @Bean
+    public HttpClient nationalLibraryHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
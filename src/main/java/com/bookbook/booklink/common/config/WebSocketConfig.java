@@ -1,15 +1,25 @@
 package com.bookbook.booklink.common.config;
 
+import com.bookbook.booklink.chat_service.websocket.broker.BrokerMode;
+import com.bookbook.booklink.chat_service.websocket.broker.RedisBrokerFanout;
+import com.bookbook.booklink.chat_service.websocket.codec.StompPayloadCodec;
 import com.bookbook.booklink.chat_service.websocket.handler.StompHandler;
 import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomPrincipalHandshakeHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
@@ -17,11 +27,59 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final CustomPrincipalHandshakeHandler customPrincipalHandshakeHandler;
     private final StompHandler stompHandler;
+    private final RedisBrokerFanout redisBrokerFanout;
+    private final StompPayloadCodec stompPayloadCodec;
+
+    @Value("${chat-broker.mode:SIMPLE}")
+    private BrokerMode brokerMode;
+
+    @Value("${chat-broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat-broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat-broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat-broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat-presence.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 브로커 설정 중에는 아직 만들어지지 않은 빈이므로 지연 주입
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 구독 prefix (클라이언트 → 서버 수신)
-        registry.enableSimpleBroker("/sub");
+        switch (brokerMode) {
+            // 외부 STOMP 브로커가 구독을 관리하므로 어느 인스턴스에서 발행해도 모든 구독자에게 전달
+            case RELAY -> registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            // 인스턴스 내 브로커로 전달하면서 Redis 로 다른 인스턴스에도 전달
+            // heartbeat 가 끊긴 연결은 브로커가 닫으므로 접속 상태(presence)에서도 빠짐
+            case REDIS -> {
+                registry.enableSimpleBroker("/sub")
+                        .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                        .setTaskScheduler(messageBrokerTaskScheduler);
+                registry.configureBrokerChannel().interceptors(redisBrokerFanout);
+            }
+            case SIMPLE -> registry.enableSimpleBroker("/sub")
+                    .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         // 발행 prefix (클라이언트 → 서버 발행)
         registry.setApplicationDestinationPrefixes("/pub");
     }
@@ -29,6 +87,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결 엔드포인트 (SockJS fallback 포함)
+        // permessage-deflate 는 클라이언트가 요청하면 서블릿 컨테이너(Tomcat) 기본 확장으로 협상됨
         registry.addEndpoint("/ws/chat")
                 .setHandshakeHandler(customPrincipalHandshakeHandler)
                 .setAllowedOriginPatterns("*");
@@ -36,6 +95,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     }
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler); // ✅ 토큰 검증 추가
+        registration.interceptors(stompHandler, stompPayloadCodec); // ✅ 토큰 검증 추가
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // payload-format: cbor 로 연결한 세션에는 CBOR 바이너리 프레임으로 전달
+        registration.interceptors(stompPayloadCodec);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // content-type: application/cbor 로 보낸 메시지 변환 (기본 JSON 변환기는 유지)
+        messageConverters.add(stompPayloadCodec.cborMessageConverter());
+        return true;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
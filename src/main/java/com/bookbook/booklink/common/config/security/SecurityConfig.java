@@ -5,6 +5,7 @@ import com.bookbook.booklink.common.jwt.JwtAuthorizationFilter;
 import com.bookbook.booklink.common.jwt.util.JWTUtil;
 import com.bookbook.booklink.common.oauth.KakaoOAuth2UserService;
 import com.bookbook.booklink.common.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -66,6 +67,8 @@ public class SecurityConfig {
                                 "/chat-test.html","/group-test.html", "/ws/**", "/favicon.ico",
                                 "/css/**", "/js/**", "/images/**"
                         ).permitAll()
+                        // 비동기 응답(CompletableFuture) 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 // AccessToken 설정이 없을 시 오류 메세지
@@ -0,0 +1,17 @@
+package com.bookbook.booklink.common.counter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 카운터 증감 이벤트 (커밋 후 Redis 에 누적)
+ */
+@Getter
+@Builder
+public class CounterEvent {
+    private CounterType type;
+    private UUID targetId;
+    private long delta;
+}
@@ -0,0 +1,38 @@
+package com.bookbook.booklink.common.counter;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카운터 종류별로 마지막으로 DB 에 반영한 증감분 묶음
+ *
+ * <p>반영 후 Redis 의 반영용 키를 지우지 못하면 다음 주기에 같은 묶음을 다시 반영하게 되므로,
+ * 증감분 UPDATE 와 같은 트랜잭션에서 묶음 ID 를 기록하고 이미 기록된 묶음은 건너뜁니다.</p>
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterFlushMarker {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, updatable = false, nullable = false)
+    private CounterType type;
+
+    @Column(nullable = false, length = 36)
+    private String batchId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+
+    public void apply(String batchId) {
+        this.batchId = batchId;
+        this.appliedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,168 @@
+package com.bookbook.booklink.common.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 에 누적된 카운터(좋아요 수, 조회수) 증감분을 주기적으로 DB 에 반영하는 스케줄러
+ *
+ * <p>누적 해시를 반영용 키로 RENAME 하여 그 시점까지의 증감분만 분리하고 묶음 ID 를 붙인 뒤 DB 에 반영하며,
+ * 반영이 끝나면 반영용 키를 삭제합니다. DB 반영에 실패하면 반영용 키가 남아 다음 주기에 같은 묶음을 다시 시도합니다.
+ * 반영 후 키 삭제에 실패해도 DB 에 기록된 묶음 ID 로 이미 반영된 묶음을 건너뛰므로 증감분이 두 번 더해지지 않습니다.</p>
+ *
+ * <p>여러 인스턴스가 동시에 반영하지 않도록 종류별로 Redis 락을 잡습니다. 락 값은 실행마다 만든 토큰이며,
+ * DB 반영 직전에 토큰이 같을 때만 TTL 을 연장하고 끝나면 토큰이 같을 때만 지웁니다.</p>
+ *
+ * <p>Redis 에 누적하지 못한 이 인스턴스의 증감분은 락과 관계없이 매 주기 DB 에 바로 반영합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterFlushScheduler {
+
+    private static final String LOCK_PREFIX = "counter:flush-lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 반영 중인 묶음이 있으면 그 묶음 ID, 없으면 누적 해시를 반영용 키로 옮기고 새 묶음 ID 를 반환 (반영할 것이 없으면 nil)
+    private static final RedisScript<String> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                local batch = redis.call('GET', KEYS[3])
+                if batch then
+                    return batch
+                end
+            elseif redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+                return false
+            end
+            redis.call('SET', KEYS[3], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    // 반영한 묶음일 때만 반영용 키와 묶음 ID 삭제
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1], KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰이 같을 때만 TTL 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰이 같을 때만 해제 (만료 후 다른 인스턴스가 잡은 락은 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterService counterService;
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+    public void flush() {
+        for (CounterType type : CounterType.values()) {
+            try {
+                applyUnrecorded(type);
+                flush(type);
+            } catch (RuntimeException e) {
+                log.error("[CounterFlushScheduler] flush failed, type={}", type, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (CounterType type : CounterType.values()) {
+            try {
+                applyUnrecorded(type);
+            } catch (RuntimeException e) {
+                log.error("[CounterFlushScheduler] unrecorded deltas lost on shutdown, type={}", type, e);
+            }
+        }
+    }
+
+    private void flush(CounterType type) {
+        String lockKey = lockKey(type);
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+            return;
+        }
+
+        try {
+            String flushingKey = CounterService.flushingKey(type);
+            String batchKey = CounterService.batchKey(type);
+
+            // 이전 주기에 반영하지 못한(또는 반영 후 지우지 못한) 묶음이 있으면 그것부터 반영
+            String batchId = redisTemplate.execute(PREPARE_SCRIPT,
+                    List.of(CounterService.pendingKey(type), flushingKey, batchKey), UUID.randomUUID().toString());
+            if (batchId == null) {
+                return;
+            }
+
+            Map<UUID, Long> deltas = new HashMap<>();
+            redisTemplate.opsForHash().entries(flushingKey).forEach((id, delta) ->
+                    deltas.put(UUID.fromString(id.toString()), Long.parseLong(delta.toString())));
+
+            if (!renew(lockKey, token)) {
+                log.warn("[CounterFlushScheduler] lock lost, skipping flush. type={}, batchId={}", type, batchId);
+                return;
+            }
+            int updated = counterService.applyBatch(type, batchId, deltas);
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(flushingKey, batchKey), batchId);
+
+            if (updated < 0) {
+                log.info("[CounterFlushScheduler] batch already applied, cleared. type={}, batchId={}", type, batchId);
+            } else {
+                log.info("[CounterFlushScheduler] flush success, type={}, batchId={}, targets={}, updated={}",
+                        type, batchId, deltas.size(), updated);
+            }
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    private void applyUnrecorded(CounterType type) {
+        Map<UUID, Long> deltas = counterService.drainUnrecorded(type);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            int updated = counterService.applyDeltas(type, deltas);
+            log.info("[CounterFlushScheduler] unrecorded deltas applied, type={}, targets={}, updated={}",
+                    type, deltas.size(), updated);
+        } catch (RuntimeException e) {
+            counterService.restoreUnrecorded(type, deltas);
+            throw e;
+        }
+    }
+
+    private boolean renew(String lockKey, String token) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey),
+                token, String.valueOf(LOCK_TTL.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    static String lockKey(CounterType type) {
+        return LOCK_PREFIX + type.name().toLowerCase();
+    }
+}
@@ -0,0 +1,230 @@
+package com.bookbook.booklink.common.counter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요 수 등 자주 증감하는 카운터를 엔티티 대신 Redis 해시에 누적하는 서비스
+ *
+ * <p>증감은 트랜잭션 커밋 후 {@code HINCRBY} 로 누적되어 DB 행 잠금 없이 처리되며,
+ * {@link CounterFlushScheduler} 가 주기적으로 모인 증감분을 DB 에 일괄 반영합니다.</p>
+ *
+ * <p>조회 시에는 DB 에 저장된 값과 아직 반영되지 않은 증감분을 합쳐서 보여줍니다.
+ * 증감분은 Redis 에 보관되므로 애플리케이션이 중단되어도 반영 주기 한 번 분량 이상 유실되지 않습니다.</p>
+ *
+ * <p>커밋 후 {@code HINCRBY} 가 실패한 증감분은 인스턴스 메모리에 모아 두었다가
+ * {@link CounterFlushScheduler} 가 다음 주기에 Redis 를 거치지 않고 DB 에 바로 반영합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+
+    static final String PENDING_PREFIX = "counter:pending:";
+    static final String FLUSHING_PREFIX = "counter:flushing:";
+    static final String BATCH_PREFIX = "counter:flushing-batch:";
+    private static final String SEEN_PREFIX = "counter:seen:";
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    // Redis 에 누적하지 못한 증감분 (종류 → 대상 ID → 증감분)
+    private final Map<CounterType, Map<UUID, Long>> unrecorded = new ConcurrentHashMap<>();
+
+    /**
+     * 카운터를 증감합니다. 트랜잭션 안에서 호출되면 커밋 후에 반영됩니다.
+     *
+     * @param type     카운터 종류
+     * @param targetId 대상 엔티티 ID
+     * @param delta    증감량
+     */
+    public void increment(CounterType type, UUID targetId, long delta) {
+        eventPublisher.publishEvent(CounterEvent.builder()
+                .type(type)
+                .targetId(targetId)
+                .delta(delta)
+                .build());
+    }
+
+    /**
+     * 같은 사용자가 일정 시간 안에 다시 증가시키면 무시하고, 처음일 때만 카운터를 1 증가시킵니다. (조회수 중복 방지)
+     *
+     * @param type     카운터 종류
+     * @param targetId 대상 엔티티 ID
+     * @param actorId  증가시키는 사용자 ID
+     * @param window   중복으로 보는 시간 (0 이하면 중복 검사를 하지 않음)
+     * @return 카운터를 증가시켰으면 true
+     */
+    public boolean incrementOnce(CounterType type, UUID targetId, UUID actorId, Duration window) {
+        if (actorId != null && !window.isZero() && !window.isNegative()) {
+            String seenKey = SEEN_PREFIX + type.name().toLowerCase() + ":" + targetId + ":" + actorId;
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(seenKey, "1", window))) {
+                return false;
+            }
+        }
+        increment(type, targetId, 1);
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCounterChanged(CounterEvent event) {
+        try {
+            redisTemplate.opsForHash().increment(pendingKey(event.getType()),
+                    event.getTargetId().toString(), event.getDelta());
+        } catch (RuntimeException e) {
+            // DB 변경은 이미 커밋되었으므로 증감분을 버리지 않고 다음 반영 주기에 DB 에 바로 반영
+            log.warn("[CounterService] counter increment failed, kept for direct apply. type={}, targetId={}, delta={}",
+                    event.getType(), event.getTargetId(), event.getDelta(), e);
+            restoreUnrecorded(event.getType(), Map.of(event.getTargetId(), event.getDelta()));
+        }
+    }
+
+    /**
+     * Redis 에 누적하지 못한 증감분을 꺼냅니다. 꺼낸 증감분은 DB 에 반영하거나, 실패하면 {@link #restoreUnrecorded} 로 되돌려야 합니다.
+     */
+    public Map<UUID, Long> drainUnrecorded(CounterType type) {
+        Map<UUID, Long> drained = new HashMap<>();
+        Map<UUID, Long> buffer = unrecorded.get(type);
+        if (buffer == null) {
+            return drained;
+        }
+        for (UUID targetId : List.copyOf(buffer.keySet())) {
+            Long delta = buffer.remove(targetId);
+            if (delta != null) {
+                drained.put(targetId, delta);
+            }
+        }
+        return drained;
+    }
+
+    public void restoreUnrecorded(CounterType type, Map<UUID, Long> deltas) {
+        Map<UUID, Long> buffer = unrecorded.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        deltas.forEach((targetId, delta) -> buffer.merge(targetId, delta, Long::sum));
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분을 조회합니다. (반영 중인 증감분 포함)
+     *
+     * @return 대상 ID → 증감분 (증감분이 없는 ID 는 포함하지 않음)
+     */
+    public Map<UUID, Long> pendingDeltas(CounterType type, Collection<UUID> targetIds) {
+        Map<UUID, Long> result = new HashMap<>();
+        if (targetIds.isEmpty()) {
+            return result;
+        }
+
+        List<UUID> ids = new ArrayList<>(targetIds);
+        List<Object> fields = ids.stream().map(id -> (Object) id.toString()).toList();
+        List<Object> pending = redisTemplate.opsForHash().multiGet(pendingKey(type), fields);
+        List<Object> flushing = redisTemplate.opsForHash().multiGet(flushingKey(type), fields);
+
+        for (int i = 0; i < ids.size(); i++) {
+            long delta = parse(pending.get(i)) + parse(flushing.get(i));
+            if (delta != 0) {
+                result.put(ids.get(i), delta);
+            }
+        }
+        return result;
+    }
+
+    public long pendingDelta(CounterType type, UUID targetId) {
+        return pendingDeltas(type, List.of(targetId)).getOrDefault(targetId, 0L);
+    }
+
+    /**
+     * DB 에 저장된 값과 반영되지 않은 증감분을 합친 값을 반환합니다. (0 미만이 되지 않음)
+     */
+    public static int merge(Integer persisted, Long pendingDelta) {
+        long value = (persisted == null ? 0 : persisted) + (pendingDelta == null ? 0 : pendingDelta);
+        return (int) Math.max(0, value);
+    }
+
+    /**
+     * Redis 에서 분리한 증감분 묶음을 DB 에 반영합니다. 같은 묶음이 이미 반영되었으면 아무것도 하지 않습니다.
+     *
+     * @param batchId 증감분 묶음 ID
+     * @param deltas  대상 ID → 증감분
+     * @return 갱신된 행 수 (이미 반영된 묶음이면 -1)
+     */
+    @Transactional
+    public int applyBatch(CounterType type, String batchId, Map<UUID, Long> deltas) {
+        CounterFlushMarker marker = entityManager.find(CounterFlushMarker.class, type, LockModeType.PESSIMISTIC_WRITE);
+        if (marker != null && batchId.equals(marker.getBatchId())) {
+            return -1;
+        }
+        if (marker == null) {
+            entityManager.persist(CounterFlushMarker.builder()
+                    .type(type)
+                    .batchId(batchId)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        } else {
+            marker.apply(batchId);
+        }
+        return applyDeltas(type, deltas);
+    }
+
+    /**
+     * 모인 증감분을 DB 에 반영합니다. 같은 증감량을 가진 대상끼리 묶어 UPDATE 한 번으로 처리합니다.
+     *
+     * @param deltas 대상 ID → 증감분
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int applyDeltas(CounterType type, Map<UUID, Long> deltas) {
+        String field = "e." + type.getFieldName();
+        String jpql = "UPDATE " + type.getEntityName() + " e " +
+                "SET " + field + " = CASE WHEN " + field + " + :delta < 0 THEN 0 ELSE " + field + " + :delta END " +
+                "WHERE e.id IN :ids";
+
+        Map<Long, List<UUID>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        });
+
+        int updated = 0;
+        for (Map.Entry<Long, List<UUID>> entry : idsByDelta.entrySet()) {
+            List<UUID> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                updated += entityManager.createQuery(jpql)
+                        .setParameter("delta", entry.getKey().intValue())
+                        .setParameter("ids", ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())))
+                        .executeUpdate();
+            }
+        }
+        return updated;
+    }
+
+    static String pendingKey(CounterType type) {
+        return PENDING_PREFIX + type.name().toLowerCase();
+    }
+
+    static String flushingKey(CounterType type) {
+        return FLUSHING_PREFIX + type.name().toLowerCase();
+    }
+
+    static String batchKey(CounterType type) {
+        return BATCH_PREFIX + type.name().toLowerCase();
+    }
+
+    private long parse(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+}
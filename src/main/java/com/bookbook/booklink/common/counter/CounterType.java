@@ -0,0 +1,21 @@
+package com.bookbook.booklink.common.counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis 에 누적한 뒤 주기적으로 DB 에 반영하는 카운터 종류 (좋아요 수, 조회수)
+ */
+@AllArgsConstructor
+@Getter
+public enum CounterType {
+    LIBRARY_LIKE("Library", "likeCount"),
+    BOARD_LIKE("Board", "likeCount"),
+    COMMENT_LIKE("Comment", "likeCount"),
+    BOOK_LIKE("Book", "likeCount"),
+    BOARD_VIEW("Board", "viewCount");
+
+    // 반영 대상 JPA 엔티티 이름과 필드 이름
+    private final String entityName;
+    private final String fieldName;
+}
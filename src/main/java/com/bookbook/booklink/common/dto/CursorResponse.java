@@ -0,0 +1,45 @@
+package com.bookbook.booklink.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+@Schema(description = "커서 기반 페이지네이션 응답 데이터 포맷")
+public class CursorResponse<T> {
+    @Schema(description = "현재 페이지의 데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)", example = "TEFURVNUfDIwMjUtMDktMjJUMTI6MDB8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "페이지당 데이터 수", example = "10")
+    private int pageSize;
+
+    /**
+     * size + 1 개를 조회한 결과로 응답을 만듭니다.
+     * 초과분이 있으면 잘라내고 마지막 원소로 다음 커서를 생성합니다.
+     *
+     * @param fetched       size + 1 개까지 조회한 목록
+     * @param size          페이지 크기
+     * @param cursorEncoder 마지막 원소로부터 커서를 만드는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, String> cursorEncoder) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .nextCursor(hasNext ? cursorEncoder.apply(content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+}
@@ -33,6 +33,9 @@ public class PageResponse<T> {
   @Schema(description = "이전 페이지 존재 여부")
   private boolean hasPrevious;
 
+  @Schema(description = "전체 데이터 수가 캐시된 근사값인지 여부", example = "false")
+  private boolean approximate;
+
   /* JPA 사용 방법 */
   public static <T> PageResponse<T> from(Page<T> page) {
     return PageResponse.<T>builder()
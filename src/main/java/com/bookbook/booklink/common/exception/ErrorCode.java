@@ -52,6 +52,9 @@ public enum ErrorCode {
     @Schema(description = "이미 처리중인 요청입니다.")
     DUPLICATE_REQUEST(HttpStatus.BAD_REQUEST, "DUPLICATE_REQUEST_400", "이미 처리중인 요청입니다."),
 
+    @Schema(description = "유효하지 않은 커서입니다.")
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR_400", "유효하지 않은 커서입니다."),
+
     /*
      * JWT
      */
@@ -76,6 +79,9 @@ public enum ErrorCode {
     MESSAGE_SENDER_MISMATCH(HttpStatus.BAD_REQUEST, "MESSAGE_SENDER_MISMATCH_400", "보내는 사용자 정보가 유효하지 않습니다."),
     CHAT_ROOM_INVALID_MEMBER(HttpStatus.BAD_REQUEST, "CHAT_ROOM_INVALID_MEMBER_400", "채팅방 생성 시 유효하지 않은 사용자 정보입니다."),
     CHAT_ROOM_ALREADY_EXISTS(HttpStatus.CONFLICT,"CHAT_ROOM_ALREADY_EXISTS_400","이미존재하는 채팅방입니다."),
+    CHAT_MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT_MESSAGE_NOT_FOUND_404", "해당 채팅방에 존재하지 않는 메시지입니다."),
+    CHAT_SEND_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "CHAT_SEND_BUSY_503", "메시지 전송이 많아 잠시 후 다시 시도해주세요."),
+    CHAT_ARCHIVE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CHAT_ARCHIVE_READ_FAILED_500", "보관된 채팅 메시지를 읽지 못했습니다."),
     /*
      * Library
      */
@@ -105,6 +111,9 @@ public enum ErrorCode {
     @Schema(description = "이미 존재하는 도서입니다.")
     DUPLICATE_BOOK(HttpStatus.BAD_REQUEST, "DUPLICATE_BOOK_400", "이미 존재하는 도서입니다."),
 
+    @Schema(description = "도서 대량 등록 파일 형식이 올바르지 않습니다.")
+    INVALID_BULK_FILE(HttpStatus.BAD_REQUEST, "INVALID_BULK_FILE_400", "도서 대량 등록 파일 형식이 올바르지 않습니다."),
+
     @Schema(description = "보유 권수와 도서 인스턴스 개수가 일치하지 않습니다.")
     LIBRARY_BOOK_COPIES_MISMATCH(HttpStatus.INTERNAL_SERVER_ERROR, "BOOK_INTERNAL_SERVER_ERROR_500", "보유 권수와 도서 인스턴스 개수가 일치하지 않습니다."),
 
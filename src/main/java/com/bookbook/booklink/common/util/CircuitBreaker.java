@@ -0,0 +1,67 @@
+package com.bookbook.booklink.common.util;
+
+/**
+ * 외부 API 호출용 단순 서킷 브레이커입니다.
+ *
+ * <p>연속 실패가 임계치에 도달하면 일정 시간 동안 호출을 차단(OPEN)하고,
+ * 차단 시간이 지나면 한 건의 시험 호출(HALF_OPEN)만 허용하여 성공 시 다시 닫습니다(CLOSED).</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * 호출 가능 여부를 반환합니다. OPEN 상태에서 차단 시간이 지났다면 시험 호출 한 건을 허용합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (System.currentTimeMillis() - openedAt >= openDurationMs) {
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 허용받았지만 외부 호출 전에 끝난 호출을 반환합니다. 시험 호출이었다면 다음 호출이 다시 시험 호출이 되도록 OPEN 으로 되돌립니다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
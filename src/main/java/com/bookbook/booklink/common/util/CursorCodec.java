@@ -0,0 +1,50 @@
+package com.bookbook.booklink.common.util;
+
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서 인코더/디코더입니다.
+ *
+ * <p>정렬 키와 id 등 여러 값을 '|' 로 이어 붙인 뒤 URL-safe Base64 로 인코딩합니다.
+ * 클라이언트는 커서의 내용을 해석하지 않고 그대로 다음 요청에 전달합니다.</p>
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) raw.append(DELIMITER);
+            raw.append(parts[i] == null ? "" : parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor        인코딩된 커서
+     * @param expectedParts 커서에 담긴 값의 개수
+     * @return 디코딩된 값 목록
+     * @throws CustomException 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookbook.booklink.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위치 기반 검색에 사용하는 geohash 유틸리티입니다.
+ *
+ * <p>도서관 좌표를 고정 정밀도의 geohash 격자로 저장해 두고, 검색 시에는
+ * 검색 반경을 덮는 격자 목록만 계산하여 인덱스로 후보를 좁힌 뒤 정확한 거리를 계산합니다.</p>
+ */
+public final class GeoHash {
+
+    /**
+     * 저장 및 검색에 사용하는 정밀도 (5자리 ≒ 4.9km x 4.9km 격자)
+     */
+    public static final int PRECISION = 5;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표를 geohash 문자열로 변환합니다.
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param precision geohash 길이
+     * @return geohash 문자열
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static String encode(double latitude, double longitude) {
+        return encode(latitude, longitude, PRECISION);
+    }
+
+    /**
+     * 중심 좌표와 반경(km)으로 만든 bounding box 를 덮는 geohash 격자 목록을 반환합니다.
+     *
+     * @param box 검색 영역
+     * @return 영역을 덮는 {@link #PRECISION} 자리 geohash 목록
+     */
+    public static List<String> coveringCells(BoundingBox box) {
+        int latBits = (PRECISION * 5) / 2;
+        int lngBits = PRECISION * 5 - latBits;
+        double cellHeight = 180.0 / (1L << latBits);
+        double cellWidth = 360.0 / (1L << lngBits);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = box.minLat(); ; lat = Math.min(lat + cellHeight, box.maxLat())) {
+            for (double lng = box.minLng(); ; lng = Math.min(lng + cellWidth, box.maxLng())) {
+                cells.add(encode(lat, lng));
+                if (lng >= box.maxLng()) break;
+            }
+            if (lat >= box.maxLat()) break;
+        }
+        return List.copyOf(cells);
+    }
+
+    /**
+     * 중심 좌표에서 반경(km)을 포함하는 위/경도 사각형을 계산합니다.
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double cos = Math.cos(Math.toRadians(latitude));
+        double deltaLng = cos < 1e-6 ? 180.0 : radiusKm / (KM_PER_DEGREE * cos);
+
+        return new BoundingBox(
+                Math.max(-90.0, latitude - deltaLat),
+                Math.min(90.0, latitude + deltaLat),
+                Math.max(-180.0, longitude - deltaLng),
+                Math.min(180.0, longitude + deltaLng)
+        );
+    }
+
+    public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+    }
+}
@@ -5,6 +5,7 @@ import com.bookbook.booklink.community.group_service.model.Group;
 import com.bookbook.booklink.community.group_service.model.GroupMember;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,4 +29,10 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, UUID>
             where gm.member = :member
             """)
     List<Group> findAllGroupByMember(Member member);
+
+    @Query("""
+            select gm.member.id from GroupMember gm
+            where gm.group.id = :groupId
+            """)
+    List<UUID> findMemberIdsByGroupId(@Param("groupId") UUID groupId);
 }
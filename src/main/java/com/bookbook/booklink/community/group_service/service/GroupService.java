@@ -1,6 +1,9 @@
 package com.bookbook.booklink.community.group_service.service;
 
 import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatMembershipEvent;
+import com.bookbook.booklink.chat_service.chat_mutual.cache.ChatRoomListEvent;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
 import com.bookbook.booklink.chat_service.group.service.GroupChatsService;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
@@ -16,6 +19,7 @@ import com.bookbook.booklink.community.group_service.repository.GroupMemberRepos
 import com.bookbook.booklink.community.group_service.repository.GroupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +37,7 @@ public class GroupService {
     private final GroupMemberRepository groupMemberRepository;
     private final PasswordEncoder passwordEncoder;
     private final GroupChatsService groupChatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 모임을 생성하고 생성자를 해당 모임의 호스트 및 멤버로 등록합니다.
@@ -67,6 +72,7 @@ public class GroupService {
 
         // 단톡 생성
         groupChatsService.createGroupChatRoom(savedGroup);
+        publishRoomListChanged(member.getId());
     }
 
 
@@ -108,7 +114,10 @@ public class GroupService {
         log.info("[GroupService] delete group initiate, groupId={}", groupId);
         Group group = findGroupById(groupId);
         validateHostAuthority(group, member);
+        List<UUID> memberIds = groupMemberRepository.findMemberIdsByGroupId(groupId);
         groupRepository.delete(group);
+        eventPublisher.publishEvent(ChatMembershipEvent.builder().groupId(groupId).build());
+        memberIds.forEach(this::publishRoomListChanged);
 
         log.info("[GroupService] delete group success, groupId={}", groupId);
     }
@@ -146,6 +155,8 @@ public class GroupService {
         GroupMember newGroupMember = GroupMember.addMember(group, member);
         group.addParticipant(); // 참여 인원수 증가
         groupMemberRepository.save(newGroupMember);
+        eventPublisher.publishEvent(ChatMembershipEvent.builder().groupId(groupId).build());
+        publishRoomListChanged(member.getId());
 
         log.info("[GroupService] [userId={}] add participant success, groupId={}", member.getId(), groupId);
     }
@@ -173,6 +184,8 @@ public class GroupService {
 
         groupMemberRepository.delete(participant);
         group.removeParticipant(); // 참여 인원수 감소
+        eventPublisher.publishEvent(ChatMembershipEvent.builder().groupId(groupId).build());
+        publishRoomListChanged(member.getId());
 
         log.info("[GroupService] [userId={}] remove participant success (self-leave), groupId={}", member.getId(), groupId);
     }
@@ -207,6 +220,8 @@ public class GroupService {
 
         groupMemberRepository.delete(participant);
         group.removeParticipant(); // 참여 인원수 감소
+        eventPublisher.publishEvent(ChatMembershipEvent.builder().groupId(groupId).build());
+        publishRoomListChanged(memberToRemove.getId());
 
         log.info("[GroupService] [hostId={}] force remove participant success, groupId={}, targetId={}",
                 host.getId(), groupId, memberToRemove.getId());
@@ -373,4 +388,14 @@ public class GroupService {
             throw new CustomException(ErrorCode.METHOD_UNAUTHORIZED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 그룹 채팅방 목록 캐시를 커밋 후 다시 적재하도록 알립니다.
+     */
+    private void publishRoomListChanged(UUID memberId) {
+        eventPublisher.publishEvent(ChatRoomListEvent.builder()
+                .roomType(RoomType.GROUP)
+                .memberId(memberId)
+                .build());
+    }
+}
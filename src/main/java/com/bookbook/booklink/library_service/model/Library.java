@@ -2,6 +2,7 @@ package com.bookbook.booklink.library_service.model;
 
 import com.bookbook.booklink.auth_service.model.Member;
 import com.bookbook.booklink.book_service.model.LibraryBook;
+import com.bookbook.booklink.common.util.GeoHash;
 import com.bookbook.booklink.library_service.model.dto.request.LibraryRegDto;
 import com.bookbook.booklink.library_service.model.dto.request.LibraryUpdateDto;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -29,6 +30,7 @@ import java.util.UUID;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_library_geohash", columnList = "geohash"))
 public class Library {
 
     @Id
@@ -60,8 +62,9 @@ public class Library {
     @Schema(description = "도서관이 받은 리뷰의 수", example = "10", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer reviewCount = 0;
 
+    // CounterService 의 일괄 UPDATE 로만 갱신 (변경 감지로 덮어쓰지 않음)
     @Min(0)
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     @Schema(description = "도서관이 받은 좋아요의 수", example = "15", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer likeCount = 0;
@@ -94,6 +97,10 @@ public class Library {
     @Schema(description = "도서관 경도", example = "127.027612", requiredMode = Schema.RequiredMode.REQUIRED)
     private Double longitude;
 
+    @Column(length = GeoHash.PRECISION)
+    @Schema(description = "위치 검색용 geohash (위도/경도로부터 저장 시 계산)", example = "wydm9", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String geohash;
+
     @Column(nullable = false)
     @Schema(description = "영업 시작 시간", example = "09:00", requiredMode = Schema.RequiredMode.REQUIRED)
     private LocalTime startTime;
@@ -102,7 +109,8 @@ public class Library {
     @Schema(description = "영업 종료 시간", example = "21:00", requiredMode = Schema.RequiredMode.REQUIRED)
     private LocalTime endTime;
 
-    @OneToOne
+    // 목록 조회 시 도서관마다 회원을 따로 조회하지 않도록 지연 로딩
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false, unique = true)
     private Member member;
 
@@ -131,24 +139,23 @@ public class Library {
         this.endTime = libraryUpdateDto.getEndTime();
     }
 
-    public void addBook() {
-        bookCount++;
-    }
-
     /**
-     * 도서관의 좋아요 수를 1 증가시킵니다.
+     * 위도/경도로부터 geohash 를 다시 계산합니다.
+     * 저장/수정 시 자동으로 호출되며, 기존 데이터 보정에도 사용합니다.
      */
-    public void like() {
-        this.likeCount++;
+    @PrePersist
+    @PreUpdate
+    public void refreshGeohash() {
+        if (latitude != null && longitude != null) {
+            this.geohash = GeoHash.encode(latitude, longitude);
+        }
     }
 
-    /**
-     * 도서관의 좋아요 수를 1 감소시킵니다.
-     * 좋아요 수가 0보다 클 때만 감소시킵니다.
-     */
-    public void unlike() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
+    public void addBook() {
+        bookCount++;
+    }
+
+    public void addBooks(int count) {
+        bookCount += count;
     }
 }
\ No newline at end of file
@@ -17,4 +17,5 @@ public interface LibraryBookListProjection {
     LocalDateTime getExpectedReturnDate();
     Integer getMine();
     String getDescription();
+    LocalDateTime getCreatedAt();
 }
@@ -4,9 +4,14 @@ import com.bookbook.booklink.library_service.model.Library;
 import com.bookbook.booklink.library_service.model.LibraryLikes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +22,10 @@ public interface LibraryLikesRepository extends JpaRepository<LibraryLikes, UUID
 
     Optional<LibraryLikes> findByLibraryAndUserId(Library library, UUID userId);
 
+    @EntityGraph(attributePaths = "library")
     Page<LibraryLikes> findAllByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT ll.library.id FROM LibraryLikes ll WHERE ll.userId = :userId AND ll.library.id IN :libraryIds")
+    List<UUID> findLikedLibraryIds(@Param("userId") UUID userId, @Param("libraryIds") Collection<UUID> libraryIds);
 }
     
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,5 +51,6 @@ public interface LibraryRepository extends JpaRepository<Library, UUID> {
             "WHERE member_id = :userId ",
             nativeQuery = true)
     Optional<Library> findByMemberId(@Param("userId") UUID userId);
+
+    List<Library> findAllByGeohashIsNull();
 }
-    
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.bookbook.booklink.library_service.service;
 import com.bookbook.booklink.auth_service.model.Member;
 import com.bookbook.booklink.book_service.model.LibraryBook;
 import com.bookbook.booklink.book_service.service.LibraryBookService;
+import com.bookbook.booklink.common.counter.CounterService;
+import com.bookbook.booklink.common.counter.CounterType;
 import com.bookbook.booklink.common.dto.PageResponse;
 import com.bookbook.booklink.common.event.LockEvent;
 import com.bookbook.booklink.common.exception.CustomException;
@@ -19,16 +21,20 @@ import com.bookbook.booklink.library_service.repository.LibraryRepository;
 import com.bookbook.booklink.review_service.model.dto.response.ReviewListDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Library 관련 비즈니스 로직 처리 서비스
@@ -45,6 +51,7 @@ public class LibraryService {
     private final LibraryLikesRepository libraryLikesRepository;
     private final IdempotencyService idempotencyService;
     private final LibraryBookService libraryBookService;
+    private final CounterService counterService;
 
     /**
      * 새로운 Library 등록
@@ -150,16 +157,20 @@ public class LibraryService {
 
         Library library = findById(libraryId);
 
-        Boolean isLiked = libraryLikesRepository.existsByLibraryAndUserId(library, userId);
+        Boolean isLiked = findLikedLibraryIds(userId, List.of(libraryId)).contains(libraryId);
 
-        return LibraryDetailDto.fromEntity(library, top5List, top5Review, isLiked);
+        LibraryDetailDto dto = LibraryDetailDto.fromEntity(library, top5List, top5Review, isLiked);
+        applyPendingLikes(List.of(dto));
+        return dto;
     }
 
     @Transactional(readOnly = true)
     public LibraryDetailDto getMyLibrary(Member member) {
         Library library = findByUserId(member.getId());
 
-        return LibraryDetailDto.fromEntity(library);
+        LibraryDetailDto dto = LibraryDetailDto.fromEntity(library);
+        applyPendingLikes(List.of(dto));
+        return dto;
     }
 
     /**
@@ -179,32 +190,37 @@ public class LibraryService {
                 .map(p -> p.getLibrary().getId())
                 .toList();
 
-        List<LibraryBook> allLibraryBooks = libraryBookService.findTop5BooksList(libraryIds);
-
-        Map<UUID, List<LibraryBook>> topBooksMap = allLibraryBooks.stream()
-                .collect(Collectors.groupingBy(
-                        lb -> lb.getLibrary().getId(),
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                list -> list.stream()
-                                        .limit(5)
-                                        .collect(Collectors.toList())
-                        )
-                ));
+        Map<UUID, List<LibraryBook>> topBooksMap = libraryBookService.findTop5BooksMap(libraryIds);
+        Set<UUID> likedLibraryIds = findLikedLibraryIds(userId, libraryIds);
+
         Page<LibraryDetailDto> dtoPage = libraryPage.map(projection -> {
             Library library = projection.getLibrary();
             Double distance = projection.getDistance();
 
             List<LibraryBook> top5List = topBooksMap.getOrDefault(library.getId(), Collections.emptyList());
 
-            Boolean isLiked = libraryLikesRepository.existsByLibraryAndUserId(library, userId);
-
-            return LibraryDetailDto.fromEntity(library, distance, top5List, isLiked);
+            return LibraryDetailDto.fromEntity(library, distance, top5List, likedLibraryIds.contains(library.getId()));
         });
+        applyPendingLikes(dtoPage.getContent());
 
         return PageResponse.from(dtoPage);
     }
 
+    /**
+     * geohash 컬럼 추가 이전에 저장된 도서관의 geohash 를 채워 넣습니다.
+     * 위치 기반 도서 검색이 geohash 격자로 후보를 찾기 때문에, 비어 있으면 검색 결과에서 누락됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillGeohash() {
+        List<Library> libraries = libraryRepository.findAllByGeohashIsNull();
+        libraries.forEach(Library::refreshGeohash);
+
+        if (!libraries.isEmpty()) {
+            log.info("[LibraryService] backfill geohash success, count={}", libraries.size());
+        }
+    }
+
     /**
      * Library 엔티티 DB 저장
      *
@@ -243,8 +259,8 @@ public class LibraryService {
 
         LibraryLikes newLike = LibraryLikes.create(library, member.getId());
 
-        library.like();
         libraryLikesRepository.save(newLike);
+        counterService.increment(CounterType.LIBRARY_LIKE, libraryId, 1);
 
     }
 
@@ -257,8 +273,33 @@ public class LibraryService {
         LibraryLikes existingLike = libraryLikesRepository.findByLibraryAndUserId(library, member.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.LIBRARY_LIKE_NOT_FOUND));
 
-        library.unlike();
         libraryLikesRepository.delete(existingLike);
+        counterService.increment(CounterType.LIBRARY_LIKE, libraryId, -1);
+    }
+
+    /**
+     * 주어진 도서관들 중 사용자가 좋아요를 누른 도서관 ID 를 한 번의 쿼리로 조회합니다.
+     * 목록에 좋아요 여부를 표시할 때 도서관마다 조회하지 않도록 사용합니다.
+     *
+     * @param userId     사용자 ID
+     * @param libraryIds 확인할 도서관 ID 목록
+     * @return 좋아요를 누른 도서관 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> findLikedLibraryIds(UUID userId, Collection<UUID> libraryIds) {
+        if (userId == null || libraryIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(libraryLikesRepository.findLikedLibraryIds(userId, libraryIds));
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 증감분을 응답의 좋아요 수에 합칩니다.
+     */
+    private void applyPendingLikes(List<LibraryDetailDto> dtoList) {
+        Map<UUID, Long> pending = counterService.pendingDeltas(CounterType.LIBRARY_LIKE,
+                dtoList.stream().map(LibraryDetailDto::getId).toList());
+        dtoList.forEach(dto -> dto.setLikeCount(CounterService.merge(dto.getLikeCount(), pending.get(dto.getId()))));
     }
 
     public Page<Library> findLikedLibraries(UUID userId, Pageable pageable) {
@@ -271,7 +312,13 @@ public class LibraryService {
 
         Page<Library> libraryPage = findLikedLibraries(member.getId(), pageable);
 
-        Page<LibraryDetailDto> dtoPage = libraryPage.map(LibraryDetailDto::fromEntity);
+        // 좋아요한 도서관 목록이므로 좋아요 여부는 조회 없이 true
+        Page<LibraryDetailDto> dtoPage = libraryPage.map(library -> {
+            LibraryDetailDto dto = LibraryDetailDto.fromEntity(library);
+            dto.setIsLiked(true);
+            return dto;
+        });
+        applyPendingLikes(dtoPage.getContent());
         return PageResponse.from(dtoPage);
     }
 }
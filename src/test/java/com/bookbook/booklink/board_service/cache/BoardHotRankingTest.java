@@ -0,0 +1,136 @@
+package com.bookbook.booklink.board_service.cache;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.board_service.model.Board;
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import com.bookbook.booklink.board_service.repository.BoardRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 게시글 인기 순위 전체 적재 테스트
+ */
+class BoardHotRankingTest extends IntegrationTestSupport {
+
+    private static final String LOCK_KEY = "board:hot:rebuild-lock";
+    private static final String WEIGHT_KEY = "board:hot:weight";
+    private static final String ALL_KEY = "board:hot:all";
+    private static final String DAILY_KEY = "board:hot:daily";
+
+    @Autowired
+    private BoardHotRanking boardHotRanking;
+
+    @MockitoSpyBean
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(LOCK_KEY);
+    }
+
+    @Test
+    void rebuildLoadsBoardsFromDatabase() {
+        Board board = createBoard();
+
+        boardHotRanking.rebuild();
+
+        String member = board.getId().toString();
+        assertThat(boardHotRanking.isLoaded()).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(ALL_KEY, member)).isNotNull();
+        assertThat(redisTemplate.opsForZSet().score(DAILY_KEY, member)).isNotNull();
+        assertThat(redisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void changesDuringRebuildSurviveSwap() {
+        Board liked = createBoard();
+        Board removed = createBoard();
+        Board commented = createBoard();
+
+        // DB 를 읽은 직후, 교체 전에 변경이 커밋된 상황
+        doAnswer(invocation -> {
+            Object boards = invocation.callRealMethod();
+            boardHotRanking.onHotScoreChanged(scoreEvent(liked, BoardHotRanking.LIKE_POINTS));
+            boardHotRanking.onHotScoreChanged(scoreEvent(commented, BoardHotRanking.COMMENT_POINTS));
+            boardHotRanking.onHotScoreChanged(BoardHotScoreEvent.builder()
+                    .boardId(removed.getId())
+                    .category(removed.getCategory())
+                    .removed(true)
+                    .build());
+            return boards;
+        }).when(boardRepository).findAllForHotRanking();
+        boardHotRanking.rebuild();
+
+        assertThat(weight(liked)).isEqualTo(String.valueOf(BoardHotRanking.LIKE_POINTS));
+        assertThat(weight(commented)).isEqualTo(String.valueOf(BoardHotRanking.COMMENT_POINTS));
+        assertThat(redisTemplate.opsForZSet().score(DAILY_KEY, commented.getId().toString())).isNotNull();
+        assertThat(redisTemplate.opsForZSet().score(ALL_KEY, removed.getId().toString())).isNull();
+        assertThat(weight(removed)).isNull();
+    }
+
+    @Test
+    void rebuildIsSkippedWhileAnotherInstanceHoldsLock() {
+        redisTemplate.opsForValue().set(LOCK_KEY, "other-instance", Duration.ofMinutes(1));
+        Board board = createBoard();
+
+        boardHotRanking.rebuild();
+
+        assertThat(redisTemplate.opsForZSet().score(ALL_KEY, board.getId().toString())).isNull();
+        // 다른 인스턴스의 락은 지우지 않음
+        assertThat(redisTemplate.opsForValue().get(LOCK_KEY)).isEqualTo("other-instance");
+    }
+
+    private String weight(Board board) {
+        Object value = redisTemplate.opsForHash().get(WEIGHT_KEY, board.getId().toString());
+        return value == null ? null : value.toString();
+    }
+
+    private static BoardHotScoreEvent scoreEvent(Board board, long delta) {
+        return BoardHotScoreEvent.builder()
+                .boardId(board.getId())
+                .category(board.getCategory())
+                .createdAt(board.getCreatedAt())
+                .delta(delta)
+                .build();
+    }
+
+    private Board createBoard() {
+        Member writer = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+
+        return boardRepository.save(Board.builder()
+                .writerName(writer.getName())
+                .title("제목")
+                .content("내용")
+                .category(BoardCategory.DAILY)
+                .member(writer)
+                .build());
+    }
+}
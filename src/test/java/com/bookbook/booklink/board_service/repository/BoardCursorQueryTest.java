@@ -0,0 +1,94 @@
+package com.bookbook.booklink.board_service.repository;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.board_service.model.Board;
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import com.bookbook.booklink.board_service.model.dto.response.BoardListProjection;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 커서(keyset) 목록 조회 테스트
+ */
+class BoardCursorQueryTest extends IntegrationTestSupport {
+
+    private static final int BOARD_COUNT = 5;
+    private static final PageRequest PAGE = PageRequest.of(0, 2);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void popularPagesWalkTiedLikeCountsWithoutGaps() {
+        String title = UUID.randomUUID().toString();
+        List<UUID> created = createBoards(title).stream().map(Board::getId).toList();
+
+        // 좋아요 수가 모두 같으므로 id 만으로 다음 페이지가 정해짐
+        List<UUID> walked = new ArrayList<>();
+        List<BoardListProjection> page = boardRepository.findPopularBoardsByCursor(title, null, null, null, PAGE);
+        while (!page.isEmpty()) {
+            page.forEach(board -> walked.add(board.getId()));
+            BoardListProjection last = page.get(page.size() - 1);
+            page = boardRepository.findPopularBoardsByCursor(title, null, last.getLikeCount(), last.getId(), PAGE);
+        }
+
+        assertThat(walked).doesNotHaveDuplicates();
+        assertThat(walked).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    void latestPagesVisitEveryBoardOnce() {
+        String title = UUID.randomUUID().toString();
+        List<UUID> created = createBoards(title).stream().map(Board::getId).toList();
+
+        List<UUID> walked = new ArrayList<>();
+        List<BoardListProjection> page = boardRepository.findLatestBoardsByCursor(title, null, null, null, PAGE);
+        while (!page.isEmpty()) {
+            page.forEach(board -> walked.add(board.getId()));
+            BoardListProjection last = page.get(page.size() - 1);
+            page = boardRepository.findLatestBoardsByCursor(title, null, last.getCreatedAt(), last.getId(), PAGE);
+        }
+
+        assertThat(walked).doesNotHaveDuplicates();
+        assertThat(walked).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    private List<Board> createBoards(String title) {
+        Member writer = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            boards.add(boardRepository.save(Board.builder()
+                    .writerName(writer.getName())
+                    .title(title)
+                    .content("내용")
+                    .category(BoardCategory.DAILY)
+                    .member(writer)
+                    .build()));
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookbook.booklink.board_service.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.board_service.model.Board;
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import com.bookbook.booklink.board_service.repository.BoardRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import com.bookbook.booklink.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 좋아요 쿼리 수 테스트
+ */
+class BoardLikeQueryCountTest extends IntegrationTestSupport {
+
+    private static final int EXISTING_LIKES = 30;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void likeQueryCountDoesNotGrowWithExistingLikes() {
+        UUID boardId = createBoard();
+
+        int first = QueryCounter.count(() -> boardService.likeBoard(boardId, newLiker()));
+        for (int i = 0; i < EXISTING_LIKES; i++) {
+            boardService.likeBoard(boardId, newLiker());
+        }
+        int later = QueryCounter.count(() -> boardService.likeBoard(boardId, newLiker()));
+
+        // 게시글 조회 + INSERT IGNORE, 좋아요 컬렉션은 읽지 않음
+        assertThat(first).isEqualTo(2);
+        assertThat(later).isEqualTo(first);
+    }
+
+    private Member newLiker() {
+        return Member.builder().id(UUID.randomUUID()).build();
+    }
+
+    private UUID createBoard() {
+        Member writer = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+
+        return boardRepository.save(Board.builder()
+                .writerName(writer.getName())
+                .title("제목")
+                .content("내용")
+                .category(BoardCategory.DAILY)
+                .member(writer)
+                .build()).getId();
+    }
+}
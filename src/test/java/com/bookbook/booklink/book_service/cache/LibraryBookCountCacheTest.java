@@ -0,0 +1,68 @@
+package com.bookbook.booklink.book_service.cache;
+
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 개수 캐시 적재 / 증감 테스트
+ */
+class LibraryBookCountCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LibraryBookCountCache libraryBookCountCache;
+
+    @Test
+    void loadedCountIsAdjustedByCommittedChanges() {
+        UUID libraryId = UUID.randomUUID();
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> 10)).isEqualTo(10);
+
+        libraryBookCountCache.onCountChanged(event(libraryId, 1));
+        libraryBookCountCache.onCountChanged(event(libraryId, 1));
+        libraryBookCountCache.onCountChanged(event(libraryId, -1));
+
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> {
+            throw new AssertionError("cached count should be used");
+        })).isEqualTo(11);
+    }
+
+    @Test
+    void countChangedWhileLoadingIsNotCached() {
+        UUID libraryId = UUID.randomUUID();
+
+        // DB 에서 계산하는 사이에 등록이 커밋되어 증감이 먼저 도착한 경우
+        long loaded = libraryBookCountCache.exactCount(libraryId, () -> {
+            libraryBookCountCache.onCountChanged(event(libraryId, 1));
+            return 10;
+        });
+        assertThat(loaded).isEqualTo(10);
+
+        // 계산 값이 증감을 포함했는지 알 수 없으므로 저장하지 않고 다음 조회 때 다시 계산
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> 11)).isEqualTo(11);
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> {
+            throw new AssertionError("cached count should be used");
+        })).isEqualTo(11);
+    }
+
+    @Test
+    void changesBeforeFirstLoadAreNotApplied() {
+        UUID libraryId = UUID.randomUUID();
+
+        // 적재되지 않은 키는 증감하지 않으므로 증감분만 담긴 키가 생기지 않음
+        libraryBookCountCache.onCountChanged(event(libraryId, 1));
+
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> 7)).isEqualTo(7);
+        assertThat(libraryBookCountCache.exactCount(libraryId, () -> 0)).isEqualTo(7);
+    }
+
+    private LibraryBookCountEvent event(UUID libraryId, long delta) {
+        return LibraryBookCountEvent.builder()
+                .libraryId(libraryId)
+                .delta(delta)
+                .build();
+    }
+}
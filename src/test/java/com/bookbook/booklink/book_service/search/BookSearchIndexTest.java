@@ -0,0 +1,67 @@
+package com.bookbook.booklink.book_service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 검색 색인 테스트
+ */
+class BookSearchIndexTest {
+
+    private static final int MAX_QUERY_IDS = 5;
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex(null, null);
+        ReflectionTestUtils.setField(bookSearchIndex, "maxQueryIds", MAX_QUERY_IDS);
+    }
+
+    @Test
+    void matchesIgnoringCaseAndWhitespace() {
+        UUID libraryBookId = addBook("해리 포터와 마법사의 돌", "J.K. Rowling", UUID.randomUUID());
+
+        BookSearchFilter filter = bookSearchIndex.search("해리포터", null);
+
+        assertThat(filter.applied()).isTrue();
+        assertThat(filter.ids()).containsExactly(libraryBookId);
+        assertThat(bookSearchIndex.search("ROWLING", null).ids()).containsExactly(libraryBookId);
+    }
+
+    @Test
+    void filtersByLibrary() {
+        UUID libraryId = UUID.randomUUID();
+        UUID mine = addBook("자바의 정석", "남궁성", libraryId);
+        addBook("자바의 정석", "남궁성", UUID.randomUUID());
+
+        assertThat(bookSearchIndex.search("자바", libraryId).ids()).containsExactly(mine);
+        assertThat(bookSearchIndex.search("파이썬", null).noMatch()).isTrue();
+    }
+
+    @Test
+    void tooManyMatchesFallBackToNormalizedKeyword() {
+        for (int i = 0; i <= MAX_QUERY_IDS; i++) {
+            addBook("데이터 베이스 " + i, "저자", UUID.randomUUID());
+        }
+
+        BookSearchFilter filter = bookSearchIndex.search("  데이터 베이스 ", null);
+
+        // 색인과 같은 도서가 일치하도록 DB 에도 공백을 지운 검색어를 넘김
+        assertThat(filter.applied()).isFalse();
+        assertThat(filter.keyword()).isEqualTo("데이터베이스");
+    }
+
+    private UUID addBook(String title, String author, UUID libraryId) {
+        UUID bookId = UUID.randomUUID();
+        UUID libraryBookId = UUID.randomUUID();
+        bookSearchIndex.indexBook(bookId, title, author);
+        bookSearchIndex.indexLibraryBook(libraryBookId, bookId, libraryId);
+        return libraryBookId;
+    }
+}
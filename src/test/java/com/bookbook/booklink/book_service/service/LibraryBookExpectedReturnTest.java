@@ -0,0 +1,145 @@
+package com.bookbook.booklink.book_service.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.book_service.model.Book;
+import com.bookbook.booklink.book_service.model.BookCategory;
+import com.bookbook.booklink.book_service.model.LibraryBook;
+import com.bookbook.booklink.book_service.model.LibraryBookCopy;
+import com.bookbook.booklink.book_service.repository.BookRepository;
+import com.bookbook.booklink.book_service.repository.LibraryBookRepository;
+import com.bookbook.booklink.library_service.model.Library;
+import com.bookbook.booklink.library_service.repository.LibraryRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서별 가장 빠른 반납 예정일(nextExpectedReturnAt) 갱신 테스트
+ */
+class LibraryBookExpectedReturnTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LibraryBookService libraryBookService;
+
+    @Autowired
+    private LibraryBookRepository libraryBookRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void earliestUpcomingDueDateIsKeptAcrossBorrowAndReturn() {
+        UUID libraryBookId = createLibraryBook(3);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime overdue = now.minusDays(1);
+        LocalDateTime soon = now.plusDays(3);
+        LocalDateTime later = now.plusDays(7);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LibraryBook libraryBook = libraryBookService.getLibraryBookOrThrow(libraryBookId);
+            List<LibraryBookCopy> copies = libraryBook.getCopiesList();
+            libraryBook.borrowCopy(copies.get(0), now.minusDays(8), overdue);
+            libraryBook.borrowCopy(copies.get(1), now, soon);
+            libraryBook.borrowCopy(copies.get(2), now, later);
+            libraryBookService.refreshExpectedReturnDate(libraryBookId);
+        });
+        // 반납 예정일이 지난 도서는 제외
+        assertThat(nextExpectedReturnAt(libraryBookId)).isEqualTo(soon);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LibraryBook libraryBook = libraryBookService.getLibraryBookOrThrow(libraryBookId);
+            LibraryBookCopy returned = libraryBook.getCopiesList().stream()
+                    .filter(c -> soon.equals(c.getDueAt()))
+                    .findFirst()
+                    .orElseThrow();
+            libraryBook.returnCopy(returned);
+            libraryBookService.refreshExpectedReturnDate(libraryBookId);
+        });
+        assertThat(nextExpectedReturnAt(libraryBookId)).isEqualTo(later);
+    }
+
+    @Test
+    void entityFlushDoesNotOverwriteAggregatedColumn() {
+        UUID libraryBookId = createLibraryBook(1);
+        LocalDateTime due = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(5);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LibraryBook libraryBook = libraryBookService.getLibraryBookOrThrow(libraryBookId);
+            libraryBook.borrowCopy(libraryBook.getCopiesList().get(0), LocalDateTime.now(), due);
+            libraryBookService.refreshExpectedReturnDate(libraryBookId);
+            // 집계 이후 같은 트랜잭션에서 엔티티가 다시 변경되어도 컬럼은 유지되어야 함
+            libraryBook.updateDeposit(500);
+        });
+
+        assertThat(nextExpectedReturnAt(libraryBookId)).isEqualTo(due);
+    }
+
+    private LocalDateTime nextExpectedReturnAt(UUID libraryBookId) {
+        return libraryBookRepository.findById(libraryBookId).orElseThrow().getNextExpectedReturnAt();
+    }
+
+    private UUID createLibraryBook(int copies) {
+        Member owner = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+
+        Library library = libraryRepository.save(Library.builder()
+                .name("반납예정" + UUID.randomUUID().toString().substring(0, 8))
+                .description("설명")
+                .latitude(37.5)
+                .longitude(127.0)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(21, 0))
+                .member(owner)
+                .build());
+
+        Book book = bookRepository.save(Book.builder()
+                .title("테스트 도서")
+                .author("저자")
+                .publisher("출판사")
+                .category(BookCategory.LITERATURE)
+                .originalPrice(10000)
+                .publishedDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build());
+
+        LibraryBook libraryBook = LibraryBook.builder()
+                .description("설명")
+                .copies(0)
+                .availableBooks(0)
+                .book(book)
+                .library(library)
+                .build();
+        for (int i = 0; i < copies; i++) {
+            libraryBook.addCopy();
+        }
+        return libraryBookRepository.save(libraryBook).getId();
+    }
+}
@@ -0,0 +1,184 @@
+package com.bookbook.booklink.book_service.service;
+
+import com.bookbook.booklink.book_service.model.dto.response.NationalLibraryResponseDto;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 국립중앙도서관 API 호출 테스트
+ *
+ * <p>JDK HttpServer 로 띄운 스텁 서버를 호출하여 비동기 응답, 응답 지연 시 timeout 과 요청 중단, 동시 호출 상한을 확인합니다.</p>
+ */
+class NationalLibraryServiceTest {
+
+    private static final long READ_TIMEOUT_MS = 200;
+    private static final String BOOK_JSON = """
+            {"TOTAL_COUNT":"1","docs":[{"TITLE":"테스트 도서","AUTHOR":"저자","EA_ISBN":"9788912345678",\
+            "PUBLISHER":"출판사","REAL_PUBLISH_DATE":"20240101"}]}""";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient httpClient;
+    private NationalLibraryService nationalLibraryService;
+
+    // 느린 응답 본문을 보내던 스텁이 클라이언트 연결 종료를 감지하면 내려감
+    private final CountDownLatch clientGone = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, 0));
+        server.createContext("/delayed", exchange -> respond(exchange, READ_TIMEOUT_MS / 2));
+        server.createContext("/slow-body", this::respondSlowly);
+        server.createContext("/hold", exchange -> {
+            await(release);
+            respond(exchange, 0);
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        nationalLibraryService = new NationalLibraryService(JsonMapper.builder().findAndAddModules().build(), httpClient);
+        ReflectionTestUtils.setField(nationalLibraryService, "certKey", "test");
+        ReflectionTestUtils.setField(nationalLibraryService, "readTimeoutMs", READ_TIMEOUT_MS);
+        ReflectionTestUtils.setField(nationalLibraryService, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(nationalLibraryService, "failureThreshold", 5);
+        ReflectionTestUtils.setField(nationalLibraryService, "openDurationMs", 30000L);
+        nationalLibraryService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    @Test
+    void returnsFutureWithoutWaitingForResponse() throws Exception {
+        useEndpoint("/delayed");
+
+        CompletableFuture<NationalLibraryResponseDto> future = search();
+
+        assertThat(future).isNotDone();
+        NationalLibraryResponseDto book = future.get(5, TimeUnit.SECONDS);
+        assertThat(book.getTitle()).isEqualTo("테스트 도서");
+        assertThat(book.getIsbn()).isEqualTo("9788912345678");
+    }
+
+    @Test
+    void slowBodyTimesOutAndCancelsRequest() throws Exception {
+        useEndpoint("/slow-body");
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> search().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2000);
+
+        // 결과 Future 만 끝나는 것이 아니라 진행 중인 본문 읽기도 중단되어 연결이 닫혀야 함
+        assertThat(clientGone.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 동시 호출 허용량이 반환되어 다음 호출이 가능해야 함
+        useEndpoint("/fast");
+        assertThat(search().get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("테스트 도서");
+    }
+
+    @Test
+    void callsOverConcurrencyLimitFailImmediately() throws Exception {
+        useEndpoint("/hold");
+        CompletableFuture<NationalLibraryResponseDto> first = search();
+
+        assertThatThrownBy(() -> search().get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_FALLBACK_FAIL));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("테스트 도서");
+    }
+
+    private CompletableFuture<NationalLibraryResponseDto> search() {
+        return nationalLibraryService.searchBookByIsbnAsync("9788912345678", "trace", UUID.randomUUID());
+    }
+
+    private void useEndpoint(String path) {
+        ReflectionTestUtils.setField(nationalLibraryService, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static void respond(HttpExchange exchange, long delayMs) throws IOException {
+        sleep(delayMs);
+        byte[] body = BOOK_JSON.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * 헤더와 본문 앞부분을 바로 보낸 뒤 공백만 조금씩 보내 read timeout 안에는 본문이 끝나지 않게 합니다.
+     */
+    private void respondSlowly(HttpExchange exchange) {
+        try (exchange) {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write("{\"TOTAL_COUNT\":\"1\",\"docs\":[".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (System.currentTimeMillis() < deadline) {
+                sleep(50);
+                out.write(" ".repeat(1024).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            clientGone.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
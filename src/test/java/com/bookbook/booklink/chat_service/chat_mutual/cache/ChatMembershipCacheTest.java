@@ -0,0 +1,147 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.ChatStatus;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.group.model.GroupChats;
+import com.bookbook.booklink.chat_service.group.repository.GroupChatsRepository;
+import com.bookbook.booklink.chat_service.single.model.SingleChats;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.community.group_service.model.Group;
+import com.bookbook.booklink.community.group_service.model.GroupMember;
+import com.bookbook.booklink.community.group_service.repository.GroupMemberRepository;
+import com.bookbook.booklink.community.group_service.repository.GroupRepository;
+import com.bookbook.booklink.community.group_service.service.GroupService;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import com.bookbook.booklink.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅방 참여자 캐시 적재/무효화 테스트
+ */
+class ChatMembershipCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ChatMembershipCache chatMembershipCache;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private GroupChatsRepository groupChatsRepository;
+
+    @Autowired
+    private SingleChatsRepository singleChatsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void cachedMembersAreServedWithoutQueries() {
+        Member host = createMember();
+        UUID chatId = createGroupChat(host).getId();
+
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chatId, host.getId())).isTrue();
+
+        int queries = QueryCounter.count(() ->
+                assertThat(chatMembershipCache.isMember(RoomType.GROUP, chatId, host.getId())).isTrue());
+        assertThat(queries).isZero();
+    }
+
+    @Test
+    void joinAndLeaveEvictGroupEntryAfterCommit() {
+        Member host = createMember();
+        Member guest = createMember();
+        GroupChats chat = createGroupChat(host);
+        UUID groupId = chat.getGroup().getId();
+
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isFalse();
+
+        groupService.addParticipantToGroup(groupId, null, guest);
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isTrue();
+
+        groupService.removeParticipantFromGroup(groupId, guest);
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isFalse();
+    }
+
+    @Test
+    void invalidationFromOtherInstanceEvictsEntry() {
+        Member host = createMember();
+        Member guest = createMember();
+        GroupChats chat = createGroupChat(host);
+        Group group = chat.getGroup();
+
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isFalse();
+
+        // 이벤트 없이 DB 만 바뀌면 캐시된 참여자 집합이 그대로 사용됨
+        groupMemberRepository.save(GroupMember.addMember(group, guest));
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isFalse();
+
+        chatMembershipCache.onMessage(new DefaultMessage(
+                "chat:membership:invalidate".getBytes(StandardCharsets.UTF_8),
+                ("group:" + group.getId()).getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(chatMembershipCache.isMember(RoomType.GROUP, chat.getId(), guest.getId())).isTrue();
+    }
+
+    @Test
+    void entriesAreKeyedByRoomType() {
+        Member user1 = createMember();
+        Member user2 = createMember();
+        UUID chatId = singleChatsRepository.save(SingleChats.createNormalized(user1.getId(), user2.getId())).getId();
+
+        assertThat(chatMembershipCache.isMember(RoomType.SINGLE, chatId, user1.getId())).isTrue();
+
+        // 1대1 채팅방으로 적재된 항목이 그룹 채팅방 조회에 쓰이면 안 됨
+        assertThatThrownBy(() -> chatMembershipCache.isMember(RoomType.GROUP, chatId, user1.getId()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    }
+
+    private GroupChats createGroupChat(Member host) {
+        Group group = groupRepository.save(Group.builder()
+                .name("모임")
+                .description("설명")
+                .maxCapacity(10)
+                .hostId(host.getId())
+                .hostName(host.getName())
+                .isPrivate(false)
+                .build());
+        groupMemberRepository.save(GroupMember.addMember(group, host));
+        return groupChatsRepository.save(GroupChats.builder()
+                .group(group)
+                .status(ChatStatus.ACTIVE)
+                .build());
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
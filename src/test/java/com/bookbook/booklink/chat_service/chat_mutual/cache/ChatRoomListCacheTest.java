@@ -0,0 +1,152 @@
+package com.bookbook.booklink.chat_service.chat_mutual.cache;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.single.model.SingleChats;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자별 최근 채팅방 목록 캐시 테스트
+ */
+class ChatRoomListCacheTest extends IntegrationTestSupport {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private ChatRoomListCache chatRoomListCache;
+
+    @Autowired
+    private SingleChatsRepository singleChatsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).minusHours(1);
+
+    @Test
+    void listIsLoadedOnceAndServedFromCache() {
+        UUID memberId = UUID.randomUUID();
+        List<Map<String, String>> rooms = List.of(
+                summary(UUID.randomUUID(), base),
+                summary(UUID.randomUUID(), base.plusMinutes(5)));
+        AtomicInteger loads = new AtomicInteger();
+
+        ChatRoomListCache.RoomPage first = page(memberId, counting(loads, rooms));
+        ChatRoomListCache.RoomPage second = page(memberId, counting(loads, rooms));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.totalElements()).isEqualTo(2);
+        assertThat(chatIds(second)).isEqualTo(chatIds(first));
+        // 마지막 메시지 시각 내림차순
+        assertThat(chatIds(second)).containsExactly(
+                ChatRoomListCache.chatId(rooms.get(1)), ChatRoomListCache.chatId(rooms.get(0)));
+    }
+
+    @Test
+    void listReadBeforeEvictionIsNotLoaded() {
+        UUID memberId = UUID.randomUUID();
+        List<Map<String, String>> stale = List.of(summary(UUID.randomUUID(), base));
+        List<Map<String, String>> fresh = List.of(summary(UUID.randomUUID(), base.plusMinutes(1)));
+
+        // DB 에서 목록을 읽은 뒤 적재하기 전에 목록 구성이 바뀌어 지워진 상황
+        ChatRoomListCache.RoomPage racing = page(memberId, () -> {
+            chatRoomListCache.onRoomListChanged(ChatRoomListEvent.builder()
+                    .roomType(RoomType.SINGLE)
+                    .memberId(memberId)
+                    .build());
+            return stale;
+        });
+        assertThat(chatIds(racing)).containsExactly(ChatRoomListCache.chatId(stale.get(0)));
+
+        AtomicInteger loads = new AtomicInteger();
+        ChatRoomListCache.RoomPage next = page(memberId, counting(loads, fresh));
+
+        assertThat(loads).hasValue(1);
+        assertThat(chatIds(next)).containsExactly(ChatRoomListCache.chatId(fresh.get(0)));
+    }
+
+    @Test
+    void activityMovesRoomToTop() {
+        Member me = createMember();
+        UUID olderChat = createChat(me, createMember());
+        UUID newerChat = createChat(me, createMember());
+        List<Map<String, String>> rooms = List.of(
+                summary(olderChat, base),
+                summary(newerChat, base.plusMinutes(5)));
+        page(me.getId(), () -> rooms);
+
+        chatRoomListCache.onActivity(ChatRoomActivityEvent.builder()
+                .roomType(RoomType.SINGLE)
+                .chatId(olderChat)
+                .lastMessage("새 메시지")
+                .sentAt(base.plusMinutes(10))
+                .build());
+
+        ChatRoomListCache.RoomPage page = page(me.getId(), () -> {
+            throw new AssertionError("cached list should be used");
+        });
+        assertThat(chatIds(page)).containsExactly(olderChat, newerChat);
+        assertThat(page.rooms().get(0).get(ChatRoomListCache.LAST_MESSAGE)).isEqualTo("새 메시지");
+    }
+
+    private ChatRoomListCache.RoomPage page(UUID memberId, Supplier<List<Map<String, String>>> allLoader) {
+        Function<List<UUID>, List<Map<String, String>>> summaryLoader = ids -> {
+            throw new AssertionError("summaries should be cached");
+        };
+        return chatRoomListCache.page(RoomType.SINGLE, memberId, FIRST_PAGE, allLoader, summaryLoader);
+    }
+
+    private static Supplier<List<Map<String, String>>> counting(AtomicInteger loads, List<Map<String, String>> rooms) {
+        return () -> {
+            loads.incrementAndGet();
+            return rooms;
+        };
+    }
+
+    private static List<UUID> chatIds(ChatRoomListCache.RoomPage page) {
+        return new ArrayList<>(page.rooms().stream().map(ChatRoomListCache::chatId).toList());
+    }
+
+    private static Map<String, String> summary(UUID chatId, LocalDateTime lastSentAt) {
+        return Map.of(
+                ChatRoomListCache.CHAT_ID, chatId.toString(),
+                ChatRoomListCache.LAST_MESSAGE, "메시지",
+                ChatRoomListCache.LAST_SENT_AT, lastSentAt.toString());
+    }
+
+    private UUID createChat(Member user1, Member user2) {
+        return singleChatsRepository.save(SingleChats.createNormalized(user1.getId(), user2.getId())).getId();
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
@@ -0,0 +1,175 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.HistoryDirection;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageStatus;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageType;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessageSegment;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오래된 채팅 메시지 보관(세그먼트 이동)과 보관 메시지 조회 테스트
+ */
+@TestPropertySource(properties = {
+        "chat-archive.enabled=false",
+        "chat-archive.segment-size=3"
+})
+class ChatArchiveServiceTest extends IntegrationTestSupport {
+
+    private static final int SEGMENT_SIZE = 3;
+
+    @Autowired
+    private ChatArchiveService chatArchiveService;
+
+    @Autowired
+    private ChatMessagesService chatMessagesService;
+
+    @Autowired
+    private ChatMessagesRepository chatMessagesRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    private final LocalDateTime cutoff = now.minusDays(90);
+
+    @Test
+    void oldestMessagesMoveIntoSegments() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> old = send(chatId, 5, now.minusDays(100));
+        List<UUID> recent = send(chatId, 2, now.minusHours(1));
+
+        ChatMessageSegment first = chatArchiveService.archiveNextSegment(chatId, cutoff).orElseThrow();
+        assertThat(first.getMessageCount()).isEqualTo(SEGMENT_SIZE);
+        assertThat(first.getFirstMessageId()).isEqualTo(old.get(0));
+        assertThat(first.getLastMessageId()).isEqualTo(old.get(2));
+        assertThat(first.getPayload().length).isLessThan(first.getRawSize());
+        assertThat(chatMessagesRepository.findAllById(old.subList(0, 3))).isEmpty();
+
+        ChatMessageSegment second = chatArchiveService.archiveNextSegment(chatId, cutoff).orElseThrow();
+        assertThat(second.getMessageCount()).isEqualTo(2);
+        assertThat(chatArchiveService.archiveNextSegment(chatId, cutoff)).isEmpty();
+
+        // 보관 기간이 지나지 않은 메시지는 남음
+        assertThat(chatMessagesRepository.findAllById(old)).isEmpty();
+        assertThat(chatMessagesRepository.findAllById(recent)).hasSize(2);
+    }
+
+    @Test
+    void historyContinuesAcrossArchivedAndLiveMessages() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = new ArrayList<>(send(chatId, 5, now.minusDays(100)));
+        sent.addAll(send(chatId, 3, now.minusHours(1)));
+        archiveAll(chatId);
+
+        List<UUID> backward = new ArrayList<>();
+        ChatHistoryResDto page = history(chatId, null, HistoryDirection.BEFORE, 2);
+        backward.addAll(0, ids(page));
+        while (page.isHasPrev()) {
+            page = history(chatId, page.getPrevCursor(), HistoryDirection.BEFORE, 2);
+            backward.addAll(0, ids(page));
+        }
+        assertThat(backward).containsExactlyElementsOf(sent);
+
+        List<UUID> forward = new ArrayList<>();
+        page = history(chatId, null, HistoryDirection.AFTER, 2);
+        forward.addAll(ids(page));
+        while (page.isHasNext()) {
+            page = history(chatId, page.getNextCursor(), HistoryDirection.AFTER, 2);
+            forward.addAll(ids(page));
+        }
+        assertThat(forward).containsExactlyElementsOf(sent);
+    }
+
+    @Test
+    void anchorFindsArchivedMessage() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = new ArrayList<>(send(chatId, 5, now.minusDays(100)));
+        sent.addAll(send(chatId, 2, now.minusHours(1)));
+        archiveAll(chatId);
+
+        // 세그먼트 경계(3번째/4번째)와 보관/남은 메시지 경계(5번째/6번째)를 함께 걸치는 페이지
+        ChatHistoryReqDto request = new ChatHistoryReqDto();
+        request.setAnchorId(sent.get(3));
+        request.setSize(5);
+        ChatHistoryResDto around = chatMessagesService.findMessageHistory(chatId, request);
+
+        assertThat(ids(around)).containsExactlyElementsOf(sent.subList(1, 6));
+        assertThat(around.isHasPrev()).isTrue();
+        assertThat(around.isHasNext()).isTrue();
+    }
+
+    private void archiveAll(UUID chatId) {
+        Optional<ChatMessageSegment> segment;
+        do {
+            segment = chatArchiveService.archiveNextSegment(chatId, cutoff);
+        } while (segment.isPresent());
+    }
+
+    private ChatHistoryResDto history(UUID chatId, String cursor, HistoryDirection direction, int size) {
+        ChatHistoryReqDto request = new ChatHistoryReqDto();
+        request.setCursor(cursor);
+        request.setDirection(direction);
+        request.setSize(size);
+        return chatMessagesService.findMessageHistory(chatId, request);
+    }
+
+    private static List<UUID> ids(ChatHistoryResDto history) {
+        return history.getMessages().stream().map(MessageResDto::getMessageId).toList();
+    }
+
+    /**
+     * from 부터 1초 간격으로 메시지를 저장하고 ID 를 전송 순서대로 반환합니다.
+     */
+    private List<UUID> send(UUID chatId, int count, LocalDateTime from) {
+        Member sender = createMember();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(chatMessagesRepository.save(ChatMessages.builder()
+                    .id(UUID.randomUUID())
+                    .chatId(chatId)
+                    .sender(sender)
+                    .text("오래된 독서 모임 메시지 " + i)
+                    .status(MessageStatus.SENT)
+                    .type(MessageType.TEXT)
+                    .roomType(RoomType.GROUP)
+                    .sentAt(from.plusSeconds(i))
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
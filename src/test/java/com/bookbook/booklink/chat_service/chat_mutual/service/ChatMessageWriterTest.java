@@ -0,0 +1,158 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.FileAttachmentDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.MessageReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 쓰기 큐 저장 / 재시도 테스트
+ *
+ * <p>첨부파일 테이블에 CHECK 제약을 걸어 특정 파일명의 INSERT 를 실패시키고,
+ * 제약을 풀면 재시도로 저장되는지 확인합니다.</p>
+ */
+// 예약 실행이 끼어들지 않도록 주기를 길게 잡고 직접 flush, 재시도는 바로 실행
+@TestPropertySource(properties = {
+        "chat-write.flush-interval-ms=3600000",
+        "chat-write.retry-backoff-ms=0"
+})
+class ChatMessageWriterTest extends IntegrationTestSupport {
+
+    private static final String BLOCKED_FILE = "blocked.png";
+
+    @Autowired
+    private ChatMessageWriter chatMessageWriter;
+
+    @Autowired
+    private ChatMessagesRepository chatMessagesRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void unblock() {
+        jdbcTemplate.execute("ALTER TABLE message_attachments DROP CONSTRAINT IF EXISTS ck_test_blocked_file");
+        chatMessageWriter.flush();
+    }
+
+    @Test
+    void queuedMessagesAreSavedInBatch() {
+        Member sender = createMember();
+        UUID chatId = UUID.randomUUID();
+        List<ChatMessages> messages = List.of(
+                message(sender, chatId, "photo-1.png"),
+                message(sender, chatId, "photo-2.png"),
+                message(sender, chatId, null));
+        messages.forEach(chatMessageWriter::enqueue);
+
+        assertThat(chatMessageWriter.pending(chatId)).hasSize(3);
+        chatMessageWriter.flush();
+
+        assertThat(chatMessageWriter.pending(chatId)).isEmpty();
+        assertThat(attachmentCount(messages.get(0).getId())).isEqualTo(1);
+        assertThat(attachmentCount(messages.get(1).getId())).isEqualTo(1);
+        assertThat(chatMessagesRepository.existsById(messages.get(2).getId())).isTrue();
+    }
+
+    @Test
+    void messagesWithAttachmentsAreSavedAfterBatchFailure() {
+        Member sender = createMember();
+        UUID chatId = UUID.randomUUID();
+        block();
+
+        ChatMessages blocked = message(sender, chatId, BLOCKED_FILE);
+        ChatMessages first = message(sender, chatId, "photo-1.png");
+        ChatMessages second = message(sender, chatId, "photo-2.png");
+        chatMessageWriter.enqueue(first);
+        chatMessageWriter.enqueue(blocked);
+        chatMessageWriter.enqueue(second);
+
+        // 묶음 저장이 롤백된 뒤 하나씩 다시 저장할 때 첨부파일이 있는 메시지도 저장되어야 함
+        chatMessageWriter.flush();
+
+        assertThat(attachmentCount(first.getId())).isEqualTo(1);
+        assertThat(attachmentCount(second.getId())).isEqualTo(1);
+        assertThat(chatMessagesRepository.existsById(blocked.getId())).isFalse();
+        assertThat(chatMessageWriter.pending(chatId)).extracting(ChatMessages::getId).containsExactly(blocked.getId());
+    }
+
+    @Test
+    void failedMessagesAreSavedOnRetry() {
+        Member sender = createMember();
+        UUID chatId = UUID.randomUUID();
+        block();
+
+        ChatMessages blocked = message(sender, chatId, BLOCKED_FILE);
+        chatMessageWriter.enqueue(blocked);
+        chatMessageWriter.flush();
+        // 재시도도 같은 이유로 실패하면 다시 버퍼에 남음
+        chatMessageWriter.flush();
+        assertThat(chatMessagesRepository.existsById(blocked.getId())).isFalse();
+        assertThat(chatMessageWriter.pending(chatId)).hasSize(1);
+
+        unblockNow();
+        chatMessageWriter.flush();
+
+        assertThat(chatMessageWriter.pending(chatId)).isEmpty();
+        assertThat(attachmentCount(blocked.getId())).isEqualTo(1);
+    }
+
+    private void block() {
+        jdbcTemplate.execute("ALTER TABLE message_attachments ADD CONSTRAINT ck_test_blocked_file "
+                + "CHECK (file_name <> '" + BLOCKED_FILE + "')");
+    }
+
+    private void unblockNow() {
+        jdbcTemplate.execute("ALTER TABLE message_attachments DROP CONSTRAINT ck_test_blocked_file");
+    }
+
+    private int attachmentCount(UUID messageId) {
+        return transactionTemplate.execute(status -> chatMessagesRepository.findById(messageId)
+                .map(message -> message.getAttachments().size())
+                .orElse(0));
+    }
+
+    private ChatMessages message(Member sender, UUID chatId, String fileName) {
+        return ChatMessages.saveSingleRoomMessage(sender, MessageReqDto.builder()
+                .chatId(chatId)
+                .text("메시지")
+                .attachments(fileName == null ? null
+                        : List.of(new FileAttachmentDto(fileName, "https://s3.bucket.com/" + fileName, 2048)))
+                .build());
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
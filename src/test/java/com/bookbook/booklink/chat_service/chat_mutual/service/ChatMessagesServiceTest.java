@@ -0,0 +1,190 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.HistoryDirection;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageStatus;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageType;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.request.ChatHistoryReqDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatHistoryResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.MessageResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.common.exception.CustomException;
+import com.bookbook.booklink.common.exception.ErrorCode;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅 메시지 커서 기반 조회 테스트
+ */
+class ChatMessagesServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ChatMessagesService chatMessagesService;
+
+    @Autowired
+    private ChatMessagesRepository chatMessagesRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).minusHours(1);
+
+    @Test
+    void beforePagesWalkBackFromLatest() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = send(chatId, 7, false);
+
+        ChatHistoryResDto latest = history(chatId, null, HistoryDirection.BEFORE, 3);
+        assertThat(ids(latest)).containsExactlyElementsOf(sent.subList(4, 7));
+        assertThat(latest.isHasPrev()).isTrue();
+        assertThat(latest.isHasNext()).isFalse();
+
+        ChatHistoryResDto middle = history(chatId, latest.getPrevCursor(), HistoryDirection.BEFORE, 3);
+        assertThat(ids(middle)).containsExactlyElementsOf(sent.subList(1, 4));
+        assertThat(middle.isHasNext()).isTrue();
+
+        ChatHistoryResDto oldest = history(chatId, middle.getPrevCursor(), HistoryDirection.BEFORE, 3);
+        assertThat(ids(oldest)).containsExactly(sent.get(0));
+        assertThat(oldest.isHasPrev()).isFalse();
+        assertThat(oldest.getPrevCursor()).isNull();
+    }
+
+    @Test
+    void afterPagesWalkForwardFromOldest() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = send(chatId, 5, false);
+
+        ChatHistoryResDto first = history(chatId, null, HistoryDirection.AFTER, 2);
+        assertThat(ids(first)).containsExactlyElementsOf(sent.subList(0, 2));
+        assertThat(first.isHasPrev()).isFalse();
+
+        List<UUID> walked = new ArrayList<>(ids(first));
+        ChatHistoryResDto page = first;
+        while (page.isHasNext()) {
+            page = history(chatId, page.getNextCursor(), HistoryDirection.AFTER, 2);
+            assertThat(page.isHasPrev()).isTrue();
+            walked.addAll(ids(page));
+        }
+        assertThat(walked).containsExactlyElementsOf(sent);
+    }
+
+    @Test
+    void messagesSentAtSameTimeAreNotSkipped() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = send(chatId, 4, true);
+
+        // 전송 시각이 모두 같으므로 id 로만 다음 페이지가 정해짐
+        List<UUID> walked = new ArrayList<>();
+        ChatHistoryResDto page = history(chatId, null, HistoryDirection.BEFORE, 1);
+        walked.addAll(ids(page));
+        while (page.isHasPrev()) {
+            page = history(chatId, page.getPrevCursor(), HistoryDirection.BEFORE, 1);
+            walked.addAll(ids(page));
+        }
+
+        assertThat(walked).doesNotHaveDuplicates();
+        assertThat(walked).containsExactlyInAnyOrderElementsOf(sent);
+    }
+
+    @Test
+    void anchorReturnsMessagesAroundIt() {
+        UUID chatId = UUID.randomUUID();
+        List<UUID> sent = send(chatId, 9, false);
+
+        ChatHistoryReqDto request = new ChatHistoryReqDto();
+        request.setAnchorId(sent.get(4));
+        request.setSize(5);
+        ChatHistoryResDto around = chatMessagesService.findMessageHistory(chatId, request);
+
+        assertThat(ids(around)).containsExactlyElementsOf(sent.subList(2, 7));
+        assertThat(around.isHasPrev()).isTrue();
+        assertThat(around.isHasNext()).isTrue();
+
+        // 양방향 커서로 이어서 조회
+        assertThat(ids(history(chatId, around.getPrevCursor(), HistoryDirection.BEFORE, 5)))
+                .containsExactlyElementsOf(sent.subList(0, 2));
+        assertThat(ids(history(chatId, around.getNextCursor(), HistoryDirection.AFTER, 5)))
+                .containsExactlyElementsOf(sent.subList(7, 9));
+    }
+
+    @Test
+    void anchorFromOtherRoomIsRejected() {
+        UUID chatId = UUID.randomUUID();
+        UUID otherMessage = send(UUID.randomUUID(), 1, false).get(0);
+
+        ChatHistoryReqDto request = new ChatHistoryReqDto();
+        request.setAnchorId(otherMessage);
+
+        assertThatThrownBy(() -> chatMessagesService.findMessageHistory(chatId, request))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> history(UUID.randomUUID(), "not-a-cursor", HistoryDirection.BEFORE, 3))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+    }
+
+    private ChatHistoryResDto history(UUID chatId, String cursor, HistoryDirection direction, int size) {
+        ChatHistoryReqDto request = new ChatHistoryReqDto();
+        request.setCursor(cursor);
+        request.setDirection(direction);
+        request.setSize(size);
+        return chatMessagesService.findMessageHistory(chatId, request);
+    }
+
+    private static List<UUID> ids(ChatHistoryResDto history) {
+        return history.getMessages().stream().map(MessageResDto::getMessageId).toList();
+    }
+
+    /**
+     * 메시지를 전송 시각 오름차순으로 저장하고 ID 를 같은 순서로 반환합니다.
+     */
+    private List<UUID> send(UUID chatId, int count, boolean sameSentAt) {
+        Member sender = createMember();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(chatMessagesRepository.save(ChatMessages.builder()
+                    .id(UUID.randomUUID())
+                    .chatId(chatId)
+                    .sender(sender)
+                    .text("메시지 " + i)
+                    .status(MessageStatus.SENT)
+                    .type(MessageType.TEXT)
+                    .roomType(RoomType.SINGLE)
+                    .sentAt(sameSentAt ? base : base.plusSeconds(i))
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
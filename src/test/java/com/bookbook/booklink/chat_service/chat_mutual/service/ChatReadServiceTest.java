@@ -0,0 +1,184 @@
+package com.bookbook.booklink.chat_service.chat_mutual.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageStatus;
+import com.bookbook.booklink.chat_service.chat_mutual.code.MessageType;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatMessages;
+import com.bookbook.booklink.chat_service.chat_mutual.model.ChatReadCursor;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.ChatReadResDto;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatMessagesRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.repository.ChatReadCursorRepository;
+import com.bookbook.booklink.chat_service.single.model.SingleChats;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 채팅방 안 읽은 메시지 수와 읽은 위치 테스트
+ */
+@TestPropertySource(properties = "chat-write.flush-interval-ms=3600000")
+class ChatReadServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ChatReadService chatReadService;
+
+    @MockitoSpyBean
+    private ChatMessageWriter chatMessageWriter;
+
+    @Autowired
+    private ChatMessagesRepository chatMessagesRepository;
+
+    @Autowired
+    private ChatReadCursorRepository chatReadCursorRepository;
+
+    @Autowired
+    private SingleChatsRepository singleChatsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void unreadCountsFollowIncrementsAndReads() {
+        Member sender = createMember();
+        Member reader = createMember();
+        UUID chatId = createChat(sender, reader);
+        List<ChatMessages> messages = sendStored(chatId, sender, 3);
+
+        assertThat(chatReadService.unreadCounts(reader.getId(), List.of(chatId))).containsEntry(chatId, 3);
+        assertThat(chatReadService.unreadCounts(sender.getId(), List.of(chatId))).containsEntry(chatId, 0);
+
+        ChatReadResDto first = chatReadService.markRead(chatId, reader.getId(), messages.get(0).getId(), null);
+        assertThat(first.getUnreadCount()).isEqualTo(2);
+        assertThat(chatReadService.unreadCounts(reader.getId(), List.of(chatId))).containsEntry(chatId, 2);
+
+        ChatReadResDto latest = chatReadService.markRead(chatId, reader.getId(), null, null);
+        assertThat(latest.getUnreadCount()).isZero();
+        assertThat(latest.getLastReadMessageId()).isEqualTo(messages.get(2).getId());
+        assertThat(chatReadService.unreadCounts(reader.getId(), List.of(chatId))).containsEntry(chatId, 0);
+    }
+
+    @Test
+    void readPositionDoesNotMoveBackwards() {
+        Member sender = createMember();
+        Member reader = createMember();
+        UUID chatId = createChat(sender, reader);
+        List<ChatMessages> messages = sendStored(chatId, sender, 3);
+
+        chatReadService.markRead(chatId, reader.getId(), messages.get(2).getId(), null);
+        ChatReadResDto stale = chatReadService.markRead(chatId, reader.getId(), messages.get(0).getId(), null);
+
+        assertThat(stale.getLastReadMessageId()).isEqualTo(messages.get(2).getId());
+        assertThat(stale.getUnreadCount()).isZero();
+    }
+
+    @Test
+    void concurrentFirstReadsShareOneCursor() throws Exception {
+        Member sender = createMember();
+        Member reader = createMember();
+        UUID chatId = createChat(sender, reader);
+        List<ChatMessages> messages = sendStored(chatId, sender, 3);
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ChatReadResDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                UUID messageId = messages.get(i % messages.size()).getId();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return chatReadService.markRead(chatId, reader.getId(), messageId, null);
+                }));
+            }
+            start.countDown();
+            for (Future<ChatReadResDto> result : results) {
+                // 유니크 제약 충돌로 실패하는 요청이 없어야 함
+                result.get();
+            }
+        }
+
+        List<ChatReadCursor> cursors = chatReadCursorRepository.findAll().stream()
+                .filter(c -> c.getChatId().equals(chatId) && c.getMemberId().equals(reader.getId()))
+                .toList();
+        assertThat(cursors).hasSize(1);
+        assertThat(cursors.get(0).getLastReadMessageId()).isEqualTo(messages.get(2).getId());
+    }
+
+    @Test
+    void incrementsDuringRecountAreKept() {
+        Member sender = createMember();
+        Member reader = createMember();
+        UUID chatId = createChat(sender, reader);
+        List<ChatMessages> messages = sendStored(chatId, sender, 3);
+
+        // 다시 세는 도중(저장 대기 메시지 조회 직후) 새 메시지가 도착해 카운터가 올라간 상황
+        doAnswer(invocation -> {
+            Object pending = invocation.callRealMethod();
+            chatReadService.incrementUnread(RoomType.SINGLE, chatId, sender.getId());
+            return pending;
+        }).when(chatMessageWriter).pending(chatId);
+
+        ChatReadResDto read = chatReadService.markRead(chatId, reader.getId(), messages.get(2).getId(), null);
+
+        assertThat(read.getUnreadCount()).isEqualTo(1);
+        assertThat(chatReadService.unreadCounts(reader.getId(), List.of(chatId))).containsEntry(chatId, 1);
+    }
+
+    /**
+     * 저장된 메시지를 보내고 받는 사람의 안 읽은 수를 올립니다.
+     */
+    private List<ChatMessages> sendStored(UUID chatId, Member sender, int count) {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).minusMinutes(1);
+        List<ChatMessages> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(chatMessagesRepository.save(ChatMessages.builder()
+                    .id(UUID.randomUUID())
+                    .chatId(chatId)
+                    .sender(sender)
+                    .text("메시지 " + i)
+                    .status(MessageStatus.SENT)
+                    .type(MessageType.TEXT)
+                    .roomType(RoomType.SINGLE)
+                    .sentAt(base.plusSeconds(i))
+                    .build()));
+            chatReadService.incrementUnread(RoomType.SINGLE, chatId, sender.getId());
+        }
+        return messages;
+    }
+
+    private UUID createChat(Member user1, Member user2) {
+        return singleChatsRepository.save(SingleChats.createNormalized(user1.getId(), user2.getId())).getId();
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package com.bookbook.booklink.chat_service.websocket.broker;
+
+import com.bookbook.booklink.BooklinkApplication;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 브로커 전달(chat-broker.mode=REDIS) 통합 테스트
+ *
+ * <p>같은 MariaDB, Redis 를 쓰는 애플리케이션 컨텍스트 두 개(노드 A, B)를 띄우고,
+ * 노드 B 에 WebSocket 으로 구독한 클라이언트가 노드 A 에서 보낸 메시지를 받는지 확인합니다.</p>
+ */
+class RedisBrokerFanoutIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private WebSocketStompClient stompClient;
+    private StompSession session;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @AfterEach
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    void subscriberOnNodeBReceivesMessageSentFromNodeA() throws Exception {
+        String destination = "/sub/chat/" + UUID.randomUUID();
+        BlockingQueue<Map<String, Object>> received = subscribe(nodeB, destination);
+
+        // 구독이 브로커에 등록되기 전에 보낸 메시지는 버려지므로 받을 때까지 다시 보냄
+        Map<String, Object> message = null;
+        for (int attempt = 0; attempt < 20 && message == null; attempt++) {
+            nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(destination, Map.of("text", "hello from A"));
+            message = received.poll(250, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(message).isNotNull();
+        assertThat(message).containsEntry("text", "hello from A");
+    }
+
+    @Test
+    void messageSentOnSameNodeIsDeliveredOnce() throws Exception {
+        String destination = "/sub/chat/" + UUID.randomUUID();
+        BlockingQueue<Map<String, Object>> received = subscribe(nodeB, destination);
+
+        Map<String, Object> message = null;
+        for (int attempt = 0; attempt < 20 && message == null; attempt++) {
+            nodeB.getBean(SimpMessagingTemplate.class).convertAndSend(destination, Map.of("attempt", attempt));
+            message = received.poll(250, TimeUnit.MILLISECONDS);
+        }
+        assertThat(message).isNotNull();
+
+        // Redis 에서 돌아온 자기 메시지는 다시 전달하지 않으므로 같은 시도가 두 번 오지 않음
+        List<Map<String, Object>> all = new ArrayList<>(List.of(message));
+        Thread.sleep(500);
+        received.drainTo(all);
+        List<Object> attempts = all.stream().map(m -> m.get("attempt")).toList();
+        assertThat(attempts).doesNotHaveDuplicates();
+    }
+
+    private BlockingQueue<Map<String, Object>> subscribe(ConfigurableApplicationContext node, String destination)
+            throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        String url = "ws://localhost:" + node.getEnvironment().getProperty("local.server.port") + "/ws/chat";
+        session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+        return received;
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        List<String> args = new ArrayList<>();
+        IntegrationTestSupport.containerProperties().forEach((key, value) -> args.add("--" + key + "=" + value));
+        args.add("--server.port=0");
+        args.add("--chat-broker.mode=REDIS");
+        // 두 노드가 같은 DB 를 쓰므로 먼저 닫히는 노드가 테이블을 지우지 않도록 함
+        args.add("--spring.jpa.hibernate.ddl-auto=update");
+
+        return new SpringApplicationBuilder(BooklinkApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+}
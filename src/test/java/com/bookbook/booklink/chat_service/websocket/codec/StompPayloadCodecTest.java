@@ -0,0 +1,139 @@
+package com.bookbook.booklink.chat_service.websocket.codec;
+
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.PresenceResDto;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 메시지 본문 형식(JSON / CBOR) 협상과 변환 테스트
+ */
+class StompPayloadCodecTest extends IntegrationTestSupport {
+
+    private final ObjectMapper cborMapper = new CBORMapper();
+
+    @Autowired
+    private StompPayloadCodec stompPayloadCodec;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void cborSessionReceivesSamePayloadAsCbor() throws Exception {
+        String sessionId = connect("cbor");
+        PresenceResDto presence = presence();
+        byte[] json = objectMapper.writeValueAsBytes(presence);
+
+        Message<?> sent = stompPayloadCodec.preSend(outbound(sessionId, json), null);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent);
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(accessor.getFirstNativeHeader(StompPayloadCodec.FORMAT_HEADER)).isEqualTo("cbor");
+
+        byte[] cbor = (byte[]) sent.getPayload();
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(cborMapper.readTree(cbor)).isEqualTo(objectMapper.readTree(json));
+        PresenceResDto decoded = cborMapper.readValue(cbor, PresenceResDto.class);
+        assertThat(decoded.getChatId()).isEqualTo(presence.getChatId());
+        assertThat(decoded.getRoomType()).isEqualTo(presence.getRoomType());
+        assertThat(decoded.getOnlineMemberIds()).isEqualTo(presence.getOnlineMemberIds());
+    }
+
+    @Test
+    void sharedPayloadIsTranscodedOnce() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(presence());
+
+        // 브로커는 같은 채팅방 구독자들에게 같은 payload 배열을 보냄
+        Object first = stompPayloadCodec.preSend(outbound(connect("cbor"), json), null).getPayload();
+        Object second = stompPayloadCodec.preSend(outbound(connect("cbor"), json), null).getPayload();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void jsonSessionsAreLeftUntouched() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(presence());
+
+        Message<byte[]> withoutHeader = outbound(connect(null), json);
+        Message<byte[]> unknownFormat = outbound(connect("msgpack"), json);
+
+        assertThat(stompPayloadCodec.preSend(withoutHeader, null)).isSameAs(withoutHeader);
+        assertThat(stompPayloadCodec.preSend(unknownFormat, null)).isSameAs(unknownFormat);
+    }
+
+    @Test
+    void disconnectedSessionFallsBackToJson() throws Exception {
+        String sessionId = connect("cbor");
+        stompPayloadCodec.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders()),
+                sessionId, CloseStatus.NORMAL));
+
+        Message<byte[]> message = outbound(sessionId, objectMapper.writeValueAsBytes(presence()));
+        assertThat(stompPayloadCodec.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void inboundCborIsReadByConverter() throws Exception {
+        Map<String, Object> body = Map.of("chatId", UUID.randomUUID().toString(), "text", "안녕하세요");
+        MessageConverter converter = stompPayloadCodec.cborMessageConverter();
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(StompPayloadCodec.CBOR_MIME_TYPE);
+        Message<byte[]> cbor = MessageBuilder.createMessage(cborMapper.writeValueAsBytes(body), accessor.getMessageHeaders());
+
+        assertThat(converter.fromMessage(cbor, Map.class)).isEqualTo(body);
+
+        // JSON 메시지는 기본 변환기에 맡김
+        SimpMessageHeaderAccessor jsonAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        jsonAccessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        Message<byte[]> json = MessageBuilder.createMessage(objectMapper.writeValueAsBytes(body), jsonAccessor.getMessageHeaders());
+        assertThat(converter.fromMessage(json, Map.class)).isNull();
+    }
+
+    private String connect(String format) {
+        String sessionId = UUID.randomUUID().toString();
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (format != null) {
+            accessor.setNativeHeader(StompPayloadCodec.FORMAT_HEADER, format);
+        }
+        stompPayloadCodec.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+        return sessionId;
+    }
+
+    private static Message<byte[]> outbound(String sessionId, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setContentType(new MimeType(MimeTypeUtils.APPLICATION_JSON, Map.of("charset", "UTF-8")));
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+
+    private static PresenceResDto presence() {
+        return PresenceResDto.builder()
+                .chatId(UUID.randomUUID())
+                .roomType(RoomType.GROUP)
+                .onlineMemberIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .typingMemberIds(List.of())
+                .build();
+    }
+}
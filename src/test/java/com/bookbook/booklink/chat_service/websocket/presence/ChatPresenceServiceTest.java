@@ -0,0 +1,167 @@
+package com.bookbook.booklink.chat_service.websocket.presence;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.chat_service.chat_mutual.code.RoomType;
+import com.bookbook.booklink.chat_service.chat_mutual.model.dto.response.PresenceResDto;
+import com.bookbook.booklink.chat_service.single.model.SingleChats;
+import com.bookbook.booklink.chat_service.single.repository.SingleChatsRepository;
+import com.bookbook.booklink.common.jwt.CustomUserDetail.CustomUserDetails;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅방 접속/입력 중 상태 기록과 만료 테스트
+ */
+@TestPropertySource(properties = {
+        "chat-presence.refresh-interval-ms=3600000",
+        "chat-presence.flush-interval-ms=3600000",
+        "chat-presence.typing-ttl-ms=300"
+})
+class ChatPresenceServiceTest extends IntegrationTestSupport {
+
+    private static final String DEAD_NODE = "stopped-instance";
+
+    @Autowired
+    private ChatPresenceService chatPresenceService;
+
+    @MockitoSpyBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private SingleChatsRepository singleChatsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void subscribeAndDisconnectAreBroadcast() {
+        Member me = createMember();
+        UUID chatId = createChat(me, createMember());
+        String sessionId = UUID.randomUUID().toString();
+
+        subscribe(sessionId, me, chatId);
+        assertThat(flush(chatId).getOnlineMemberIds()).containsExactly(me.getId());
+
+        chatPresenceService.onDisconnect(new SessionDisconnectEvent(this,
+                message(StompCommand.DISCONNECT, sessionId, null), sessionId, CloseStatus.NORMAL, user(me)));
+        assertThat(flush(chatId).getOnlineMemberIds()).isEmpty();
+        assertThat(redisTemplate.opsForZSet().zCard(presenceKey(chatId))).isZero();
+    }
+
+    @Test
+    void entriesOfStoppedInstanceExpire() {
+        Member me = createMember();
+        Member other = createMember();
+        Member gone = createMember();
+        UUID chatId = createChat(me, other);
+        subscribe(UUID.randomUUID().toString(), me, chatId);
+        flush(chatId);
+
+        // 다른 인스턴스 항목: 하나는 아직 갱신 중, 하나는 인스턴스가 멈춰 만료 시각이 지남
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(presenceKey(chatId), other.getId() + "|live-instance", now + 60_000);
+        redisTemplate.opsForZSet().add(presenceKey(chatId), gone.getId() + "|" + DEAD_NODE, now - 1);
+
+        chatPresenceService.refresh();
+
+        assertThat(redisTemplate.opsForZSet().score(presenceKey(chatId), gone.getId() + "|" + DEAD_NODE)).isNull();
+        assertThat(flush(chatId).getOnlineMemberIds()).containsExactlyInAnyOrder(me.getId(), other.getId());
+    }
+
+    @Test
+    void typingExpiresWithoutStopSignal() throws InterruptedException {
+        Member me = createMember();
+        UUID chatId = createChat(me, createMember());
+
+        chatPresenceService.typing(RoomType.SINGLE, chatId, me.getId(), true);
+        assertThat(flush(chatId).getTypingMemberIds()).containsExactly(me.getId());
+
+        // 입력 중지 신호 없이 typing-ttl-ms 가 지나면 빈 상태를 다시 알림
+        Thread.sleep(400);
+        assertThat(flush(chatId).getTypingMemberIds()).isEmpty();
+
+        clearInvocations(messagingTemplate);
+        chatPresenceService.flush();
+        verify(messagingTemplate, never()).convertAndSend(eq(topic(chatId)), any(Object.class));
+    }
+
+    private PresenceResDto flush(UUID chatId) {
+        clearInvocations(messagingTemplate);
+        chatPresenceService.flush();
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(topic(chatId)), captor.capture());
+        return (PresenceResDto) captor.getValue();
+    }
+
+    private void subscribe(String sessionId, Member member, UUID chatId) {
+        chatPresenceService.onSubscribe(new SessionSubscribeEvent(this,
+                message(StompCommand.SUBSCRIBE, sessionId, "/sub/chat/" + chatId), user(member)));
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static CustomUserDetails user(Member member) {
+        return new CustomUserDetails(member);
+    }
+
+    private static String topic(UUID chatId) {
+        return "/sub/chat/" + chatId + "/presence";
+    }
+
+    private static String presenceKey(UUID chatId) {
+        return "chat:presence:single:" + chatId;
+    }
+
+    private UUID createChat(Member user1, Member user2) {
+        return singleChatsRepository.save(SingleChats.createNormalized(user1.getId(), user2.getId())).getId();
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+    }
+}
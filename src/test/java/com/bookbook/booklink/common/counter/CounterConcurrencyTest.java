@@ -0,0 +1,227 @@
+package com.bookbook.booklink.common.counter;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.board_service.model.Board;
+import com.bookbook.booklink.board_service.model.BoardCategory;
+import com.bookbook.booklink.board_service.repository.BoardRepository;
+import com.bookbook.booklink.board_service.service.BoardService;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수 카운터 동시성 테스트
+ *
+ * <p>좋아요는 게시글 행을 갱신하지 않으므로 동시에 몰려도 InnoDB 행 잠금 대기가 생기지 않아야 하고,
+ * 반영은 락을 가진 인스턴스만, 같은 묶음은 한 번만 DB 에 더해야 합니다.</p>
+ */
+// 예약 실행이 테스트 도중 끼어들지 않도록 반영 주기를 길게 잡고 직접 반영
+@TestPropertySource(properties = "counter.flush-interval-ms=3600000")
+class CounterConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int LIKES = 50;
+    private static final int PARALLEL_LIKES = 400;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CounterFlushScheduler counterFlushScheduler;
+
+    @Autowired
+    private CounterService counterService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelLikesAreAllCountedAfterFlush() throws Exception {
+        UUID boardId = createBoard();
+        long lockWaitsBefore = rowLockWaits();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> likes = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_LIKES; i++) {
+            Member liker = Member.builder().id(UUID.randomUUID()).build();
+            likes.add(executor.submit(() -> {
+                start.await();
+                boardService.likeBoard(boardId, liker);
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> like : likes) {
+            like.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 게시글 행을 잠그는 UPDATE 가 없으므로 같은 게시글에 몰린 좋아요끼리 기다리지 않음
+        assertThat(rowLockWaits() - lockWaitsBefore).isZero();
+        assertThat(elapsedMs).isLessThan(15_000);
+
+        counterFlushScheduler.flush();
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getLikeCount()).isEqualTo(PARALLEL_LIKES);
+    }
+
+    @Test
+    void batchLeftAfterAppliedFlushIsNotAppliedTwice() {
+        UUID boardId = createBoard();
+        for (int i = 0; i < LIKES; i++) {
+            boardService.likeBoard(boardId, Member.builder().id(UUID.randomUUID()).build());
+        }
+        counterFlushScheduler.flush();
+
+        // DB 반영은 커밋됐지만 반영용 키 삭제에 실패한 상태를 재현
+        String batchId = UUID.randomUUID().toString();
+        counterService.applyBatch(CounterType.BOARD_LIKE, batchId, Map.of(boardId, 5L));
+        redisTemplate.opsForHash().put(CounterService.flushingKey(CounterType.BOARD_LIKE), boardId.toString(), "5");
+        redisTemplate.opsForValue().set(CounterService.batchKey(CounterType.BOARD_LIKE), batchId);
+
+        counterFlushScheduler.flush();
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getLikeCount()).isEqualTo(LIKES + 5);
+        assertThat(redisTemplate.hasKey(CounterService.flushingKey(CounterType.BOARD_LIKE))).isFalse();
+        assertThat(counterService.pendingDelta(CounterType.BOARD_LIKE, boardId)).isZero();
+    }
+
+    @Test
+    void flushIsSkippedWhileAnotherInstanceHoldsLock() {
+        UUID boardId = createBoard();
+        boardService.likeBoard(boardId, Member.builder().id(UUID.randomUUID()).build());
+
+        String lockKey = CounterFlushScheduler.lockKey(CounterType.BOARD_LIKE);
+        redisTemplate.opsForValue().set(lockKey, "other-instance", Duration.ofMinutes(1));
+        try {
+            counterFlushScheduler.flush();
+
+            // 다른 인스턴스의 락은 지우지 않고, 반영도 하지 않음
+            assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-instance");
+            assertThat(boardRepository.findById(boardId).orElseThrow().getLikeCount()).isZero();
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+
+        counterFlushScheduler.flush();
+        assertThat(boardRepository.findById(boardId).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unrecordedDeltasAreAppliedOnNextFlush() {
+        UUID boardId = createBoard();
+
+        // 커밋 후 HINCRBY 가 실패해 메모리에 남은 증감분
+        counterService.restoreUnrecorded(CounterType.BOARD_LIKE, Map.of(boardId, 3L));
+        counterFlushScheduler.flush();
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getLikeCount()).isEqualTo(3);
+        assertThat(counterService.drainUnrecorded(CounterType.BOARD_LIKE)).isEmpty();
+    }
+
+    @Test
+    void staleEntityFlushDoesNotOverwriteFlushedLikes() throws Exception {
+        UUID boardId = createBoard();
+        for (int i = 0; i < LIKES; i++) {
+            boardService.likeBoard(boardId, Member.builder().id(UUID.randomUUID()).build());
+        }
+
+        // 좋아요 반영 전에 읽은 게시글을 반영 후에 수정 (댓글 수 변경) → 변경 감지 UPDATE 가 좋아요 수를 덮어쓰면 안 됨
+        transactionTemplate.executeWithoutResult(status -> {
+            Board stale = boardRepository.findById(boardId).orElseThrow();
+            assertThat(stale.getLikeCount()).isZero();
+            try {
+                executor.submit(() -> counterFlushScheduler.flush()).get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+            stale.comment();
+        });
+
+        Board board = boardRepository.findById(boardId).orElseThrow();
+        assertThat(board.getLikeCount()).isEqualTo(LIKES);
+        assertThat(board.getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void staleEntityFlushDoesNotOverwriteFlushedViews() throws Exception {
+        UUID boardId = createBoard();
+        for (int i = 0; i < LIKES; i++) {
+            boardService.getBoard(boardId, UUID.randomUUID());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Board stale = boardRepository.findById(boardId).orElseThrow();
+            try {
+                executor.submit(() -> counterFlushScheduler.flush()).get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+            stale.comment();
+        });
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getViewCount()).isEqualTo(LIKES);
+    }
+
+    private long rowLockWaits() {
+        return jdbcTemplate.queryForObject("SELECT VARIABLE_VALUE FROM information_schema.GLOBAL_STATUS "
+                + "WHERE VARIABLE_NAME = 'INNODB_ROW_LOCK_WAITS'", Long.class);
+    }
+
+    private UUID createBoard() {
+        Member writer = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password1234")
+                .name("테스터")
+                .nickname("테스터")
+                .provider(Provider.LOCAL)
+                .role(Role.CUSTOMER)
+                .status(Status.ACTIVE)
+                .build());
+
+        return boardRepository.save(Board.builder()
+                .writerName(writer.getName())
+                .title("제목")
+                .content("내용")
+                .category(BoardCategory.DAILY)
+                .member(writer)
+                .build()).getId();
+    }
+}
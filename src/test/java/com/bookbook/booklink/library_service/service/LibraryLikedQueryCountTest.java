@@ -0,0 +1,115 @@
+package com.bookbook.booklink.library_service.service;
+
+import com.bookbook.booklink.auth_service.code.Provider;
+import com.bookbook.booklink.auth_service.code.Role;
+import com.bookbook.booklink.auth_service.code.Status;
+import com.bookbook.booklink.auth_service.model.Member;
+import com.bookbook.booklink.auth_service.repository.MemberRepository;
+import com.bookbook.booklink.common.dto.PageResponse;
+import com.bookbook.booklink.library_service.model.Library;
+import com.bookbook.booklink.library_service.model.LibraryLikes;
+import com.bookbook.booklink.library_service.model.dto.response.LibraryDetailDto;
+import com.bookbook.booklink.library_service.repository.LibraryLikesRepository;
+import com.bookbook.booklink.library_service.repository.LibraryRepository;
+import com.bookbook.booklink.support.IntegrationTestSupport;
+import com.bookbook.booklink.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서관 목록 좋아요 여부 조회 쿼리 수 테스트
+ */
+class LibraryLikedQueryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LibraryService libraryService;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private LibraryLikesRepository libraryLikesRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void likedLibraryIdsAreFoundWithOneQuery() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> libraryIds = createLibraries(uniqueName(), 20).stream().map(Library::getId).toList();
+        Set<UUID> liked = Set.of(libraryIds.get(0), libraryIds.get(7), libraryIds.get(19));
+        liked.forEach(id -> like(id, userId));
+
+        AtomicReference<Set<UUID>> found = new AtomicReference<>();
+        int queries = QueryCounter.count(() -> found.set(libraryService.findLikedLibraryIds(userId, libraryIds)));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(found.get()).isEqualTo(liked);
+    }
+
+    @Test
+    void libraryListQueryCountDoesNotGrowWithPageSize() {
+        UUID userId = UUID.randomUUID();
+        String small = uniqueName();
+        String large = uniqueName();
+        createLibraries(small, 5).forEach(library -> like(library.getId(), userId));
+        createLibraries(large, 20).forEach(library -> like(library.getId(), userId));
+
+        // 두 경우 모두 한 페이지에 다 들어오도록 해 count 쿼리 실행 여부를 맞춤
+        PageRequest page = PageRequest.of(0, 50);
+        AtomicReference<PageResponse<LibraryDetailDto>> smallPage = new AtomicReference<>();
+        AtomicReference<PageResponse<LibraryDetailDto>> largePage = new AtomicReference<>();
+        int smallQueries = QueryCounter.count(() ->
+                smallPage.set(libraryService.getLibraries(userId, 37.5, 127.0, small, page)));
+        int largeQueries = QueryCounter.count(() ->
+                largePage.set(libraryService.getLibraries(userId, 37.5, 127.0, large, page)));
+
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(smallPage.get().getContent()).hasSize(5).allMatch(LibraryDetailDto::getIsLiked);
+        assertThat(largePage.get().getContent()).hasSize(20).allMatch(LibraryDetailDto::getIsLiked);
+    }
+
+    private void like(UUID libraryId, UUID userId) {
+        libraryLikesRepository.save(LibraryLikes.create(libraryRepository.getReferenceById(libraryId), userId));
+    }
+
+    private String uniqueName() {
+        return "qc" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private List<Library> createLibraries(String name, int count) {
+        List<Library> libraries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member owner = memberRepository.save(Member.builder()
+                    .email(UUID.randomUUID() + "@test.com")
+                    .password("password1234")
+                    .name("테스터")
+                    .nickname("테스터")
+                    .provider(Provider.LOCAL)
+                    .role(Role.CUSTOMER)
+                    .status(Status.ACTIVE)
+                    .build());
+
+            libraries.add(libraryRepository.save(Library.builder()
+                    .name(name + "-" + i)
+                    .description("설명")
+                    .latitude(37.5 + i * 0.001)
+                    .longitude(127.0)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(21, 0))
+                    .member(owner)
+                    .build()));
+        }
+        return libraries;
+    }
+}
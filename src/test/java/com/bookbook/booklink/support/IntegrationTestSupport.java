@@ -0,0 +1,46 @@
+package com.bookbook.booklink.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MariaDBContainer;
+
+import java.util.Map;
+
+/**
+ * MariaDB, Redis 컨테이너를 띄워 애플리케이션 컨텍스트 전체로 실행하는 통합 테스트 기반 클래스
+ *
+ * <p>컨테이너는 테스트 JVM 에서 한 번만 띄우고 모든 테스트 클래스가 함께 사용합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static {
+        MARIADB.start();
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void registerContainers(DynamicPropertyRegistry registry) {
+        containerProperties().forEach((key, value) -> registry.add(key, () -> value));
+    }
+
+    /**
+     * 컨테이너 접속 정보 (SpringApplicationBuilder 로 직접 띄우는 컨텍스트에도 사용)
+     */
+    public static Map<String, Object> containerProperties() {
+        return Map.of(
+                "spring.datasource.url", MARIADB.getJdbcUrl(),
+                "spring.datasource.username", MARIADB.getUsername(),
+                "spring.datasource.password", MARIADB.getPassword(),
+                "spring.data.redis.host", REDIS.getHost(),
+                "spring.data.redis.port", REDIS.getMappedPort(6379)
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.bookbook.booklink.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수를 셉니다.
+ *
+ * <p>application-test.yml 의 hibernate.session_factory.statement_inspector 로 등록되며,
+ * 다른 스레드(스케줄러 등)의 쿼리는 세지 않으므로 측정 중 예약 작업이 끼어들어도 값이 흔들리지 않습니다.</p>
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = new ThreadLocal<>();
+
+    /**
+     * action 을 실행하는 동안 이 스레드에서 실행된 SQL 수를 반환합니다.
+     */
+    public static int count(Runnable action) {
+        COUNT.set(0);
+        try {
+            action.run();
+            return COUNT.get();
+        } finally {
+            COUNT.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Integer count = COUNT.get();
+        if (count != null) {
+            COUNT.set(count + 1);
+        }
+        return sql;
+    }
+}